@@ -0,0 +1,170 @@
+package com.stayease.availability;
+
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.projection.BedSlotView;
+import com.stayease.repository.projection.BookedStayView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-property availability snapshots, rebuilt from the database on every committed property change
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BedAvailabilityIndexer {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final List<BookingStatus> ACTIVE_STATUSES = Arrays.asList(
+        BookingStatus.PENDING,
+        BookingStatus.CONFIRMED,
+        BookingStatus.CHECKED_IN
+    );
+
+    private final BedRepository bedRepository;
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, PropertyAvailability> properties = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        int bedCount = 0;
+        int stayCount = 0;
+        try {
+            Map<Long, List<BedSlotView>> slotsByProperty = new HashMap<>();
+            Long id = 0L;
+            List<BedSlotView> slots;
+            do {
+                slots = bedRepository.findSlotsAfter(id, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (BedSlotView slot : slots) {
+                    slotsByProperty.computeIfAbsent(slot.getPropertyId(), key -> new ArrayList<>()).add(slot);
+                }
+                if (!slots.isEmpty()) {
+                    id = slots.get(slots.size() - 1).getId();
+                    bedCount += slots.size();
+                }
+            } while (slots.size() == LOAD_BATCH_SIZE);
+
+            Map<Long, List<BookedStayView>> staysByBed = new HashMap<>();
+            id = 0L;
+            List<BookedStayView> stays;
+            do {
+                stays = bookingRepository.findStaysAfter(ACTIVE_STATUSES, id, PageRequest.of(0, LOAD_BATCH_SIZE));
+                groupByBed(staysByBed, stays);
+                if (!stays.isEmpty()) {
+                    id = stays.get(stays.size() - 1).getId();
+                    stayCount += stays.size();
+                }
+            } while (stays.size() == LOAD_BATCH_SIZE);
+
+            Map<Long, PropertyAvailability> fresh = new HashMap<>();
+            slotsByProperty.forEach((propertyId, propertySlots) ->
+                fresh.put(propertyId, build(propertyId, propertySlots, staysByBed)));
+            properties.keySet().retainAll(fresh.keySet());
+            properties.putAll(fresh);
+            ready = true;
+        } finally {
+            rebuilding = false;
+        }
+
+        // Changes committed while the snapshot was being read may be missing from it
+        for (Long propertyId : changedDuringRebuild) {
+            refresh(propertyId);
+        }
+        changedDuringRebuild.clear();
+
+        log.info("Bed availability index built with {} beds and {} booked stays in {} ms",
+            bedCount, stayCount, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.getKind() == PropertyChangedEvent.Kind.RATING) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getPropertyId());
+        }
+        refresh(event.getPropertyId());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Null when the property has no beds; read from the database until the first build completes
+    public PropertyAvailability forProperty(Long propertyId) {
+        return ready ? properties.get(propertyId) : load(propertyId);
+    }
+
+    private void refresh(Long propertyId) {
+        PropertyAvailability availability = load(propertyId);
+        if (availability == null) {
+            properties.remove(propertyId);
+        } else {
+            properties.put(propertyId, availability);
+        }
+    }
+
+    private PropertyAvailability load(Long propertyId) {
+        List<BedSlotView> slots = bedRepository.findSlotsByPropertyId(propertyId);
+        if (slots.isEmpty()) {
+            return null;
+        }
+        Map<Long, List<BookedStayView>> staysByBed = new HashMap<>();
+        groupByBed(staysByBed, bookingRepository.findStaysByPropertyId(propertyId, ACTIVE_STATUSES));
+        return build(propertyId, slots, staysByBed);
+    }
+
+    private static void groupByBed(Map<Long, List<BookedStayView>> target, List<BookedStayView> stays) {
+        for (BookedStayView stay : stays) {
+            target.computeIfAbsent(stay.getBedId(), key -> new ArrayList<>()).add(stay);
+        }
+    }
+
+    private static PropertyAvailability build(Long propertyId, List<BedSlotView> slots,
+                                              Map<Long, List<BookedStayView>> staysByBed) {
+        List<BedTimeline> beds = new ArrayList<>(slots.size());
+        for (BedSlotView slot : slots) {
+            List<BookedStayView> stays = staysByBed.getOrDefault(slot.getId(), List.of());
+            int[] starts = new int[stays.size()];
+            int[] ends = new int[stays.size()];
+            for (int i = 0; i < stays.size(); i++) {
+                starts[i] = BedTimeline.toDay(stays.get(i).getCheckInDate());
+                ends[i] = BedTimeline.toDay(stays.get(i).getCheckOutDate());
+            }
+            boolean blocked = slot.getStatus() == BedStatus.MAINTENANCE || Boolean.FALSE.equals(slot.getRoomActive());
+            beds.add(BedTimeline.of(slot.getId(), slot.getRoomId(), slot.getRoomNumber(), slot.getBedNumber(),
+                blocked, starts, ends, stays.size()));
+        }
+        return new PropertyAvailability(propertyId, beds);
+    }
+}
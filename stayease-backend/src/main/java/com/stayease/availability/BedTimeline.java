@@ -0,0 +1,129 @@
+package com.stayease.availability;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// Booked stays of one bed as sorted, merged [start, end) epoch-day intervals
+public final class BedTimeline {
+
+    public static final int OPEN_END = Integer.MAX_VALUE;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Long bedId;
+    private final Long roomId;
+    private final String roomNumber;
+    private final String bedNumber;
+    private final boolean blocked;
+    private final int[] starts;
+    private final int[] ends;
+
+    private BedTimeline(Long bedId, Long roomId, String roomNumber, String bedNumber, boolean blocked,
+                        int[] starts, int[] ends) {
+        this.bedId = bedId;
+        this.roomId = roomId;
+        this.roomNumber = roomNumber;
+        this.bedNumber = bedNumber;
+        this.blocked = blocked;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    // The arrays may be unsorted and overlapping, and are not retained
+    public static BedTimeline of(Long bedId, Long roomId, String roomNumber, String bedNumber, boolean blocked,
+                                 int[] starts, int[] ends, int count) {
+        if (count == 0) {
+            return new BedTimeline(bedId, roomId, roomNumber, bedNumber, blocked, EMPTY, EMPTY);
+        }
+
+        // Epoch days of real stays are non-negative, so (start, end) packs into a long that sorts by start
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            packed[i] = ((long) starts[i] << 32) | (ends[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+
+        int[] mergedStarts = new int[count];
+        int[] mergedEnds = new int[count];
+        int size = 0;
+        for (long interval : packed) {
+            int start = (int) (interval >>> 32);
+            int end = (int) interval;
+            if (end <= start) {
+                continue;
+            }
+            if (size > 0 && start <= mergedEnds[size - 1]) {
+                mergedEnds[size - 1] = Math.max(mergedEnds[size - 1], end);
+            } else {
+                mergedStarts[size] = start;
+                mergedEnds[size] = end;
+                size++;
+            }
+        }
+        return new BedTimeline(bedId, roomId, roomNumber, bedNumber, blocked,
+            Arrays.copyOf(mergedStarts, size), Arrays.copyOf(mergedEnds, size));
+    }
+
+    public static int toDay(LocalDate date) {
+        return date == null ? OPEN_END : (int) date.toEpochDay();
+    }
+
+    public static LocalDate toDate(int day) {
+        return day == OPEN_END ? null : LocalDate.ofEpochDay(day);
+    }
+
+    public boolean isFree(int from, int to) {
+        if (blocked) {
+            return false;
+        }
+        int i = firstEndingAfter(from);
+        return i == ends.length || starts[i] >= to;
+    }
+
+    // Index of the first stay that ends after day
+    public int firstEndingAfter(int day) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public int startAt(int i) {
+        return starts[i];
+    }
+
+    public int endAt(int i) {
+        return ends[i];
+    }
+
+    public Long getBedId() {
+        return bedId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public String getBedNumber() {
+        return bedNumber;
+    }
+
+    public boolean isBlocked() {
+        return blocked;
+    }
+}
@@ -0,0 +1,72 @@
+package com.stayease.availability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Immutable availability snapshot of one property's beds, ordered by room and bed number
+public final class PropertyAvailability {
+
+    private static final Comparator<BedTimeline> BED_ORDER = Comparator
+        .comparing(BedTimeline::getRoomNumber)
+        .thenComparing(BedTimeline::getBedNumber)
+        .thenComparing(BedTimeline::getBedId);
+
+    private final Long propertyId;
+    private final List<BedTimeline> beds;
+    private final int blockedBeds;
+
+    public PropertyAvailability(Long propertyId, List<BedTimeline> beds) {
+        List<BedTimeline> sorted = new ArrayList<>(beds);
+        sorted.sort(BED_ORDER);
+        this.propertyId = propertyId;
+        this.beds = Collections.unmodifiableList(sorted);
+        this.blockedBeds = (int) sorted.stream().filter(BedTimeline::isBlocked).count();
+    }
+
+    // Beds with no stay overlapping [from, to); blocked beds are never free
+    public List<BedTimeline> freeBeds(Long roomId, int from, int to) {
+        List<BedTimeline> free = new ArrayList<>();
+        for (BedTimeline bed : beds) {
+            if ((roomId == null || roomId.equals(bed.getRoomId())) && bed.isFree(from, to)) {
+                free.add(bed);
+            }
+        }
+        return free;
+    }
+
+    // Booked beds on each day of [from, to), from a difference array over the overlapping stays
+    public int[] bookedPerDay(int from, int to) {
+        int days = to - from;
+        int[] counts = new int[days + 1];
+        for (BedTimeline bed : beds) {
+            if (bed.isBlocked()) {
+                continue;
+            }
+            for (int i = bed.firstEndingAfter(from); i < bed.size() && bed.startAt(i) < to; i++) {
+                counts[Math.max(bed.startAt(i), from) - from]++;
+                counts[Math.min(bed.endAt(i), to) - from]--;
+            }
+        }
+        int running = 0;
+        for (int day = 0; day < days; day++) {
+            running += counts[day];
+            counts[day] = running;
+        }
+        return Arrays.copyOf(counts, days);
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public List<BedTimeline> getBeds() {
+        return beds;
+    }
+
+    public int getBlockedBeds() {
+        return blockedBeds;
+    }
+}
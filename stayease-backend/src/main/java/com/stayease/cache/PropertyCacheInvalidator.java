@@ -0,0 +1,32 @@
+package com.stayease.cache;
+
+import com.stayease.config.CacheConfig;
+import com.stayease.event.PropertyChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Evicts a property's cached detail and rooms once a write to it has committed
+@Component
+@RequiredArgsConstructor
+public class PropertyCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        evict(CacheConfig.PROPERTY_DETAIL, event.getPropertyId());
+        if (event.getKind() != PropertyChangedEvent.Kind.RATING) {
+            evict(CacheConfig.PROPERTY_ROOMS, event.getPropertyId());
+        }
+    }
+
+    private void evict(String cacheName, Long propertyId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(propertyId);
+        }
+    }
+}
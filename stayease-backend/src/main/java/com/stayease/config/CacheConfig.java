@@ -0,0 +1,76 @@
+package com.stayease.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+// Ordered just outside the transaction interceptor so a cache hit never opens a transaction
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String PROPERTY_DETAIL = "propertyDetail";
+    public static final String PROPERTY_ROOMS = "propertyRooms";
+    public static final String USER_STATUS = "userStatus";
+    public static final String OWNER_DASHBOARD = "ownerDashboard";
+
+    @Value("${cache.property-detail.maximum-size:10000}")
+    private long propertyDetailMaximumSize;
+
+    @Value("${cache.property-detail.ttl:10m}")
+    private Duration propertyDetailTtl;
+
+    @Value("${cache.property-rooms.maximum-size:10000}")
+    private long propertyRoomsMaximumSize;
+
+    @Value("${cache.property-rooms.ttl:2m}")
+    private Duration propertyRoomsTtl;
+
+    @Value("${cache.user-status.maximum-size:10000}")
+    private long userStatusMaximumSize;
+
+    @Value("${cache.user-status.ttl:5m}")
+    private Duration userStatusTtl;
+
+    @Value("${cache.owner-dashboard.maximum-size:10000}")
+    private long ownerDashboardMaximumSize;
+
+    @Value("${cache.owner-dashboard.ttl:30s}")
+    private Duration ownerDashboardTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PROPERTY_DETAIL, Caffeine.newBuilder()
+            .maximumSize(propertyDetailMaximumSize)
+            .expireAfterWrite(propertyDetailTtl)
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(PROPERTY_ROOMS, Caffeine.newBuilder()
+            .maximumSize(propertyRoomsMaximumSize)
+            .expireAfterWrite(propertyRoomsTtl)
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(USER_STATUS, Caffeine.newBuilder()
+            .maximumSize(userStatusMaximumSize)
+            .expireAfterWrite(userStatusTtl)
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(OWNER_DASHBOARD, Caffeine.newBuilder()
+            .maximumSize(ownerDashboardMaximumSize)
+            .expireAfterWrite(ownerDashboardTtl)
+            .recordStats()
+            .build());
+        // Only the caches registered above exist; a typo in a cache name fails instead of creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,57 @@
+package com.stayease.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Puts the connection limiter in front of the pool; on by default with virtual threads
+@Configuration
+public class ConnectionLimiterConfig {
+
+    static final int DATA_SOURCE_POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    @Bean
+    public static ConnectionLimitingPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean enabled = environment.getProperty("datasource.connection-limiter.enabled", Boolean.class, virtualThreads);
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        // One short of the pool: a thread holding a permit opens nested connections without one
+        int maxConcurrent = environment.getProperty("datasource.connection-limiter.max-concurrent", Integer.class,
+            Math.max(1, poolSize - 1));
+        long acquireTimeoutMillis = environment.getProperty("datasource.connection-limiter.acquire-timeout-ms", Long.class, 5000L);
+
+        return new ConnectionLimitingPostProcessor(enabled, maxConcurrent, acquireTimeoutMillis);
+    }
+
+    // Declared as the bean type so the context sees it is Ordered before instantiating it
+    static final class ConnectionLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final boolean enabled;
+        private final int maxConcurrent;
+        private final long acquireTimeoutMillis;
+
+        private ConnectionLimitingPostProcessor(boolean enabled, int maxConcurrent, long acquireTimeoutMillis) {
+            this.enabled = enabled;
+            this.maxConcurrent = maxConcurrent;
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeoutMillis);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return DATA_SOURCE_POST_PROCESSOR_ORDER;
+        }
+    }
+}
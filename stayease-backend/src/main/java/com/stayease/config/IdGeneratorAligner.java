@@ -0,0 +1,77 @@
+package com.stayease.config;
+
+import com.stayease.entity.IdGenerators;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Moves the table id generators past the highest id already in their tables
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class IdGeneratorAligner implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdGeneratorAligner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align();
+    }
+
+    public void align() {
+        align(IdGenerators.ROOMS, "rooms");
+        align(IdGenerators.BEDS, "beds");
+    }
+
+    // Takes count consecutive ids from the generator and returns the first
+    public long reserve(String generator, int count) {
+        Long next = transactionTemplate.execute(status -> {
+            // The update locks the row until commit, so the value read back is the one we moved
+            int rows = jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN
+                + " = " + IdGenerators.VALUE_COLUMN + " + ? WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                count, generator);
+            if (rows == 0) {
+                throw new IllegalStateException("No id generator row for '" + generator + "'");
+            }
+            return jdbcTemplate.queryForObject("SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+                + " WHERE " + IdGenerators.NAME_COLUMN + " = ?", Long.class, generator);
+        });
+        return next - count;
+    }
+
+    private void align(String generator, String table) {
+        long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+
+        String update = "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? "
+            + "WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?";
+        if (jdbcTemplate.update(update, next, generator, next) > 0) {
+            log.info("Advanced id generator '{}' to {}", generator, next);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdGenerators.TABLE
+            + " WHERE " + IdGenerators.NAME_COLUMN + " = ?", Integer.class, generator);
+        if (rows != null && rows == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", "
+                    + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", generator, next);
+            } catch (DuplicateKeyException ex) {
+                // Another instance created the row first; make sure it is past our max as well
+                jdbcTemplate.update(update, next, generator, next);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.stayease.config;
+
+import com.stayease.metrics.QueryCountingDataSource;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+// Latency histograms for request, repository and connection-pool timers, and per-request query counts
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> LATENCY_METERS = List.of(
+        "http.server.requests",
+        "spring.data.repository.invocations",
+        "hikaricp.connections.acquire",
+        "stayease."
+    );
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (LATENCY_METERS.stream().noneMatch(id.getName()::startsWith)) {
+                    return config;
+                }
+                DistributionStatisticConfig.Builder histogram = DistributionStatisticConfig.builder()
+                    .percentiles(PERCENTILES);
+                // Bucketed histograms only for timers, where the expected range keeps the bucket count small
+                if (id.getType() == Meter.Type.TIMER) {
+                    histogram
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos());
+                }
+                return histogram.build().merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public static QueryCountingPostProcessor queryCountingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("metrics.query-count.enabled", Boolean.class, true);
+
+        return new QueryCountingPostProcessor(enabled);
+    }
+
+    // Declared as the bean type so the context sees it is Ordered before instantiating it
+    static final class QueryCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final boolean enabled;
+
+        private QueryCountingPostProcessor(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (enabled && bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                return new QueryCountingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return ConnectionLimiterConfig.DATA_SOURCE_POST_PROCESSOR_ORDER + 10;
+        }
+    }
+}
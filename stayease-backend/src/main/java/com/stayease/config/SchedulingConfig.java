@@ -0,0 +1,12 @@
+package com.stayease.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Async and @Scheduled run on Boot's task executors, which switch to virtual threads with spring.threads.virtual.enabled
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig {
+}
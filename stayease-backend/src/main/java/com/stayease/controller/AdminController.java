@@ -0,0 +1,48 @@
+package com.stayease.controller;
+
+import com.stayease.dto.response.ApiResponse;
+import com.stayease.dto.response.CacheStatsResponse;
+import com.stayease.security.CustomUserDetails;
+import com.stayease.service.AdminService;
+import com.stayease.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminController {
+    
+    private final AdminService adminService;
+    private final ReviewService reviewService;
+
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(adminService.getCacheStats()));
+    }
+
+    @PatchMapping("/users/{userId}/status")
+    public ResponseEntity<ApiResponse<Void>> updateUserStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long userId,
+            @RequestParam boolean isActive) {
+        adminService.updateUserStatus(userId, userDetails.getId(), isActive);
+        String message = isActive ? "User activated" : "User deactivated";
+        return ResponseEntity.ok(ApiResponse.success(message, null));
+    }
+
+    @PatchMapping("/reviews/{reviewId}/visibility")
+    public ResponseEntity<ApiResponse<Void>> updateReviewVisibility(
+            @PathVariable Long reviewId,
+            @RequestParam boolean visible) {
+        reviewService.setReviewVisibility(reviewId, visible);
+        String message = visible ? "Review shown" : "Review hidden";
+        return ResponseEntity.ok(ApiResponse.success(message, null));
+    }
+}
@@ -1,6 +1,7 @@
 package com.stayease.controller;
 
 import com.stayease.dto.request.LoginRequest;
+import com.stayease.dto.request.RefreshTokenRequest;
 import com.stayease.dto.request.RegisterRequest;
 import com.stayease.dto.response.ApiResponse;
 import com.stayease.dto.response.JwtResponse;
@@ -27,6 +28,18 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<JwtResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        JwtResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success("Token refreshed", response));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.ok(ApiResponse.success("Logged out", null));
+    }
+
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<UserResponse>> register(@Valid @RequestBody RegisterRequest registerRequest) {
         UserResponse response = authService.register(registerRequest);
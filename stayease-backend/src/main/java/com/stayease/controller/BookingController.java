@@ -3,6 +3,7 @@ package com.stayease.controller;
 import com.stayease.dto.request.BookingRequest;
 import com.stayease.dto.response.ApiResponse;
 import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.CursorPagedResponse;
 import com.stayease.dto.response.PagedResponse;
 import com.stayease.security.CustomUserDetails;
 import com.stayease.service.BookingService;
@@ -41,6 +42,17 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<BookingResponse>>> scrollMyBookings(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPagedResponse<BookingResponse> response = bookingService.getUserBookingsByCursor(
+            userDetails.getId(), cursor, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(
             @AuthenticationPrincipal CustomUserDetails userDetails,
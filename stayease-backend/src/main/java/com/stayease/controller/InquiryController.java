@@ -0,0 +1,31 @@
+package com.stayease.controller;
+
+import com.stayease.dto.request.InquiryRequest;
+import com.stayease.dto.response.ApiResponse;
+import com.stayease.security.CustomUserDetails;
+import com.stayease.service.InquiryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/inquiries")
+@RequiredArgsConstructor
+public class InquiryController {
+    
+    private final InquiryService inquiryService;
+
+    // Open to guests; signed-in users get the inquiry linked to their account
+    @PostMapping
+    public ResponseEntity<ApiResponse<Void>> submitInquiry(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody InquiryRequest request) {
+        inquiryService.submitInquiry(request, userDetails != null ? userDetails.getId() : null);
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success("Inquiry received, the owner will get back to you soon", null));
+    }
+}
@@ -1,20 +1,36 @@
 package com.stayease.controller;
 
+import com.stayease.dto.request.BulkRoomRequest;
 import com.stayease.dto.request.PropertyRequest;
 import com.stayease.dto.request.RoomRequest;
 import com.stayease.dto.response.*;
 import com.stayease.enums.BookingStatus;
+import com.stayease.enums.ExportFormat;
 import com.stayease.security.CustomUserDetails;
+import com.stayease.service.BookingExportService;
 import com.stayease.service.BookingService;
+import com.stayease.service.InquiryService;
+import com.stayease.service.OwnerDashboardService;
 import com.stayease.service.PropertyService;
 import com.stayease.service.RoomService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/owner")
@@ -25,6 +41,21 @@ public class OwnerController {
     private final PropertyService propertyService;
     private final RoomService roomService;
     private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
+    private final InquiryService inquiryService;
+    private final OwnerDashboardService ownerDashboardService;
+
+    @Value("${bookings.export.request-timeout:10m}")
+    private Duration exportRequestTimeout;
+
+    // ==================== DASHBOARD ====================
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<ApiResponse<OwnerDashboardResponse>> getDashboard(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        OwnerDashboardResponse response = ownerDashboardService.getDashboard(userDetails.getId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
     // ==================== PROPERTY ENDPOINTS ====================
 
@@ -96,6 +127,17 @@ public class OwnerController {
             .body(ApiResponse.success("Room created successfully", response));
     }
 
+    @PostMapping("/properties/{propertyId}/rooms/bulk")
+    public ResponseEntity<ApiResponse<BulkRoomResponse>> createRooms(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long propertyId,
+            @Valid @RequestBody BulkRoomRequest request) {
+        BulkRoomResponse response = roomService.createRooms(propertyId, request, userDetails.getId());
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Rooms created successfully", response));
+    }
+
     @PutMapping("/rooms/{roomId}")
     public ResponseEntity<ApiResponse<RoomResponse>> updateRoom(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -137,6 +179,37 @@ public class OwnerController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/bookings/scroll")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<BookingResponse>>> scrollMyBookings(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPagedResponse<BookingResponse> response = bookingService.getOwnerBookingsByCursor(
+            userDetails.getId(), status, cursor, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/bookings/export")
+    public ResponseEntity<StreamingResponseBody> exportMyBookings(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletRequest request) {
+        // Large exports outlast the default async timeout; raise it for this request only
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportRequestTimeout.toMillis());
+        StreamingResponseBody body = bookingExportService.exportOwnerBookings(userDetails.getId(), status, format);
+        String filename = "bookings-" + LocalDate.now() + (format == ExportFormat.CSV ? ".csv" : ".ndjson");
+        MediaType contentType = format == ExportFormat.CSV
+            ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+            : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+
     @GetMapping("/bookings/{bookingId}")
     public ResponseEntity<ApiResponse<BookingResponse>> getBookingDetails(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -155,4 +228,17 @@ public class OwnerController {
         );
         return ResponseEntity.ok(ApiResponse.success("Booking status updated", response));
     }
+
+    // ==================== INQUIRY ENDPOINTS ====================
+
+    @GetMapping("/inquiries")
+    public ResponseEntity<ApiResponse<PagedResponse<InquiryResponse>>> getMyInquiries(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PagedResponse<InquiryResponse> response = inquiryService.getOwnerInquiries(
+            userDetails.getId(), page, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
\ No newline at end of file
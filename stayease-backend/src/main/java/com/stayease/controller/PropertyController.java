@@ -1,18 +1,29 @@
 package com.stayease.controller;
 
 import com.stayease.dto.response.ApiResponse;
+import com.stayease.dto.response.AvailableBedResponse;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.FacetedSearchResponse;
 import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyCalendarResponse;
+import com.stayease.dto.response.PropertyCardResponse;
 import com.stayease.dto.response.PropertyResponse;
+import com.stayease.dto.response.RatingSummaryResponse;
+import com.stayease.dto.response.ReviewResponse;
 import com.stayease.dto.response.RoomResponse;
 import com.stayease.enums.GenderPreference;
 import com.stayease.enums.PropertyType;
+import com.stayease.service.AvailabilityService;
 import com.stayease.service.PropertyService;
+import com.stayease.service.ReviewService;
 import com.stayease.service.RoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +33,8 @@ public class PropertyController {
     
     private final PropertyService propertyService;
     private final RoomService roomService;
+    private final AvailabilityService availabilityService;
+    private final ReviewService reviewService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<PropertyResponse>>> getAllProperties(
@@ -31,6 +44,14 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<PropertyResponse>>> scrollProperties(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPagedResponse<PropertyResponse> response = propertyService.getAllPropertiesByCursor(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PropertyResponse>> getPropertyById(@PathVariable Long id) {
         PropertyResponse response = propertyService.getPropertyById(id);
@@ -49,6 +70,40 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ApiResponse<List<AvailableBedResponse>>> getAvailableBeds(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long roomId) {
+        List<AvailableBedResponse> response = availabilityService.getAvailableBeds(id, roomId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<ApiResponse<PropertyCalendarResponse>> getPropertyCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        PropertyCalendarResponse response = availabilityService.getPropertyCalendar(id, from, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<ReviewResponse>>> getPropertyReviews(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPagedResponse<ReviewResponse> response = reviewService.getPropertyReviews(id, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/reviews/summary")
+    public ResponseEntity<ApiResponse<RatingSummaryResponse>> getPropertyRatingSummary(@PathVariable Long id) {
+        RatingSummaryResponse response = reviewService.getPropertyRatingSummary(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/featured")
     public ResponseEntity<ApiResponse<List<PropertyResponse>>> getFeaturedProperties() {
         List<PropertyResponse> response = propertyService.getFeaturedProperties();
@@ -78,6 +133,100 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/search/facets")
+    public ResponseEntity<ApiResponse<FacetedSearchResponse>> searchWithFacets(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) GenderPreference genderPreference,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) Integer availableBeds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        FacetedSearchResponse response = propertyService.searchWithFacets(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search/nearby")
+    public ResponseEntity<ApiResponse<PagedResponse<PropertyCardResponse>>> searchNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) GenderPreference genderPreference,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) Integer availableBeds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        PagedResponse<PropertyCardResponse> response = propertyService.searchNearby(
+            latitude, longitude, radiusKm, city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search/within")
+    public ResponseEntity<ApiResponse<PagedResponse<PropertyCardResponse>>> searchWithinBounds(
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) GenderPreference genderPreference,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) Integer availableBeds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        PagedResponse<PropertyCardResponse> response = propertyService.searchWithinBounds(
+            minLatitude, minLongitude, maxLatitude, maxLongitude,
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search/scroll")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<PropertyResponse>>> scrollSearchProperties(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) GenderPreference genderPreference,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) Integer availableBeds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        CursorPagedResponse<PropertyResponse> response = propertyService.searchPropertiesByCursor(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, cursor, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // Lightweight result cards: ?view=card skips full entity hydration
+    @GetMapping(value = "/search", params = "view=card")
+    public ResponseEntity<ApiResponse<PagedResponse<PropertyCardResponse>>> searchPropertyCards(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) PropertyType propertyType,
+            @RequestParam(required = false) GenderPreference genderPreference,
+            @RequestParam(required = false) BigDecimal minRent,
+            @RequestParam(required = false) BigDecimal maxRent,
+            @RequestParam(required = false) Integer availableBeds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        PagedResponse<PropertyCardResponse> response = propertyService.searchPropertyCards(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size
+        );
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/search/keyword")
     public ResponseEntity<ApiResponse<PagedResponse<PropertyResponse>>> searchByKeyword(
             @RequestParam String keyword,
@@ -86,4 +235,13 @@ public class PropertyController {
         PagedResponse<PropertyResponse> response = propertyService.searchByKeyword(keyword, page, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @GetMapping(value = "/search/keyword", params = "view=card")
+    public ResponseEntity<ApiResponse<PagedResponse<PropertyCardResponse>>> searchCardsByKeyword(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        PagedResponse<PropertyCardResponse> response = propertyService.searchPropertyCardsByKeyword(keyword, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
\ No newline at end of file
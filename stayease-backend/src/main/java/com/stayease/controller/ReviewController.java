@@ -0,0 +1,40 @@
+package com.stayease.controller;
+
+import com.stayease.dto.request.ReviewRequest;
+import com.stayease.dto.response.ApiResponse;
+import com.stayease.dto.response.ReviewResponse;
+import com.stayease.security.CustomUserDetails;
+import com.stayease.service.ReviewService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+    
+    private final ReviewService reviewService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReviewResponse>> createReview(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody ReviewRequest request) {
+        ReviewResponse response = reviewService.createReview(request, userDetails.getId());
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Review submitted successfully", response));
+    }
+
+    @PutMapping("/{reviewId}")
+    public ResponseEntity<ApiResponse<ReviewResponse>> updateReview(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long reviewId,
+            @Valid @RequestBody ReviewRequest request) {
+        ReviewResponse response = reviewService.updateReview(reviewId, request, userDetails.getId());
+        return ResponseEntity.ok(ApiResponse.success("Review updated successfully", response));
+    }
+}
@@ -0,0 +1,20 @@
+package com.stayease.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoomRequest {
+    
+    @NotEmpty(message = "At least one room is required")
+    @Size(max = 500, message = "At most 500 rooms can be created per request")
+    private List<@Valid RoomRequest> rooms;
+}
@@ -27,6 +27,7 @@ public class InquiryRequest {
     @Pattern(regexp = "^[0-9]{10}$", message = "Phone must be 10 digits")
     private String phone;
 
+    @Size(max = 2000, message = "Message must not exceed 2000 characters")
     private String message;
 
     @Future(message = "Preferred visit date must be in the future")
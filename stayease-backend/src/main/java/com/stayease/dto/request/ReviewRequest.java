@@ -0,0 +1,42 @@
+package com.stayease.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewRequest {
+    
+    @NotNull(message = "Property ID is required")
+    private Long propertyId;
+
+    @NotNull(message = "Rating is required")
+    @Min(value = 1, message = "Rating must be between 1 and 5")
+    @Max(value = 5, message = "Rating must be between 1 and 5")
+    private Integer rating;
+
+    @Min(value = 1, message = "Cleanliness rating must be between 1 and 5")
+    @Max(value = 5, message = "Cleanliness rating must be between 1 and 5")
+    private Integer cleanlinessRating;
+
+    @Min(value = 1, message = "Food rating must be between 1 and 5")
+    @Max(value = 5, message = "Food rating must be between 1 and 5")
+    private Integer foodRating;
+
+    @Min(value = 1, message = "Staff rating must be between 1 and 5")
+    @Max(value = 5, message = "Staff rating must be between 1 and 5")
+    private Integer staffRating;
+
+    @Min(value = 1, message = "Value rating must be between 1 and 5")
+    @Max(value = 5, message = "Value rating must be between 1 and 5")
+    private Integer valueRating;
+
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+
+    @Size(max = 5000, message = "Comment must not exceed 5000 characters")
+    private String comment;
+}
@@ -0,0 +1,18 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableBedResponse {
+    
+    private Long bedId;
+    private Long roomId;
+    private String roomNumber;
+    private String bedNumber;
+}
@@ -0,0 +1,21 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoomResponse {
+    
+    private Integer roomsCreated;
+    private Integer bedsCreated;
+    private Long insertMillis;
+    private Double rowsPerSecond;
+    private List<RoomResponse> rooms;
+}
@@ -0,0 +1,18 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedSearchResponse {
+    
+    private PagedResponse<PropertyCardResponse> results;
+    private Map<String, Map<String, Long>> facets;
+}
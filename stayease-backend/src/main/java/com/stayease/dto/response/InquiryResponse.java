@@ -0,0 +1,29 @@
+package com.stayease.dto.response;
+
+import com.stayease.enums.InquiryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InquiryResponse {
+    
+    private Long id;
+    private Long propertyId;
+    private String propertyName;
+    private String name;
+    private String email;
+    private String phone;
+    private String message;
+    private LocalDate preferredVisitDate;
+    private InquiryStatus status;
+    private String ownerNotes;
+    private LocalDateTime createdAt;
+}
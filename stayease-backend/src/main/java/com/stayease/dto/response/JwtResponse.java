@@ -14,5 +14,8 @@ public class JwtResponse {
     private String accessToken;
     private String tokenType = "Bearer";
     private Long expiresIn;
+    private String refreshToken;
+    // Milliseconds, like expiresIn
+    private Long refreshExpiresIn;
     private UserResponse user;
 }
\ No newline at end of file
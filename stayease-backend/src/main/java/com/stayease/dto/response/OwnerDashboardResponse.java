@@ -0,0 +1,30 @@
+package com.stayease.dto.response;
+
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.InquiryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnerDashboardResponse {
+    
+    private Long totalProperties;
+    private Long totalBeds;
+    private Map<BedStatus, Long> bedsByStatus;
+    private Double occupancyRate;
+    private Map<BookingStatus, Long> bookingsByStatus;
+    private BigDecimal monthlyRevenue;
+    private BigDecimal committedMonthlyRevenue;
+    private Map<InquiryStatus, Long> inquiriesByStatus;
+    private LocalDateTime generatedAt;
+}
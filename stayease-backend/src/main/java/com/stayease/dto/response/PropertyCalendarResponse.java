@@ -0,0 +1,56 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCalendarResponse {
+    
+    private Long propertyId;
+    private LocalDate from;
+    private LocalDate to;
+    private Integer totalBeds;
+    private Integer blockedBeds;
+    private List<CalendarDay> days;
+    private List<BedCalendar> beds;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalendarDay {
+        private LocalDate date;
+        private Integer bookedBeds;
+        private Integer freeBeds;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BedCalendar {
+        private Long bedId;
+        private Long roomId;
+        private String roomNumber;
+        private String bedNumber;
+        private Boolean blocked;
+        private List<BookedStay> bookedStays;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookedStay {
+        private LocalDate checkInDate;
+        private LocalDate checkOutDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.stayease.dto.response;
+
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCardResponse {
+    
+    private Long id;
+    private String name;
+    private PropertyType propertyType;
+    private GenderPreference genderPreference;
+    private String city;
+    private String state;
+    private BigDecimal minRent;
+    private BigDecimal maxRent;
+    private Integer totalBeds;
+    private Integer availableBeds;
+    private BigDecimal avgRating;
+    private Integer totalReviews;
+    private Boolean isVerified;
+    private Boolean isFeatured;
+    private String primaryImage;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Double distanceKm;
+    private LocalDateTime createdAt;
+}
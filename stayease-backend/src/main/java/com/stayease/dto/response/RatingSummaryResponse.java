@@ -0,0 +1,22 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryResponse {
+    
+    private Long reviewCount;
+    private BigDecimal avgRating;
+    private BigDecimal avgCleanliness;
+    private BigDecimal avgFood;
+    private BigDecimal avgStaff;
+    private BigDecimal avgValue;
+}
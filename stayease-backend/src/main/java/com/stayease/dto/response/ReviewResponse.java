@@ -0,0 +1,30 @@
+package com.stayease.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewResponse {
+    
+    private Long id;
+    private Long propertyId;
+    private String reviewerName;
+    private Integer rating;
+    private Integer cleanlinessRating;
+    private Integer foodRating;
+    private Integer staffRating;
+    private Integer valueRating;
+    private String title;
+    private String comment;
+    private Boolean isVerified;
+    private Boolean isVisible;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
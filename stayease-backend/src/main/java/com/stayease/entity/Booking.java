@@ -3,6 +3,7 @@ package com.stayease.entity;
 import com.stayease.enums.BookingStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +12,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_bookings_status_created", columnList = "status, created_at"),
+    @Index(name = "idx_bookings_status_checkout", columnList = "status, check_out_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -68,4 +73,10 @@ public class Booking {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // NOT NULL DEFAULT 0 so that adding the column to existing rows gives them a usable version
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.stayease.entity;
+
+// Table-backed pooled-lo id generators, so bulk inserts can be batched
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String ROOMS = "rooms";
+    public static final String BEDS = "beds";
+
+    private IdGenerators() {
+    }
+}
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "inquiries")
+@Table(name = "inquiries", indexes = {
+    @Index(name = "idx_inquiries_property_created", columnList = "property_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
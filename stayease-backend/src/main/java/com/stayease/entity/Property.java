@@ -5,6 +5,7 @@ import com.stayease.enums.PropertyType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -15,7 +16,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "properties")
+@DynamicUpdate
+@Table(name = "properties", indexes = {
+    @Index(name = "idx_properties_active_created", columnList = "is_active, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,38 @@
+package com.stayease.entity;
+
+import com.stayease.event.PropertyChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One committed PropertyChangedEvent, read back by the other instances to refresh their in-memory indexes
+@Entity
+@Table(name = "property_changes", indexes = {
+    @Index(name = "idx_property_changes_changed_at", columnList = "changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PropertyChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private PropertyChangedEvent.Kind kind;
+
+    // Instance that made the change; it has already applied the event locally
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
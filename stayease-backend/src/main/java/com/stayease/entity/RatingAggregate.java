@@ -0,0 +1,85 @@
+package com.stayease.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+// Running review sums and counts of one property or owner
+@Entity
+@Table(name = "rating_aggregates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingAggregate {
+
+    @EmbeddedId
+    private RatingAggregateId id;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "cleanliness_sum", nullable = false)
+    private long cleanlinessSum;
+
+    @Column(name = "cleanliness_count", nullable = false)
+    private long cleanlinessCount;
+
+    @Column(name = "food_sum", nullable = false)
+    private long foodSum;
+
+    @Column(name = "food_count", nullable = false)
+    private long foodCount;
+
+    @Column(name = "staff_sum", nullable = false)
+    private long staffSum;
+
+    @Column(name = "staff_count", nullable = false)
+    private long staffCount;
+
+    @Column(name = "value_sum", nullable = false)
+    private long valueSum;
+
+    @Column(name = "value_count", nullable = false)
+    private long valueCount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public BigDecimal averageRating() {
+        return average(ratingSum, reviewCount);
+    }
+
+    public BigDecimal averageCleanliness() {
+        return average(cleanlinessSum, cleanlinessCount);
+    }
+
+    public BigDecimal averageFood() {
+        return average(foodSum, foodCount);
+    }
+
+    public BigDecimal averageStaff() {
+        return average(staffSum, staffCount);
+    }
+
+    public BigDecimal averageValue() {
+        return average(valueSum, valueCount);
+    }
+
+    // Ratings are stored with one decimal place
+    private static BigDecimal average(long sum, long count) {
+        if (count <= 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,26 @@
+package com.stayease.entity;
+
+import com.stayease.enums.RatingSubject;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingAggregateId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type", length = 20)
+    private RatingSubject subjectType;
+
+    @Column(name = "subject_id")
+    private Long subjectId;
+}
@@ -8,7 +8,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reviews_user_property", columnNames = {"user_id", "property_id"})
+}, indexes = {
+    @Index(name = "idx_reviews_property_visible_created", columnList = "property_id, is_visible, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
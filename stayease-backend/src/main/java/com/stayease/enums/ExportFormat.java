@@ -0,0 +1,6 @@
+package com.stayease.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,94 @@
+package com.stayease.event;
+
+import com.stayease.entity.PropertyChange;
+import com.stayease.repository.PropertyChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Shares PropertyChangedEvents between instances through the property_changes table
+@Component
+@Slf4j
+public class PropertyChangeFeed {
+
+    private final PropertyChangeRepository changeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String origin = UUID.randomUUID().toString();
+
+    // Max id seen by each recent poll; ids at or below the oldest one that has left the overlap are not read again
+    private final Deque<long[]> recentPolls = new ArrayDeque<>();
+    private final Set<Long> replayed = new HashSet<>();
+    private long cursor;
+    private long maxSeen;
+
+    public PropertyChangeFeed(PropertyChangeRepository changeRepository, ApplicationEventPublisher eventPublisher) {
+        this.changeRepository = changeRepository;
+        this.eventPublisher = eventPublisher;
+        // Anything committed before this point is in the snapshot the indexes build at startup
+        this.cursor = changeRepository.findMaxId();
+        this.maxSeen = cursor;
+    }
+
+    // No fallbackExecution: events replayed by poll() run outside a transaction and are not recorded again
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(PropertyChangedEvent event) {
+        changeRepository.save(PropertyChange.builder()
+            .propertyId(event.getPropertyId())
+            .kind(event.getKind())
+            .origin(origin)
+            .changedAt(LocalDateTime.now())
+            .build());
+    }
+
+    // Republishes changes other instances committed since the last poll; rows are re-read for overlap
+    public synchronized int poll(Duration overlap, int batchSize) {
+        long now = System.nanoTime();
+        while (!recentPolls.isEmpty() && now - recentPolls.peekFirst()[0] >= overlap.toNanos()) {
+            cursor = recentPolls.pollFirst()[1];
+        }
+        replayed.removeIf(id -> id <= cursor);
+
+        // Several changes to one property in a poll need one refresh, of the widest kind
+        Map<Long, PropertyChangedEvent.Kind> changed = new LinkedHashMap<>();
+        Long afterId = cursor;
+        List<PropertyChange> changes;
+        do {
+            changes = changeRepository.findFromOthersAfter(afterId, origin, PageRequest.of(0, batchSize));
+            for (PropertyChange change : changes) {
+                afterId = change.getId();
+                if (replayed.add(change.getId())) {
+                    changed.merge(change.getPropertyId(), change.getKind(),
+                        (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                }
+            }
+        } while (changes.size() == batchSize);
+        maxSeen = Math.max(maxSeen, afterId);
+        recentPolls.addLast(new long[] {now, maxSeen});
+
+        changed.forEach((propertyId, kind) -> eventPublisher.publishEvent(new PropertyChangedEvent(propertyId, kind)));
+        if (!changed.isEmpty()) {
+            log.debug("Applied changes to {} properties from other instances", changed.size());
+        }
+        return changed.size();
+    }
+
+    @Transactional
+    public int purge(Duration retention) {
+        return changeRepository.deleteChangedBefore(LocalDateTime.now().minus(retention));
+    }
+}
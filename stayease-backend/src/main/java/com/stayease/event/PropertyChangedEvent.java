@@ -0,0 +1,35 @@
+package com.stayease.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Published whenever a write changes what a property looks like to readers
+@Getter
+@RequiredArgsConstructor
+public class PropertyChangedEvent {
+
+    // Which part of the property changed; listeners that don't read that part can skip the refresh
+    public enum Kind {
+        // The property's own columns and images
+        DETAILS,
+        // Rooms, beds, bookings and the bed counters derived from them
+        INVENTORY,
+        // Review count and average rating
+        RATING
+    }
+
+    private final Long propertyId;
+    private final Kind kind;
+
+    public static PropertyChangedEvent details(Long propertyId) {
+        return new PropertyChangedEvent(propertyId, Kind.DETAILS);
+    }
+
+    public static PropertyChangedEvent inventory(Long propertyId) {
+        return new PropertyChangedEvent(propertyId, Kind.INVENTORY);
+    }
+
+    public static PropertyChangedEvent rating(Long propertyId) {
+        return new PropertyChangedEvent(propertyId, Kind.RATING);
+    }
+}
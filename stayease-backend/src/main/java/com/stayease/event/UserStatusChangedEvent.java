@@ -0,0 +1,12 @@
+package com.stayease.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Published when a user account is activated or deactivated
+@Getter
+@RequiredArgsConstructor
+public class UserStatusChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,173 @@
+package com.stayease.job;
+
+import com.stayease.repository.projection.BookingSlotView;
+import com.stayease.service.impl.BookingLifecycle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+// Expires unconfirmed bookings, checks out finished stays and reserves beds of started ones, under a lease
+@Component
+@Slf4j
+public class BookingLifecycleJob {
+
+    static final String LEASE_NAME = "booking-lifecycle";
+
+    private static final String METRIC_PREFIX = "stayease.bookings.lifecycle";
+
+    private final BookingLifecycle bookingLifecycle;
+    private final SchedulerLeases schedulerLeases;
+    private final Counter expiredCounter;
+    private final Counter checkedOutCounter;
+    private final Counter reservedCounter;
+    private final DistributionSummary expiredPerRun;
+    private final DistributionSummary checkedOutPerRun;
+    private final DistributionSummary reservedPerRun;
+    private final Timer runTimer;
+
+    @Value("${bookings.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bookings.lifecycle.pending-ttl:48h}")
+    private Duration pendingTtl;
+
+    @Value("${bookings.lifecycle.checkout-grace-days:1}")
+    private int checkoutGraceDays;
+
+    @Value("${bookings.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${bookings.lifecycle.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${bookings.lifecycle.lease-duration:5m}")
+    private Duration leaseDuration;
+
+    public BookingLifecycleJob(BookingLifecycle bookingLifecycle, SchedulerLeases schedulerLeases,
+                               MeterRegistry meterRegistry) {
+        this.bookingLifecycle = bookingLifecycle;
+        this.schedulerLeases = schedulerLeases;
+        this.expiredCounter = Counter.builder(METRIC_PREFIX + ".transitions")
+            .tag("transition", "expired")
+            .description("PENDING bookings cancelled after the confirmation TTL")
+            .register(meterRegistry);
+        this.checkedOutCounter = Counter.builder(METRIC_PREFIX + ".transitions")
+            .tag("transition", "checked_out")
+            .description("Stays checked out automatically after their check-out date")
+            .register(meterRegistry);
+        this.reservedCounter = Counter.builder(METRIC_PREFIX + ".transitions")
+            .tag("transition", "reserved")
+            .description("Free beds reserved once their booked stay started")
+            .register(meterRegistry);
+        this.expiredPerRun = DistributionSummary.builder(METRIC_PREFIX + ".run.transitions")
+            .tag("transition", "expired")
+            .register(meterRegistry);
+        this.checkedOutPerRun = DistributionSummary.builder(METRIC_PREFIX + ".run.transitions")
+            .tag("transition", "checked_out")
+            .register(meterRegistry);
+        this.reservedPerRun = DistributionSummary.builder(METRIC_PREFIX + ".run.transitions")
+            .tag("transition", "reserved")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder(METRIC_PREFIX + ".run")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${bookings.lifecycle.initial-delay-ms:30000}",
+        fixedDelayString = "${bookings.lifecycle.interval-ms:60000}"
+    )
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        if (!schedulerLeases.tryAcquire(LEASE_NAME, leaseDuration)) {
+            log.debug("Booking lifecycle lease is held by another instance, skipping this run");
+            return;
+        }
+        try {
+            runOnce();
+        } catch (RuntimeException e) {
+            log.error("Booking lifecycle run failed", e);
+        } finally {
+            schedulerLeases.release(LEASE_NAME);
+        }
+    }
+
+    public LifecycleRunResult runOnce() {
+        Timer.Sample sample = Timer.start();
+        LocalDateTime createdBefore = LocalDateTime.now().minus(pendingTtl);
+        int expired = processChunks(
+            afterId -> bookingLifecycle.findStalePending(createdBefore, afterId, chunkSize),
+            bookingLifecycle::expire);
+
+        LocalDate dueBy = LocalDate.now().minusDays(checkoutGraceDays);
+        int checkedOut = processChunks(
+            afterId -> bookingLifecycle.findOverdueCheckIns(dueBy, afterId, chunkSize),
+            bookingLifecycle::checkOut);
+
+        LocalDate today = LocalDate.now();
+        int reserved = processChunks(
+            afterId -> bookingLifecycle.findStartedOnAvailableBeds(today, afterId, chunkSize),
+            bookingLifecycle::reserveStarted);
+        sample.stop(runTimer);
+
+        expiredCounter.increment(expired);
+        checkedOutCounter.increment(checkedOut);
+        reservedCounter.increment(reserved);
+        expiredPerRun.record(expired);
+        checkedOutPerRun.record(checkedOut);
+        reservedPerRun.record(reserved);
+        if (expired > 0 || checkedOut > 0 || reserved > 0) {
+            log.info("Booking lifecycle run: {} pending bookings expired, {} stays checked out, {} beds reserved",
+                expired, checkedOut, reserved);
+        }
+        return new LifecycleRunResult(expired, checkedOut, reserved);
+    }
+
+    private int processChunks(Function<Long, List<BookingSlotView>> nextChunk,
+                              ToIntFunction<List<BookingSlotView>> transition) {
+        int processed = 0;
+        Long afterId = 0L;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<BookingSlotView> bookings = nextChunk.apply(afterId);
+            if (bookings.isEmpty()) {
+                break;
+            }
+            processed += transition.applyAsInt(bookings);
+            afterId = bookings.get(bookings.size() - 1).getId();
+
+            if (bookings.size() < chunkSize) {
+                break;
+            }
+            // Extend the lease between chunks; stop if another instance took it over
+            if (!schedulerLeases.tryAcquire(LEASE_NAME, leaseDuration)) {
+                log.warn("Lost the booking lifecycle lease after {} transitions, stopping this run", processed);
+                break;
+            }
+        }
+        return processed;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class LifecycleRunResult {
+
+        private final int expired;
+        private final int checkedOut;
+        private final int reserved;
+    }
+}
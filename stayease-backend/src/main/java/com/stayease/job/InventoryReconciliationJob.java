@@ -0,0 +1,30 @@
+package com.stayease.job;
+
+import com.stayease.service.impl.InventoryCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Periodically repairs bed counters that drifted from the bed rows
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReconciliationJob {
+
+    private final InventoryCounters inventoryCounters;
+
+    @Scheduled(
+        initialDelayString = "${inventory.reconciliation.initial-delay-ms:60000}",
+        fixedDelayString = "${inventory.reconciliation.interval-ms:900000}"
+    )
+    public void reconcile() {
+        try {
+            InventoryCounters.ReconciliationResult result = inventoryCounters.reconcile();
+            log.debug("Inventory reconciliation finished: {} rooms and {} properties repaired",
+                result.getRoomsRepaired(), result.getPropertiesRepaired());
+        } catch (RuntimeException e) {
+            log.error("Inventory reconciliation failed", e);
+        }
+    }
+}
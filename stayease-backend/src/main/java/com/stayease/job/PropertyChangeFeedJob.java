@@ -0,0 +1,62 @@
+package com.stayease.job;
+
+import com.stayease.event.PropertyChangeFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Every instance polls the change feed; purging old rows is idempotent, so it needs no lease
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyChangeFeedJob {
+
+    private final PropertyChangeFeed propertyChangeFeed;
+
+    @Value("${property-changes.enabled:true}")
+    private boolean enabled;
+
+    @Value("${property-changes.overlap:10s}")
+    private Duration overlap;
+
+    @Value("${property-changes.batch-size:500}")
+    private int batchSize;
+
+    @Value("${property-changes.retention:1d}")
+    private Duration retention;
+
+    @Scheduled(
+        initialDelayString = "${property-changes.poll-initial-delay-ms:5000}",
+        fixedDelayString = "${property-changes.poll-interval-ms:1000}"
+    )
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            propertyChangeFeed.poll(overlap, batchSize);
+        } catch (RuntimeException e) {
+            log.error("Property change feed poll failed", e);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${property-changes.purge-initial-delay-ms:300000}",
+        fixedDelayString = "${property-changes.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = propertyChangeFeed.purge(retention);
+            log.debug("Purged {} property changes", deleted);
+        } catch (RuntimeException e) {
+            log.error("Property change purge failed", e);
+        }
+    }
+}
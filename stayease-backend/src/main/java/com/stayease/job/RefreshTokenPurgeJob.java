@@ -0,0 +1,35 @@
+package com.stayease.job;
+
+import com.stayease.service.impl.RefreshTokens;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Deletes refresh tokens some time after they expire
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokens refreshTokens;
+
+    @Value("${jwt.refresh.purge-retention:1d}")
+    private Duration retention;
+
+    @Scheduled(
+        initialDelayString = "${jwt.refresh.purge-initial-delay-ms:300000}",
+        fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        try {
+            int deleted = refreshTokens.purgeExpired(retention);
+            log.debug("Purged {} expired refresh tokens", deleted);
+        } catch (RuntimeException e) {
+            log.error("Refresh token purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.stayease.job;
+
+import com.stayease.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Database leases that let one instance at a time run a scheduled job
+@Component
+@Slf4j
+public class SchedulerLeases {
+
+    private static final LocalDateTime NEVER_LEASED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+
+    public SchedulerLeases(SchedulerLeaseRepository leaseRepository, PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.instanceId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // False while another instance holds the lease
+    public boolean tryAcquire(String name, Duration duration) {
+        return tryAcquire(name, duration, Duration.ZERO);
+    }
+
+    // A lease held by another instance is taken over only once it has been expired for takeoverGrace
+    public boolean tryAcquire(String name, Duration duration, Duration takeoverGrace) {
+        if (acquire(name, duration, takeoverGrace)) {
+            return true;
+        }
+        if (leaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.insert(name, NEVER_LEASED));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the row first; the conditional update below decides who wins
+            log.debug("Lease row '{}' was created concurrently", name);
+        }
+        return acquire(name, duration, takeoverGrace);
+    }
+
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status ->
+            leaseRepository.release(name, instanceId, LocalDateTime.now()));
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private boolean acquire(String name, Duration duration, Duration takeoverGrace) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+            leaseRepository.acquire(name, instanceId, now.minus(takeoverGrace), now.plus(duration)));
+        return updated != null && updated > 0;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
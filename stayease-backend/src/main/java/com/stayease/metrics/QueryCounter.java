@@ -0,0 +1,33 @@
+package com.stayease.metrics;
+
+// Counts the SQL statements the current thread runs between start() and stop()
+public final class QueryCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    public static int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    // Statements counted so far in the current scope, or -1 when no scope is active
+    public static int current() {
+        int[] count = CURRENT.get();
+        return count != null ? count[0] : -1;
+    }
+
+    static void increment() {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
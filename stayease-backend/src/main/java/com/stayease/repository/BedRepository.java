@@ -2,11 +2,23 @@ package com.stayease.repository;
 
 import com.stayease.entity.Bed;
 import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.repository.projection.BedSlotView;
+import com.stayease.repository.projection.BedStatusCountView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +27,15 @@ public interface BedRepository extends JpaRepository<Bed, Long> {
     
     List<Bed> findByRoomId(Long roomId);
     
+    List<Bed> findByRoomIdIn(Collection<Long> roomIds);
+    
     List<Bed> findByRoomIdAndStatus(Long roomId, BedStatus status);
     
+    // Beds in the owner's active rooms of active properties, the same set the listing counters cover
+    @Query("SELECT b.status AS status, COUNT(b) AS total FROM Bed b JOIN b.room r JOIN r.property p " +
+           "WHERE p.owner.id = :ownerId AND p.isActive = true AND r.isActive = true GROUP BY b.status")
+    List<BedStatusCountView> countByOwnerIdGroupByStatus(@Param("ownerId") Long ownerId);
+    
     Optional<Bed> findByRoomIdAndBedNumber(Long roomId, String bedNumber);
     
     boolean existsByRoomIdAndBedNumber(Long roomId, String bedNumber);
@@ -26,4 +45,65 @@ public interface BedRepository extends JpaRepository<Bed, Long> {
     
     @Query("SELECT b FROM Bed b WHERE b.room.property.id = :propertyId AND b.status = 'AVAILABLE'")
     List<Bed> findAvailableBedsByPropertyId(@Param("propertyId") Long propertyId);
+    
+    @Query("SELECT b.id AS id, r.id AS roomId, r.property.id AS propertyId, r.roomNumber AS roomNumber, " +
+           "b.bedNumber AS bedNumber, b.status AS status, r.isActive AS roomActive " +
+           "FROM Bed b JOIN b.room r WHERE b.id > :id ORDER BY b.id")
+    List<BedSlotView> findSlotsAfter(@Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT b.id AS id, r.id AS roomId, r.property.id AS propertyId, r.roomNumber AS roomNumber, " +
+           "b.bedNumber AS bedNumber, b.status AS status, r.isActive AS roomActive " +
+           "FROM Bed b JOIN b.room r WHERE r.property.id = :propertyId")
+    List<BedSlotView> findSlotsByPropertyId(@Param("propertyId") Long propertyId);
+    
+    // Frees beds with no booking that has started; a bed booked only for later is free until then
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bed b SET b.status = 'AVAILABLE', b.currentTenant = NULL, b.occupiedFrom = NULL, " +
+           "b.expectedCheckout = NULL, b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :bedIds AND b.status IN :releasable AND NOT EXISTS " +
+           "(SELECT o.id FROM Booking o WHERE o.bed.id = b.id AND o.status IN :active AND o.checkInDate <= :today)")
+    int releaseUnbooked(
+        @Param("bedIds") Collection<Long> bedIds,
+        @Param("releasable") Collection<BedStatus> releasable,
+        @Param("active") Collection<BookingStatus> active,
+        @Param("today") LocalDate today,
+        @Param("now") LocalDateTime now
+    );
+    
+    // Vacated beds whose next stay has already started
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bed b SET b.status = 'RESERVED', b.currentTenant = NULL, b.occupiedFrom = NULL, " +
+           "b.expectedCheckout = NULL, b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :bedIds AND b.status = 'OCCUPIED' " +
+           "AND NOT EXISTS (SELECT o.id FROM Booking o WHERE o.bed.id = b.id AND o.status = 'CHECKED_IN') " +
+           "AND EXISTS (SELECT o.id FROM Booking o WHERE o.bed.id = b.id AND o.status IN :active AND o.checkInDate <= :today)")
+    int reserveVacated(
+        @Param("bedIds") Collection<Long> bedIds,
+        @Param("active") Collection<BookingStatus> active,
+        @Param("today") LocalDate today,
+        @Param("now") LocalDateTime now
+    );
+    
+    // Free beds whose booked stay has started
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bed b SET b.status = 'RESERVED', b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :bedIds AND b.status = 'AVAILABLE' AND EXISTS (SELECT o.id FROM Booking o " +
+           "WHERE o.bed.id = b.id AND o.status IN ('PENDING', 'CONFIRMED') AND o.checkInDate <= :today)")
+    int reserveStarted(
+        @Param("bedIds") Collection<Long> bedIds,
+        @Param("today") LocalDate today,
+        @Param("now") LocalDateTime now
+    );
+    
+    // SELECT ... FOR UPDATE: serializes bookings and status changes on the same bed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT b FROM Bed b WHERE b.id = :id")
+    Optional<Bed> findByIdForUpdate(@Param("id") Long id);
+    
+    // Locks in id order so batch jobs and single bookings acquire bed locks in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT b FROM Bed b WHERE b.id IN :ids ORDER BY b.id")
+    List<Bed> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -2,16 +2,27 @@ package com.stayease.repository;
 
 import com.stayease.entity.Booking;
 import com.stayease.enums.BookingStatus;
+import com.stayease.repository.projection.BookedStayView;
+import com.stayease.repository.projection.BookingSlotView;
+import com.stayease.repository.projection.BookingStatusTotalsView;
+import com.stayease.repository.projection.BookingExportView;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -36,12 +47,115 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         Pageable pageable
     );
     
+    @Query("SELECT b FROM Booking b WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))")
+    Slice<Booking> findByUserIdBefore(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    @Query("SELECT b FROM Booking b WHERE b.property.owner.id = :ownerId " +
+           "AND (:status IS NULL OR b.status = :status) " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))")
+    Slice<Booking> findByOwnerIdAndStatusBefore(
+        @Param("ownerId") Long ownerId,
+        @Param("status") BookingStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.property.owner.id = :ownerId AND b.status = :status")
     long countByOwnerIdAndStatus(@Param("ownerId") Long ownerId, @Param("status") BookingStatus status);
     
-    boolean existsByBedIdAndStatusIn(Long bedId, List<BookingStatus> statuses);
+    // Count and summed monthly rent per status for all of an owner's bookings
+    @Query("SELECT b.status AS status, COUNT(b) AS total, COALESCE(SUM(b.monthlyRent), 0) AS monthlyRent " +
+           "FROM Booking b WHERE b.property.owner.id = :ownerId GROUP BY b.status")
+    List<BookingStatusTotalsView> sumByOwnerIdGroupByStatus(@Param("ownerId") Long ownerId);
+    
+    // Flat projection read forward-only in chunks of the fetch size; must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT b.id AS id, b.bookingReference AS bookingReference, b.status AS status, " +
+           "u.firstName AS tenantFirstName, u.lastName AS tenantLastName, u.email AS tenantEmail, u.phone AS tenantPhone, " +
+           "p.name AS propertyName, r.roomNumber AS roomNumber, bd.bedNumber AS bedNumber, " +
+           "b.checkInDate AS checkInDate, b.checkOutDate AS checkOutDate, " +
+           "b.monthlyRent AS monthlyRent, b.securityDeposit AS securityDeposit, b.createdAt AS createdAt " +
+           "FROM Booking b JOIN b.user u JOIN b.property p JOIN b.room r JOIN b.bed bd " +
+           "WHERE p.owner.id = :ownerId AND (:status IS NULL OR b.status = :status) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<BookingExportView> streamForExport(@Param("ownerId") Long ownerId, @Param("status") BookingStatus status);
+    
+    boolean existsByBedIdAndStatusInAndIdNotAndCheckInDateLessThanEqual(
+        Long bedId, List<BookingStatus> statuses, Long id, LocalDate checkInDate);
+    
+    boolean existsByUserIdAndPropertyIdAndStatusIn(Long userId, Long propertyId, List<BookingStatus> statuses);
     
-    @Query("SELECT b FROM Booking b WHERE b.checkInDate <= :date AND " +
-           "(b.checkOutDate IS NULL OR b.checkOutDate >= :date) AND b.status = 'CHECKED_IN'")
-    List<Booking> findActiveBookingsOnDate(@Param("date") LocalDate date);
+    // Stays are [checkIn, checkOut); a null check-out date is open-ended
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.bed.id = :bedId AND b.status IN :statuses " +
+           "AND (:checkOut IS NULL OR b.checkInDate < :checkOut) " +
+           "AND (b.checkOutDate IS NULL OR b.checkOutDate > :checkIn)")
+    boolean existsOverlappingBooking(
+        @Param("bedId") Long bedId,
+        @Param("checkIn") LocalDate checkIn,
+        @Param("checkOut") LocalDate checkOut,
+        @Param("statuses") List<BookingStatus> statuses
+    );
+    
+    @Query("SELECT b.id AS id, b.bed.id AS bedId, b.checkInDate AS checkInDate, b.checkOutDate AS checkOutDate " +
+           "FROM Booking b WHERE b.status IN :statuses AND b.id > :id ORDER BY b.id")
+    List<BookedStayView> findStaysAfter(
+        @Param("statuses") List<BookingStatus> statuses,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    @Query("SELECT b.id AS id, b.bed.id AS bedId, b.checkInDate AS checkInDate, b.checkOutDate AS checkOutDate " +
+           "FROM Booking b WHERE b.property.id = :propertyId AND b.status IN :statuses")
+    List<BookedStayView> findStaysByPropertyId(
+        @Param("propertyId") Long propertyId,
+        @Param("statuses") List<BookingStatus> statuses
+    );
+    
+    @Query("SELECT b.id AS id, b.bed.id AS bedId, b.room.id AS roomId, b.property.id AS propertyId " +
+           "FROM Booking b WHERE b.status = 'PENDING' AND b.createdAt < :createdBefore AND b.id > :afterId " +
+           "ORDER BY b.id")
+    List<BookingSlotView> findPendingCreatedBefore(
+        @Param("createdBefore") LocalDateTime createdBefore,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT b.id AS id, b.bed.id AS bedId, b.room.id AS roomId, b.property.id AS propertyId " +
+           "FROM Booking b WHERE b.status = 'CHECKED_IN' AND b.checkOutDate <= :date AND b.id > :afterId " +
+           "ORDER BY b.id")
+    List<BookingSlotView> findCheckedInDueBy(
+        @Param("date") LocalDate date,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT b.id AS id, b.bed.id AS bedId, b.room.id AS roomId, b.property.id AS propertyId " +
+           "FROM Booking b WHERE b.status IN ('PENDING', 'CONFIRMED') AND b.checkInDate <= :date " +
+           "AND b.bed.status = 'AVAILABLE' AND b.id > :afterId ORDER BY b.id")
+    List<BookingSlotView> findStartedOnAvailableBeds(
+        @Param("date") LocalDate date,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    // Conditional on the current status, so a booking changed in the meantime is left alone
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :to, b.updatedAt = :now, b.version = b.version + 1 " +
+           "WHERE b.id IN :ids AND b.status = :from")
+    int transitionStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("from") BookingStatus from,
+        @Param("to") BookingStatus to,
+        @Param("now") LocalDateTime now
+    );
 }
\ No newline at end of file
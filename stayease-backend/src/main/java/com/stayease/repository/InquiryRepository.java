@@ -2,6 +2,7 @@ package com.stayease.repository;
 
 import com.stayease.entity.Inquiry;
 import com.stayease.enums.InquiryStatus;
+import com.stayease.repository.projection.InquiryStatusCountView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,9 +19,15 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     
     List<Inquiry> findByPropertyIdAndStatus(Long propertyId, InquiryStatus status);
     
-    @Query("SELECT i FROM Inquiry i WHERE i.property.owner.id = :ownerId")
+    // Owner inbox; fetches the property along with each inquiry since the inbox shows its name
+    @Query(value = "SELECT i FROM Inquiry i JOIN FETCH i.property p WHERE p.owner.id = :ownerId",
+           countQuery = "SELECT COUNT(i) FROM Inquiry i WHERE i.property.owner.id = :ownerId")
     Page<Inquiry> findByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
     
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.property.owner.id = :ownerId AND i.status = :status")
     long countByOwnerIdAndStatus(@Param("ownerId") Long ownerId, @Param("status") InquiryStatus status);
+    
+    @Query("SELECT i.status AS status, COUNT(i) AS total FROM Inquiry i " +
+           "WHERE i.property.owner.id = :ownerId GROUP BY i.status")
+    List<InquiryStatusCountView> countByOwnerIdGroupByStatus(@Param("ownerId") Long ownerId);
 }
\ No newline at end of file
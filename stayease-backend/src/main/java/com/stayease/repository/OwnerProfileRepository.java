@@ -1,9 +1,16 @@
 package com.stayease.repository;
 
 import com.stayease.entity.OwnerProfile;
+import com.stayease.repository.projection.OwnerSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +19,13 @@ public interface OwnerProfileRepository extends JpaRepository<OwnerProfile, Long
     Optional<OwnerProfile> findByUserId(Long userId);
     
     boolean existsByUserId(Long userId);
+    
+    @Query("SELECT o.id AS id, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.phone AS phone, o.businessName AS businessName " +
+           "FROM OwnerProfile o JOIN o.user u WHERE o.id IN :ownerIds")
+    List<OwnerSummaryView> findSummariesByIdIn(@Param("ownerIds") Collection<Long> ownerIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OwnerProfile o SET o.avgRating = :avgRating WHERE o.id = :ownerId")
+    int updateAvgRating(@Param("ownerId") Long ownerId, @Param("avgRating") BigDecimal avgRating);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.stayease.repository;
+
+import com.stayease.entity.PropertyChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PropertyChangeRepository extends JpaRepository<PropertyChange, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM PropertyChange c")
+    long findMaxId();
+
+    @Query("SELECT c FROM PropertyChange c WHERE c.id > :afterId AND c.origin <> :origin ORDER BY c.id")
+    List<PropertyChange> findFromOthersAfter(@Param("afterId") Long afterId, @Param("origin") String origin,
+                                             Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM PropertyChange c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
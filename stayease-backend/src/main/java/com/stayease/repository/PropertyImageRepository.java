@@ -1,9 +1,13 @@
 package com.stayease.repository;
 
 import com.stayease.entity.PropertyImage;
+import com.stayease.repository.projection.PropertyImageView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +16,12 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, Lo
     
     List<PropertyImage> findByPropertyIdOrderByDisplayOrderAsc(Long propertyId);
     
+    List<PropertyImage> findByPropertyIdInOrderByDisplayOrderAsc(Collection<Long> propertyIds);
+    
+    @Query("SELECT i.property.id AS propertyId, i.imageUrl AS imageUrl, i.isPrimary AS isPrimary " +
+           "FROM PropertyImage i WHERE i.property.id IN :propertyIds ORDER BY i.displayOrder ASC")
+    List<PropertyImageView> findImageViewsByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+    
     Optional<PropertyImage> findByPropertyIdAndIsPrimaryTrue(Long propertyId);
     
     void deleteByPropertyId(Long propertyId);
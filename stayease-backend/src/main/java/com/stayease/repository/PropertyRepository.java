@@ -3,15 +3,23 @@ package com.stayease.repository;
 import com.stayease.entity.Property;
 import com.stayease.enums.GenderPreference;
 import com.stayease.enums.PropertyType;
+import com.stayease.repository.projection.PropertyAmenityView;
+import com.stayease.repository.projection.PropertyCardView;
+import com.stayease.repository.projection.PropertyTextView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
@@ -24,6 +32,8 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     // Find active properties
     Page<Property> findByIsActiveTrue(Pageable pageable);
     
+    boolean existsByIdAndIsActiveTrue(Long id);
+    
     // Find featured properties
     List<Property> findByIsFeaturedTrueAndIsActiveTrue();
     
@@ -55,10 +65,197 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Property> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
+    // Search result cards: same filters, card columns only
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.propertyType AS propertyType, " +
+           "p.genderPreference AS genderPreference, p.city AS city, p.state AS state, " +
+           "p.minRent AS minRent, p.maxRent AS maxRent, p.totalBeds AS totalBeds, " +
+           "p.availableBeds AS availableBeds, p.avgRating AS avgRating, p.totalReviews AS totalReviews, " +
+           "p.isVerified AS isVerified, p.isFeatured AS isFeatured, p.createdAt AS createdAt, " +
+           "p.latitude AS latitude, p.longitude AS longitude " +
+           "FROM Property p WHERE p.isActive = true " +
+           "AND (:city IS NULL OR LOWER(p.city) = LOWER(:city)) " +
+           "AND (:propertyType IS NULL OR p.propertyType = :propertyType) " +
+           "AND (:genderPreference IS NULL OR p.genderPreference = :genderPreference) " +
+           "AND (:minRent IS NULL OR p.minRent >= :minRent) " +
+           "AND (:maxRent IS NULL OR p.maxRent <= :maxRent) " +
+           "AND (:availableBeds IS NULL OR p.availableBeds >= :availableBeds)",
+           countQuery = "SELECT COUNT(p) FROM Property p WHERE p.isActive = true " +
+           "AND (:city IS NULL OR LOWER(p.city) = LOWER(:city)) " +
+           "AND (:propertyType IS NULL OR p.propertyType = :propertyType) " +
+           "AND (:genderPreference IS NULL OR p.genderPreference = :genderPreference) " +
+           "AND (:minRent IS NULL OR p.minRent >= :minRent) " +
+           "AND (:maxRent IS NULL OR p.maxRent <= :maxRent) " +
+           "AND (:availableBeds IS NULL OR p.availableBeds >= :availableBeds)")
+    Page<PropertyCardView> searchPropertyCards(
+        @Param("city") String city,
+        @Param("propertyType") PropertyType propertyType,
+        @Param("genderPreference") GenderPreference genderPreference,
+        @Param("minRent") BigDecimal minRent,
+        @Param("maxRent") BigDecimal maxRent,
+        @Param("availableBeds") Integer availableBeds,
+        Pageable pageable
+    );
+    
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.propertyType AS propertyType, " +
+           "p.genderPreference AS genderPreference, p.city AS city, p.state AS state, " +
+           "p.minRent AS minRent, p.maxRent AS maxRent, p.totalBeds AS totalBeds, " +
+           "p.availableBeds AS availableBeds, p.avgRating AS avgRating, p.totalReviews AS totalReviews, " +
+           "p.isVerified AS isVerified, p.isFeatured AS isFeatured, p.createdAt AS createdAt, " +
+           "p.latitude AS latitude, p.longitude AS longitude " +
+           "FROM Property p WHERE p.isActive = true " +
+           "AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+           countQuery = "SELECT COUNT(p) FROM Property p WHERE p.isActive = true " +
+           "AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<PropertyCardView> searchPropertyCardsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Card rows in creation order, used to build the in-memory search index
+    @Query("SELECT p.id AS id, p.name AS name, p.propertyType AS propertyType, " +
+           "p.genderPreference AS genderPreference, p.city AS city, p.state AS state, " +
+           "p.minRent AS minRent, p.maxRent AS maxRent, p.totalBeds AS totalBeds, " +
+           "p.availableBeds AS availableBeds, p.avgRating AS avgRating, p.totalReviews AS totalReviews, " +
+           "p.isVerified AS isVerified, p.isFeatured AS isFeatured, p.createdAt AS createdAt, " +
+           "p.latitude AS latitude, p.longitude AS longitude " +
+           "FROM Property p WHERE p.isActive = true " +
+           "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<PropertyCardView> findActiveCardsAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    @Query("SELECT p.id AS id, p.name AS name, p.propertyType AS propertyType, " +
+           "p.genderPreference AS genderPreference, p.city AS city, p.state AS state, " +
+           "p.minRent AS minRent, p.maxRent AS maxRent, p.totalBeds AS totalBeds, " +
+           "p.availableBeds AS availableBeds, p.avgRating AS avgRating, p.totalReviews AS totalReviews, " +
+           "p.isVerified AS isVerified, p.isFeatured AS isFeatured, p.createdAt AS createdAt, " +
+           "p.latitude AS latitude, p.longitude AS longitude " +
+           "FROM Property p WHERE p.id = :id AND p.isActive = true")
+    Optional<PropertyCardView> findActiveCardById(@Param("id") Long id);
+    
+    // Cards inside a bounding box with the regular search filters; only used while the search index is loading
+    @Query("SELECT p.id AS id, p.name AS name, p.propertyType AS propertyType, " +
+           "p.genderPreference AS genderPreference, p.city AS city, p.state AS state, " +
+           "p.minRent AS minRent, p.maxRent AS maxRent, p.totalBeds AS totalBeds, " +
+           "p.availableBeds AS availableBeds, p.avgRating AS avgRating, p.totalReviews AS totalReviews, " +
+           "p.isVerified AS isVerified, p.isFeatured AS isFeatured, p.createdAt AS createdAt, " +
+           "p.latitude AS latitude, p.longitude AS longitude " +
+           "FROM Property p WHERE p.isActive = true " +
+           "AND p.latitude BETWEEN :minLatitude AND :maxLatitude " +
+           "AND p.longitude BETWEEN :minLongitude AND :maxLongitude " +
+           "AND (:city IS NULL OR LOWER(p.city) = LOWER(:city)) " +
+           "AND (:propertyType IS NULL OR p.propertyType = :propertyType) " +
+           "AND (:genderPreference IS NULL OR p.genderPreference = :genderPreference) " +
+           "AND (:minRent IS NULL OR p.minRent >= :minRent) " +
+           "AND (:maxRent IS NULL OR p.maxRent <= :maxRent) " +
+           "AND (:availableBeds IS NULL OR p.availableBeds >= :availableBeds)")
+    List<PropertyCardView> findCardsInBoundingBox(
+        @Param("city") String city,
+        @Param("propertyType") PropertyType propertyType,
+        @Param("genderPreference") GenderPreference genderPreference,
+        @Param("minRent") BigDecimal minRent,
+        @Param("maxRent") BigDecimal maxRent,
+        @Param("availableBeds") Integer availableBeds,
+        @Param("minLatitude") BigDecimal minLatitude,
+        @Param("maxLatitude") BigDecimal maxLatitude,
+        @Param("minLongitude") BigDecimal minLongitude,
+        @Param("maxLongitude") BigDecimal maxLongitude
+    );
+    
+    // Searchable text in creation order, used to build the keyword index
+    @Query("SELECT p.id AS id, p.name AS name, p.city AS city, p.addressLine1 AS addressLine1, " +
+           "p.addressLine2 AS addressLine2, p.description AS description, p.createdAt AS createdAt " +
+           "FROM Property p WHERE p.isActive = true " +
+           "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<PropertyTextView> findActiveTextAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    @Query("SELECT p.id AS id, p.name AS name, p.city AS city, p.addressLine1 AS addressLine1, " +
+           "p.addressLine2 AS addressLine2, p.description AS description, p.createdAt AS createdAt " +
+           "FROM Property p WHERE p.id = :id AND p.isActive = true")
+    Optional<PropertyTextView> findActiveTextById(@Param("id") Long id);
+    
+    // Keyset pages: seek past (createdAt, id) of the previous page, no COUNT query
+    @Query("SELECT p FROM Property p WHERE p.isActive = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))")
+    Slice<Property> findActiveBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    @Query("SELECT p FROM Property p WHERE p.isActive = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "AND (:city IS NULL OR LOWER(p.city) = LOWER(:city)) " +
+           "AND (:propertyType IS NULL OR p.propertyType = :propertyType) " +
+           "AND (:genderPreference IS NULL OR p.genderPreference = :genderPreference) " +
+           "AND (:minRent IS NULL OR p.minRent >= :minRent) " +
+           "AND (:maxRent IS NULL OR p.maxRent <= :maxRent) " +
+           "AND (:availableBeds IS NULL OR p.availableBeds >= :availableBeds)")
+    Slice<Property> searchPropertiesBefore(
+        @Param("city") String city,
+        @Param("propertyType") PropertyType propertyType,
+        @Param("genderPreference") GenderPreference genderPreference,
+        @Param("minRent") BigDecimal minRent,
+        @Param("maxRent") BigDecimal maxRent,
+        @Param("availableBeds") Integer availableBeds,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
     // Count by owner
     long countByOwnerId(Long ownerId);
     
     // Get distinct cities
     @Query("SELECT DISTINCT p.city FROM Property p WHERE p.isActive = true ORDER BY p.city")
     List<String> findDistinctCities();
+    
+    // Amenity names for a page of properties
+    @Query("SELECT p.id AS propertyId, a.name AS amenityName FROM Property p JOIN p.amenities a " +
+           "WHERE p.id IN :propertyIds")
+    List<PropertyAmenityView> findAmenityNamesByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Property p SET p.avgRating = :avgRating, p.totalReviews = :totalReviews WHERE p.id = :propertyId")
+    int updateRating(
+        @Param("propertyId") Long propertyId,
+        @Param("avgRating") BigDecimal avgRating,
+        @Param("totalReviews") int totalReviews
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Property p SET p.totalRooms = COALESCE(p.totalRooms, 0) + :roomDelta, " +
+           "p.totalBeds = COALESCE(p.totalBeds, 0) + :totalBedsDelta, " +
+           "p.availableBeds = COALESCE(p.availableBeds, 0) + :availableBedsDelta " +
+           "WHERE p.id = :propertyId")
+    int adjustInventory(
+        @Param("propertyId") Long propertyId,
+        @Param("roomDelta") int roomDelta,
+        @Param("totalBedsDelta") int totalBedsDelta,
+        @Param("availableBedsDelta") int availableBedsDelta
+    );
+    
+    // Properties whose room and bed totals no longer match their rooms
+    @Query("SELECT p.id FROM Property p WHERE " +
+           "COALESCE(p.totalRooms, -1) <> (SELECT COUNT(r) FROM Room r WHERE r.property.id = p.id) " +
+           "OR COALESCE(p.totalBeds, -1) <> (SELECT COALESCE(SUM(r.totalBeds), 0) FROM Room r WHERE r.property.id = p.id) " +
+           "OR COALESCE(p.availableBeds, -1) <> (SELECT COALESCE(SUM(r.availableBeds), 0) FROM Room r WHERE r.property.id = p.id)")
+    List<Long> findIdsWithInventoryDrift();
+    
+    @Modifying
+    @Query("UPDATE Property p SET " +
+           "p.totalRooms = (SELECT COUNT(r) FROM Room r WHERE r.property.id = p.id), " +
+           "p.totalBeds = (SELECT COALESCE(SUM(r.totalBeds), 0) FROM Room r WHERE r.property.id = p.id), " +
+           "p.availableBeds = (SELECT COALESCE(SUM(r.availableBeds), 0) FROM Room r WHERE r.property.id = p.id) " +
+           "WHERE p.id IN :propertyIds")
+    int recountInventory(@Param("propertyIds") Collection<Long> propertyIds);
 }
\ No newline at end of file
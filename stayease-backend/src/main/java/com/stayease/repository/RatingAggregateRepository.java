@@ -0,0 +1,31 @@
+package com.stayease.repository;
+
+import com.stayease.entity.RatingAggregate;
+import com.stayease.entity.RatingAggregateId;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, RatingAggregateId> {
+    
+    // Serializes concurrent review changes of the same property or owner
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT a FROM RatingAggregate a WHERE a.id = :id")
+    Optional<RatingAggregate> findByIdForUpdate(@Param("id") RatingAggregateId id);
+    
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregates (subject_type, subject_id, review_count, rating_sum, " +
+           "cleanliness_sum, cleanliness_count, food_sum, food_count, staff_sum, staff_count, value_sum, value_count) " +
+           "VALUES (:subjectType, :subjectId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int insertEmpty(@Param("subjectType") String subjectType, @Param("subjectId") Long subjectId);
+}
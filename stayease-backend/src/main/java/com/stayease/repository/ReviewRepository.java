@@ -3,11 +3,13 @@ package com.stayease.repository;
 import com.stayease.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +17,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     Page<Review> findByPropertyIdAndIsVisibleTrue(Long propertyId, Pageable pageable);
     
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.property.id = :propertyId AND r.isVisible = true " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))")
+    Slice<Review> findVisibleByPropertyIdBefore(
+        @Param("propertyId") Long propertyId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
     Page<Review> findByUserId(Long userId, Pageable pageable);
     
     Optional<Review> findByUserIdAndPropertyId(Long userId, Long propertyId);
@@ -1,12 +1,15 @@
 package com.stayease.repository;
 
 import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
 import com.stayease.enums.RoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,9 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     
     List<Room> findByPropertyId(Long propertyId);
     
+    @Query("SELECT r.roomNumber FROM Room r WHERE r.property.id = :propertyId")
+    List<String> findRoomNumbersByPropertyId(@Param("propertyId") Long propertyId);
+    
     Optional<Room> findByPropertyIdAndRoomNumber(Long propertyId, String roomNumber);
     
     boolean existsByPropertyIdAndRoomNumber(Long propertyId, String roomNumber);
@@ -31,4 +37,20 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Integer getAvailableBedsByPropertyId(@Param("propertyId") Long propertyId);
     
     long countByPropertyId(Long propertyId);
+    
+    // Applied in the caller's transaction; the row lock is held until commit, so concurrent deltas serialize
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Room r SET r.availableBeds = r.availableBeds + :delta WHERE r.id = :roomId")
+    int adjustAvailableBeds(@Param("roomId") Long roomId, @Param("delta") int delta);
+    
+    // Rooms whose availableBeds no longer matches their beds
+    @Query("SELECT r.id FROM Room r WHERE COALESCE(r.availableBeds, -1) <> " +
+           "(SELECT COUNT(b) FROM Bed b WHERE b.room.id = r.id AND b.status = :status)")
+    List<Long> findIdsWithAvailableBedsDrift(@Param("status") BedStatus status);
+    
+    @Modifying
+    @Query("UPDATE Room r SET r.availableBeds = " +
+           "(SELECT COUNT(b) FROM Bed b WHERE b.room.id = r.id AND b.status = :status) " +
+           "WHERE r.id IN :roomIds")
+    int recountAvailableBeds(@Param("roomIds") Collection<Long> roomIds, @Param("status") BedStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.stayease.repository;
+
+import com.stayease.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+    
+    // Takes over an expired lease or extends one this owner already holds
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leasedUntil = :until " +
+           "WHERE l.name = :name AND (l.leasedUntil < :expiredBefore OR l.owner = :owner)")
+    int acquire(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("expiredBefore") LocalDateTime expiredBefore,
+        @Param("until") LocalDateTime until
+    );
+    
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leasedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, leased_until) VALUES (:name, :leasedUntil)", nativeQuery = true)
+    int insert(@Param("name") String name, @Param("leasedUntil") LocalDateTime leasedUntil);
+}
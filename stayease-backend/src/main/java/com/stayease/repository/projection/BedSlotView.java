@@ -0,0 +1,20 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.BedStatus;
+
+public interface BedSlotView {
+
+    Long getId();
+
+    Long getRoomId();
+
+    Long getPropertyId();
+
+    String getRoomNumber();
+
+    String getBedNumber();
+
+    BedStatus getStatus();
+
+    Boolean getRoomActive();
+}
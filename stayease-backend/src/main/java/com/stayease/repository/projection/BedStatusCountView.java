@@ -0,0 +1,10 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.BedStatus;
+
+public interface BedStatusCountView {
+
+    BedStatus getStatus();
+
+    Long getTotal();
+}
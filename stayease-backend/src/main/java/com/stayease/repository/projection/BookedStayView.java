@@ -0,0 +1,14 @@
+package com.stayease.repository.projection;
+
+import java.time.LocalDate;
+
+public interface BookedStayView {
+
+    Long getId();
+
+    Long getBedId();
+
+    LocalDate getCheckInDate();
+
+    LocalDate getCheckOutDate();
+}
@@ -0,0 +1,40 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface BookingExportView {
+
+    Long getId();
+
+    String getBookingReference();
+
+    BookingStatus getStatus();
+
+    String getTenantFirstName();
+
+    String getTenantLastName();
+
+    String getTenantEmail();
+
+    String getTenantPhone();
+
+    String getPropertyName();
+
+    String getRoomNumber();
+
+    String getBedNumber();
+
+    LocalDate getCheckInDate();
+
+    LocalDate getCheckOutDate();
+
+    BigDecimal getMonthlyRent();
+
+    BigDecimal getSecurityDeposit();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package com.stayease.repository.projection;
+
+public interface BookingSlotView {
+
+    Long getId();
+
+    Long getBedId();
+
+    Long getRoomId();
+
+    Long getPropertyId();
+}
@@ -0,0 +1,14 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.BookingStatus;
+
+import java.math.BigDecimal;
+
+public interface BookingStatusTotalsView {
+
+    BookingStatus getStatus();
+
+    Long getTotal();
+
+    BigDecimal getMonthlyRent();
+}
@@ -0,0 +1,10 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.InquiryStatus;
+
+public interface InquiryStatusCountView {
+
+    InquiryStatus getStatus();
+
+    Long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.stayease.repository.projection;
+
+public interface OwnerSummaryView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getPhone();
+
+    String getBusinessName();
+}
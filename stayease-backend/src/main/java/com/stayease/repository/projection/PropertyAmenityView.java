@@ -0,0 +1,8 @@
+package com.stayease.repository.projection;
+
+public interface PropertyAmenityView {
+
+    Long getPropertyId();
+
+    String getAmenityName();
+}
@@ -0,0 +1,45 @@
+package com.stayease.repository.projection;
+
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Columns of a search result card, selected without loading Property
+public interface PropertyCardView {
+
+    Long getId();
+
+    String getName();
+
+    PropertyType getPropertyType();
+
+    GenderPreference getGenderPreference();
+
+    String getCity();
+
+    String getState();
+
+    BigDecimal getMinRent();
+
+    BigDecimal getMaxRent();
+
+    Integer getTotalBeds();
+
+    Integer getAvailableBeds();
+
+    BigDecimal getAvgRating();
+
+    Integer getTotalReviews();
+
+    Boolean getIsVerified();
+
+    Boolean getIsFeatured();
+
+    LocalDateTime getCreatedAt();
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+}
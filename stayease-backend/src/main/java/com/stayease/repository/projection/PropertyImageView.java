@@ -0,0 +1,10 @@
+package com.stayease.repository.projection;
+
+public interface PropertyImageView {
+
+    Long getPropertyId();
+
+    String getImageUrl();
+
+    Boolean getIsPrimary();
+}
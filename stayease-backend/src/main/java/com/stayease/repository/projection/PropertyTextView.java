@@ -0,0 +1,20 @@
+package com.stayease.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface PropertyTextView {
+
+    Long getId();
+
+    String getName();
+
+    String getCity();
+
+    String getAddressLine1();
+
+    String getAddressLine2();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,129 @@
+package com.stayease.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Immutable grid of indexed property coordinates for radius and bounding box searches
+public final class GeoGrid {
+
+    static final double CELL_DEGREES = 0.01;
+    private static final int LATITUDE_CELLS = (int) Math.round(180 / CELL_DEGREES) + 1;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES) + 1;
+
+    private static final int DOC_BITS = 29;
+    private static final long DOC_MASK = (1L << DOC_BITS) - 1;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double KM_PER_DEGREE_LATITUDE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private static final GeoGrid EMPTY = new GeoGrid(new long[0], new double[0], new double[0]);
+
+    private final long[] entries;
+    private final double[] entryLatitudes;
+    private final double[] entryLongitudes;
+
+    private GeoGrid(long[] entries, double[] entryLatitudes, double[] entryLongitudes) {
+        this.entries = entries;
+        this.entryLatitudes = entryLatitudes;
+        this.entryLongitudes = entryLongitudes;
+    }
+
+    public static GeoGrid empty() {
+        return EMPTY;
+    }
+
+    // Indexes the docs set in `docs`; coordinates stored as NaN are skipped
+    public static GeoGrid build(double[] latitudes, double[] longitudes, BitSet docs) {
+        long[] entries = new long[docs.cardinality()];
+        int n = 0;
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            if (Double.isNaN(latitudes[doc]) || Double.isNaN(longitudes[doc])) {
+                continue;
+            }
+            long cell = (long) latitudeCell(latitudes[doc]) * LONGITUDE_CELLS + longitudeCell(longitudes[doc]);
+            entries[n++] = (cell << DOC_BITS) | doc;
+        }
+        Arrays.sort(entries, 0, n);
+        if (n < entries.length) {
+            entries = Arrays.copyOf(entries, n);
+        }
+
+        double[] entryLatitudes = new double[n];
+        double[] entryLongitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            int doc = (int) (entries[i] & DOC_MASK);
+            entryLatitudes[i] = latitudes[doc];
+            entryLongitudes[i] = longitudes[doc];
+        }
+        return new GeoGrid(entries, entryLatitudes, entryLongitudes);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // Calls the visitor for every entry whose coordinates fall inside the box, edges included
+    public void forEachInBox(double minLatitude, double minLongitude,
+                             double maxLatitude, double maxLongitude,
+                             Visitor visitor) {
+        if (entries.length == 0 || minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            return;
+        }
+        int fromRow = latitudeCell(minLatitude);
+        int toRow = latitudeCell(maxLatitude);
+        int fromColumn = longitudeCell(minLongitude);
+        int toColumn = longitudeCell(maxLongitude);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            long rowStart = (long) row * LONGITUDE_CELLS;
+            int from = lowerBound((rowStart + fromColumn) << DOC_BITS);
+            int to = lowerBound((rowStart + toColumn + 1) << DOC_BITS);
+            for (int i = from; i < to; i++) {
+                double latitude = entryLatitudes[i];
+                double longitude = entryLongitudes[i];
+                if (latitude >= minLatitude && latitude <= maxLatitude
+                        && longitude >= minLongitude && longitude <= maxLongitude) {
+                    visitor.visit((int) (entries[i] & DOC_MASK), latitude, longitude);
+                }
+            }
+        }
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+            * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int latitudeCell(double latitude) {
+        int cell = (int) Math.floor((latitude + 90) / CELL_DEGREES);
+        return Math.max(0, Math.min(LATITUDE_CELLS - 1, cell));
+    }
+
+    private static int longitudeCell(double longitude) {
+        int cell = (int) Math.floor((longitude + 180) / CELL_DEGREES);
+        return Math.max(0, Math.min(LONGITUDE_CELLS - 1, cell));
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(int doc, double latitude, double longitude);
+    }
+}
@@ -0,0 +1,59 @@
+package com.stayease.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Area of a geo search: a circle around a point, or a bounding box ordered by distance from its centre
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoQuery {
+
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+    private final Double radiusKm;
+
+    public static GeoQuery radius(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / GeoGrid.KM_PER_DEGREE_LATITUDE;
+        // A circle is widest in longitude at its edge nearest the pole
+        double poleward = Math.min(90, Math.abs(latitude) + latitudeDelta);
+        double cosLatitude = Math.cos(Math.toRadians(poleward));
+        double longitudeDelta = cosLatitude < 1e-6 ? 180 : radiusKm / (GeoGrid.KM_PER_DEGREE_LATITUDE * cosLatitude);
+        return new GeoQuery(
+            latitude,
+            longitude,
+            Math.max(-90, latitude - latitudeDelta),
+            Math.max(-180, longitude - longitudeDelta),
+            Math.min(90, latitude + latitudeDelta),
+            Math.min(180, longitude + longitudeDelta),
+            radiusKm
+        );
+    }
+
+    public static GeoQuery boundingBox(double minLatitude, double minLongitude,
+                                       double maxLatitude, double maxLongitude) {
+        return new GeoQuery(
+            (minLatitude + maxLatitude) / 2,
+            (minLongitude + maxLongitude) / 2,
+            minLatitude,
+            minLongitude,
+            maxLatitude,
+            maxLongitude,
+            null
+        );
+    }
+
+    // Distance from the centre if the point is inside the area, otherwise -1
+    public double distanceIfInside(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude
+                || longitude < minLongitude || longitude > maxLongitude) {
+            return -1;
+        }
+        double distance = GeoGrid.distanceKm(centerLatitude, centerLongitude, latitude, longitude);
+        return radiusKm != null && distance > radiusKm ? -1 : distance;
+    }
+}
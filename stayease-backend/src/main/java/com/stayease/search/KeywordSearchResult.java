@@ -0,0 +1,14 @@
+package com.stayease.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class KeywordSearchResult {
+
+    private final long totalElements;
+    private final List<Long> propertyIds;
+}
@@ -0,0 +1,415 @@
+package com.stayease.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over the searchable text of active properties
+public class PropertyKeywordIndex {
+
+    static final float NAME_BOOST = 3.0f;
+    static final float CITY_BOOST = 2.0f;
+    static final float ADDRESS_BOOST = 1.5f;
+    static final float DESCRIPTION_BOOST = 1.0f;
+
+    // Prefix matches score lower than an exact term, and very short prefixes are capped
+    private static final float PREFIX_WEIGHT = 0.6f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    // Term frequency saturation, as in BM25: repeating a word in a long description only helps so much
+    private static final float TF_SATURATION = 1.2f;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+        "of", "on", "or", "the", "this", "to", "with"
+    );
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int docCount;
+    private long[] propertyIds = new long[INITIAL_CAPACITY];
+    private long[] createdAtKeys = new long[INITIAL_CAPACITY];
+    private long[] textFingerprints = new long[INITIAL_CAPACITY];
+    private final BitSet liveDocs = new BitSet();
+    private final Map<Long, Integer> docsByPropertyId = new HashMap<>();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    // Returns false when the property is already indexed with the same text
+    public boolean upsert(Long propertyId, LocalDateTime createdAt,
+                          String name, String city, String address, String description) {
+        long createdAtKey = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0L;
+        long fingerprint = fingerprint(name, city, address, description);
+        lock.readLock().lock();
+        try {
+            if (isCurrent(propertyId, createdAtKey, fingerprint)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, name, NAME_BOOST);
+        addField(weights, city, CITY_BOOST);
+        addField(weights, address, ADDRESS_BOOST);
+        addField(weights, description, DESCRIPTION_BOOST);
+
+        lock.writeLock().lock();
+        try {
+            if (isCurrent(propertyId, createdAtKey, fingerprint)) {
+                return false;
+            }
+            // Postings are append-only, so an update retires the old doc and indexes a new one
+            Integer previous = docsByPropertyId.remove(propertyId);
+            if (previous != null) {
+                liveDocs.clear(previous);
+            }
+
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            propertyIds[doc] = propertyId;
+            createdAtKeys[doc] = createdAtKey;
+            textFingerprints[doc] = fingerprint;
+            docsByPropertyId.put(propertyId, doc);
+            liveDocs.set(doc);
+
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                float raw = entry.getValue();
+                float weight = raw * (1 + TF_SATURATION) / (raw + TF_SATURATION);
+                terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, weight);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByPropertyId.remove(propertyId);
+            if (doc != null) {
+                liveDocs.clear(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByPropertyId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public KeywordSearchResult search(String query, int page, int size) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty() || size <= 0) {
+            return new KeywordSearchResult(0, Collections.emptyList());
+        }
+
+        compactIfNeeded();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) liveDocs.clone();
+            float[] scores = new float[docCount];
+            int liveCount = docsByPropertyId.size();
+
+            for (int i = 0; i < queryTerms.size() && !candidates.isEmpty(); i++) {
+                String term = queryTerms.get(i);
+                BitSet termDocs = new BitSet(docCount);
+
+                Postings exact = terms.get(term);
+                if (exact != null) {
+                    exact.accumulate(scores, termDocs, idf(exact.size, liveCount));
+                }
+                boolean lastTerm = i == queryTerms.size() - 1;
+                if (lastTerm && term.length() >= MIN_PREFIX_LENGTH) {
+                    for (Postings expansion : prefixExpansions(term)) {
+                        expansion.accumulate(scores, termDocs, idf(expansion.size, liveCount) * PREFIX_WEIGHT);
+                    }
+                }
+                candidates.and(termDocs);
+            }
+
+            long total = candidates.cardinality();
+            long offset = (long) page * size;
+            if (offset >= total) {
+                return new KeywordSearchResult(total, Collections.emptyList());
+            }
+
+            int[] ranked = topDocs(candidates, scores, (int) Math.min(total, offset + size));
+            List<Long> ids = new ArrayList<>(size);
+            for (int i = (int) offset; i < ranked.length; i++) {
+                ids.add(propertyIds[ranked[i]]);
+            }
+            return new KeywordSearchResult(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isCurrent(Long propertyId, long createdAtKey, long fingerprint) {
+        Integer doc = docsByPropertyId.get(propertyId);
+        return doc != null && createdAtKeys[doc] == createdAtKey && textFingerprints[doc] == fingerprint;
+    }
+
+    // 64-bit FNV-1a over the raw fields; a null field and an empty one hash differently
+    private static long fingerprint(String... fields) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String field : fields) {
+            if (field == null) {
+                hash = (hash ^ 0xffff) * FNV_PRIME;
+                continue;
+            }
+            for (int i = 0; i < field.length(); i++) {
+                hash = (hash ^ field.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ 0xfffe) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                addToken(tokens, current);
+            }
+        }
+        if (current.length() > 0) {
+            addToken(tokens, current);
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        String token = current.toString();
+        current.setLength(0);
+        if (!STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float boost) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, boost, Float::sum);
+        }
+    }
+
+    private static float idf(int docFrequency, int liveCount) {
+        // Retired docs still sit in postings until compaction, so the frequency can exceed the live count
+        return (float) Math.log(1 + Math.max(0, liveCount - docFrequency) / (docFrequency + 0.5));
+    }
+
+    // Terms extending the prefix, keeping the most common ones when there are too many
+    private List<Postings> prefixExpansions(String prefix) {
+        NavigableMap<String, Postings> range = terms.subMap(prefix, false, prefix + Character.MAX_VALUE, false);
+        List<Postings> expansions = new ArrayList<>(range.values());
+        if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+            expansions.sort((a, b) -> Integer.compare(b.size, a.size));
+            expansions = expansions.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        return expansions;
+    }
+
+    // Best `limit` docs by score, then newest first, using a bounded min-heap
+    private int[] topDocs(BitSet candidates, float[] scores, int limit) {
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            if (heapSize < limit) {
+                heap[heapSize] = doc;
+                siftUp(heap, heapSize++, scores);
+            } else if (ranksAbove(doc, heap[0], scores)) {
+                heap[0] = doc;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        int[] ranked = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ranked;
+    }
+
+    private boolean ranksAbove(int a, int b, float[] scores) {
+        if (scores[a] != scores[b]) {
+            return scores[a] > scores[b];
+        }
+        if (createdAtKeys[a] != createdAtKeys[b]) {
+            return createdAtKeys[a] > createdAtKeys[b];
+        }
+        return propertyIds[a] > propertyIds[b];
+    }
+
+    private void siftUp(int[] heap, int index, float[] scores) {
+        int doc = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], doc, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = doc;
+    }
+
+    private void siftDown(int[] heap, int heapSize, float[] scores) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = 0;
+        int doc = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranksAbove(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!ranksAbove(doc, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = doc;
+    }
+
+    // Drops retired docs from every postings list once they outnumber the live ones
+    private void compactIfNeeded() {
+        lock.readLock().lock();
+        try {
+            if (docCount <= 2 * docsByPropertyId.size() + INITIAL_CAPACITY) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (docCount <= 2 * docsByPropertyId.size() + INITIAL_CAPACITY) {
+                return;
+            }
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (liveDocs.get(doc)) {
+                    remap[doc] = next;
+                    propertyIds[next] = propertyIds[doc];
+                    createdAtKeys[next] = createdAtKeys[doc];
+                    textFingerprints[next] = textFingerprints[doc];
+                    docsByPropertyId.put(propertyIds[next], next);
+                    next++;
+                } else {
+                    remap[doc] = -1;
+                }
+            }
+            docCount = next;
+            liveDocs.clear();
+            liveDocs.set(0, next);
+
+            Iterator<Postings> it = terms.values().iterator();
+            while (it.hasNext()) {
+                Postings postings = it.next();
+                postings.remap(remap);
+                if (postings.size == 0) {
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= propertyIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, propertyIds.length + (propertyIds.length >> 1));
+        propertyIds = Arrays.copyOf(propertyIds, capacity);
+        createdAtKeys = Arrays.copyOf(createdAtKeys, capacity);
+        textFingerprints = Arrays.copyOf(textFingerprints, capacity);
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        void accumulate(float[] scores, BitSet matched, float idf) {
+            for (int i = 0; i < size; i++) {
+                int doc = docs[i];
+                scores[doc] += weights[i] * idf;
+                matched.set(doc);
+            }
+        }
+
+        void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,518 @@
+package com.stayease.search;
+
+import com.stayease.dto.response.PropertyCardResponse;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory faceted index over active properties
+public class PropertySearchIndex {
+
+    public static final String CITY_FACET = "city";
+    public static final String PROPERTY_TYPE_FACET = "propertyType";
+    public static final String GENDER_PREFERENCE_FACET = "genderPreference";
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Sorted columns pack (value << DOC_BITS | doc) into one long so they sort as primitives
+    private static final int DOC_BITS = 29;
+    private static final long DOC_MASK = (1L << DOC_BITS) - 1;
+    private static final long MAX_PACKED_VALUE = (1L << (63 - DOC_BITS)) - 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int docCount;
+    private long[] propertyIds = new long[INITIAL_CAPACITY];
+    private long[] createdAtKeys = new long[INITIAL_CAPACITY];
+    private long[] minRents = new long[INITIAL_CAPACITY];
+    private long[] maxRents = new long[INITIAL_CAPACITY];
+    private int[] availableBeds = new int[INITIAL_CAPACITY];
+    private int[] cityOrdinals = new int[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private PropertyCardResponse[] cards = new PropertyCardResponse[INITIAL_CAPACITY];
+
+    private final BitSet liveDocs = new BitSet();
+    private final Map<Long, Integer> docsByPropertyId = new HashMap<>();
+
+    private final Map<String, Integer> cityOrdinalsByKey = new HashMap<>();
+    private final List<String> cityNames = new ArrayList<>();
+    private final List<BitSet> cityDocs = new ArrayList<>();
+    private final Map<PropertyType, BitSet> typeDocs = new EnumMap<>(PropertyType.class);
+    private final Map<GenderPreference, BitSet> genderDocs = new EnumMap<>(GenderPreference.class);
+
+    private long[] minRentSorted = new long[0];
+    private long[] maxRentSorted = new long[0];
+    private long[] availableBedsSorted = new long[0];
+    private GeoGrid geoGrid = GeoGrid.empty();
+    private boolean sortedColumnsStale;
+    private boolean outOfOrder;
+
+    public PropertySearchIndex() {
+        for (PropertyType type : PropertyType.values()) {
+            typeDocs.put(type, new BitSet());
+        }
+        for (GenderPreference preference : GenderPreference.values()) {
+            genderDocs.put(preference, new BitSet());
+        }
+    }
+
+    public void upsert(PropertyCardResponse source) {
+        PropertyCardResponse card = source.toBuilder().build();
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByPropertyId.get(card.getId());
+            if (existing != null) {
+                unindexFacets(existing);
+                writeDoc(existing, card);
+            } else {
+                int doc = docCount++;
+                ensureCapacity(docCount);
+                if (doc > 0 && compareKeys(createdAtKey(card), card.getId(),
+                        createdAtKeys[doc - 1], propertyIds[doc - 1]) < 0) {
+                    outOfOrder = true;
+                }
+                docsByPropertyId.put(card.getId(), doc);
+                writeDoc(doc, card);
+            }
+            sortedColumnsStale = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByPropertyId.remove(propertyId);
+            if (doc != null) {
+                unindexFacets(doc);
+                liveDocs.clear(doc);
+                cards[doc] = null;
+                sortedColumnsStale = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long propertyId) {
+        lock.readLock().lock();
+        try {
+            return docsByPropertyId.containsKey(propertyId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Cards for the given ids in the same order, skipping ids that are not indexed
+    public List<PropertyCardResponse> findCards(List<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<PropertyCardResponse> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Integer doc = docsByPropertyId.get(id);
+                if (doc != null) {
+                    found.add(cards[doc].toBuilder().build());
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByPropertyId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchResult search(SearchCriteria criteria, int page, int size) {
+        prepareForRead();
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(criteria);
+            long total = matches.cardinality();
+
+            List<PropertyCardResponse> pageCards = new ArrayList<>(Math.max(0, Math.min(size, (int) total)));
+            long skip = (long) page * size;
+            for (int doc = matches.length() - 1; doc >= 0 && pageCards.size() < size; doc = matches.previousSetBit(doc - 1)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    pageCards.add(cards[doc].toBuilder().build());
+                }
+            }
+
+            return new SearchResult(total, pageCards, countFacets(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Filtered search restricted to an area, nearest first; cards carry their distance from the centre
+    public SearchResult searchNear(SearchCriteria criteria, GeoQuery area, int page, int size) {
+        prepareForRead();
+
+        lock.readLock().lock();
+        try {
+            BitSet filtered = match(criteria);
+            NearestCollector collector = new NearestCollector(area, filtered);
+            geoGrid.forEachInBox(area.getMinLatitude(), area.getMinLongitude(),
+                area.getMaxLatitude(), area.getMaxLongitude(), collector);
+
+            long[] ranked = collector.sorted();
+            BitSet matches = new BitSet(docCount);
+            for (long entry : ranked) {
+                matches.set((int) (entry & DOC_MASK));
+            }
+
+            List<PropertyCardResponse> pageCards = new ArrayList<>();
+            long from = Math.min((long) page * size, ranked.length);
+            long to = Math.min(from + size, ranked.length);
+            for (int i = (int) from; i < to; i++) {
+                long meters = ranked[i] >>> DOC_BITS;
+                pageCards.add(cards[(int) (ranked[i] & DOC_MASK)].toBuilder()
+                    .distanceKm(Math.round(meters / 10.0) / 100.0)
+                    .build());
+            }
+            return new SearchResult(ranked.length, pageCards, countFacets(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(SearchCriteria criteria) {
+        BitSet candidates = (BitSet) liveDocs.clone();
+
+        if (criteria.getCity() != null) {
+            Integer ordinal = cityOrdinalsByKey.get(cityKey(criteria.getCity()));
+            if (ordinal == null) {
+                return new BitSet();
+            }
+            candidates.and(cityDocs.get(ordinal));
+        }
+        if (criteria.getPropertyType() != null) {
+            candidates.and(typeDocs.get(criteria.getPropertyType()));
+        }
+        if (criteria.getGenderPreference() != null) {
+            candidates.and(genderDocs.get(criteria.getGenderPreference()));
+        }
+
+        long minRentFloor = criteria.getMinRent() != null ? toCents(criteria.getMinRent(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxRentCeiling = criteria.getMaxRent() != null ? toCents(criteria.getMaxRent(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int bedsFloor = criteria.getAvailableBeds() != null ? criteria.getAvailableBeds() : Integer.MIN_VALUE;
+
+        // Seed from the most selective sorted range, then verify the other ranges on the survivors
+        int best = -1;
+        int bestFrom = 0;
+        int bestTo = 0;
+        int bestCount = candidates.cardinality();
+        if (criteria.getMinRent() != null) {
+            int from = lowerBound(minRentSorted, minRentFloor);
+            if (minRentSorted.length - from < bestCount) {
+                best = 0;
+                bestFrom = from;
+                bestTo = minRentSorted.length;
+                bestCount = bestTo - bestFrom;
+            }
+        }
+        if (criteria.getMaxRent() != null) {
+            int to = upperBound(maxRentSorted, maxRentCeiling);
+            if (to < bestCount) {
+                best = 1;
+                bestFrom = 0;
+                bestTo = to;
+                bestCount = to;
+            }
+        }
+        if (criteria.getAvailableBeds() != null) {
+            int from = lowerBound(availableBedsSorted, bedsFloor);
+            if (availableBedsSorted.length - from < bestCount) {
+                best = 2;
+                bestFrom = from;
+                bestTo = availableBedsSorted.length;
+            }
+        }
+
+        if (best >= 0) {
+            long[] sorted = best == 0 ? minRentSorted : best == 1 ? maxRentSorted : availableBedsSorted;
+            BitSet range = new BitSet(docCount);
+            for (int i = bestFrom; i < bestTo; i++) {
+                range.set((int) (sorted[i] & DOC_MASK));
+            }
+            candidates.and(range);
+        }
+
+        if (criteria.getMinRent() != null || criteria.getMaxRent() != null || criteria.getAvailableBeds() != null) {
+            for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+                if (minRents[doc] < minRentFloor || maxRents[doc] > maxRentCeiling || availableBeds[doc] < bedsFloor) {
+                    candidates.clear(doc);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Map<String, Map<String, Long>> countFacets(BitSet matches) {
+        long[] cityCounts = new long[cityNames.size()];
+        long[] typeCounts = new long[PropertyType.values().length];
+        long[] genderCounts = new long[GenderPreference.values().length];
+
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            PropertyCardResponse card = cards[doc];
+            cityCounts[cityOrdinals[doc]]++;
+            typeCounts[card.getPropertyType().ordinal()]++;
+            genderCounts[card.getGenderPreference().ordinal()]++;
+        }
+
+        Map<String, Long> cities = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < cityCounts.length; ordinal++) {
+            if (cityCounts[ordinal] > 0) {
+                cities.put(cityNames.get(ordinal), cityCounts[ordinal]);
+            }
+        }
+        Map<String, Long> types = new LinkedHashMap<>();
+        for (PropertyType type : PropertyType.values()) {
+            types.put(type.name(), typeCounts[type.ordinal()]);
+        }
+        Map<String, Long> genders = new LinkedHashMap<>();
+        for (GenderPreference preference : GenderPreference.values()) {
+            genders.put(preference.name(), genderCounts[preference.ordinal()]);
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put(CITY_FACET, cities);
+        facets.put(PROPERTY_TYPE_FACET, types);
+        facets.put(GENDER_PREFERENCE_FACET, genders);
+        return facets;
+    }
+
+    // Rebuilds derived structures after writes; done lazily so bursts of updates pay once
+    private void prepareForRead() {
+        lock.readLock().lock();
+        try {
+            if (!sortedColumnsStale && !outOfOrder) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (outOfOrder || docCount > 2 * docsByPropertyId.size() + INITIAL_CAPACITY) {
+                compact();
+            }
+            if (sortedColumnsStale) {
+                minRentSorted = sortColumn(minRents);
+                maxRentSorted = sortColumn(maxRents);
+                long[] beds = new long[docCount];
+                for (int doc = 0; doc < docCount; doc++) {
+                    beds[doc] = availableBeds[doc];
+                }
+                availableBedsSorted = sortColumn(beds);
+                geoGrid = GeoGrid.build(latitudes, longitudes, liveDocs);
+                sortedColumnsStale = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-numbers live docs in creation order, dropping removed slots
+    private void compact() {
+        List<PropertyCardResponse> live = new ArrayList<>(docsByPropertyId.size());
+        for (int doc = liveDocs.nextSetBit(0); doc >= 0; doc = liveDocs.nextSetBit(doc + 1)) {
+            live.add(cards[doc]);
+        }
+        live.sort(Comparator.comparingLong(PropertySearchIndex::createdAtKey).thenComparing(PropertyCardResponse::getId));
+
+        docCount = 0;
+        liveDocs.clear();
+        docsByPropertyId.clear();
+        Arrays.fill(cards, null);
+        cityDocs.forEach(BitSet::clear);
+        typeDocs.values().forEach(BitSet::clear);
+        genderDocs.values().forEach(BitSet::clear);
+
+        for (PropertyCardResponse card : live) {
+            int doc = docCount++;
+            docsByPropertyId.put(card.getId(), doc);
+            writeDoc(doc, card);
+        }
+        outOfOrder = false;
+        sortedColumnsStale = true;
+    }
+
+    private long[] sortColumn(long[] column) {
+        long[] packed = new long[docsByPropertyId.size()];
+        int n = 0;
+        for (int doc = liveDocs.nextSetBit(0); doc >= 0; doc = liveDocs.nextSetBit(doc + 1)) {
+            long value = Math.max(0, Math.min(column[doc], MAX_PACKED_VALUE));
+            packed[n++] = (value << DOC_BITS) | doc;
+        }
+        Arrays.sort(packed, 0, n);
+        return n == packed.length ? packed : Arrays.copyOf(packed, n);
+    }
+
+    private void writeDoc(int doc, PropertyCardResponse card) {
+        propertyIds[doc] = card.getId();
+        createdAtKeys[doc] = createdAtKey(card);
+        minRents[doc] = toCents(card.getMinRent(), RoundingMode.HALF_UP);
+        maxRents[doc] = toCents(card.getMaxRent(), RoundingMode.HALF_UP);
+        availableBeds[doc] = card.getAvailableBeds() != null ? card.getAvailableBeds() : 0;
+        latitudes[doc] = card.getLatitude() != null ? card.getLatitude().doubleValue() : Double.NaN;
+        longitudes[doc] = card.getLongitude() != null ? card.getLongitude().doubleValue() : Double.NaN;
+        cards[doc] = card;
+
+        int cityOrdinal = cityOrdinal(card.getCity());
+        cityOrdinals[doc] = cityOrdinal;
+        cityDocs.get(cityOrdinal).set(doc);
+        typeDocs.get(card.getPropertyType()).set(doc);
+        genderDocs.get(card.getGenderPreference()).set(doc);
+        liveDocs.set(doc);
+    }
+
+    private void unindexFacets(int doc) {
+        PropertyCardResponse card = cards[doc];
+        cityDocs.get(cityOrdinals[doc]).clear(doc);
+        typeDocs.get(card.getPropertyType()).clear(doc);
+        genderDocs.get(card.getGenderPreference()).clear(doc);
+    }
+
+    private int cityOrdinal(String city) {
+        String key = cityKey(city);
+        Integer ordinal = cityOrdinalsByKey.get(key);
+        if (ordinal == null) {
+            ordinal = cityNames.size();
+            cityOrdinalsByKey.put(key, ordinal);
+            cityNames.add(city);
+            cityDocs.add(new BitSet());
+        }
+        return ordinal;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= propertyIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, propertyIds.length + (propertyIds.length >> 1));
+        propertyIds = Arrays.copyOf(propertyIds, capacity);
+        createdAtKeys = Arrays.copyOf(createdAtKeys, capacity);
+        minRents = Arrays.copyOf(minRents, capacity);
+        maxRents = Arrays.copyOf(maxRents, capacity);
+        availableBeds = Arrays.copyOf(availableBeds, capacity);
+        cityOrdinals = Arrays.copyOf(cityOrdinals, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        cards = Arrays.copyOf(cards, capacity);
+    }
+
+    private static int lowerBound(long[] sorted, long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        if (value > MAX_PACKED_VALUE) {
+            return sorted.length;
+        }
+        long key = value << DOC_BITS;
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(long[] sorted, long value) {
+        if (value >= MAX_PACKED_VALUE) {
+            return sorted.length;
+        }
+        return lowerBound(sorted, value + 1);
+    }
+
+    private static int compareKeys(long createdAtA, long idA, long createdAtB, long idB) {
+        int byCreatedAt = Long.compare(createdAtA, createdAtB);
+        return byCreatedAt != 0 ? byCreatedAt : Long.compare(idA, idB);
+    }
+
+    private static long createdAtKey(PropertyCardResponse card) {
+        LocalDateTime createdAt = card.getCreatedAt();
+        if (createdAt == null) {
+            return Long.MAX_VALUE;
+        }
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + createdAt.getNano();
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.movePointRight(2).setScale(0, roundingMode).longValue();
+    }
+
+    private static String cityKey(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Packs (distance in metres << DOC_BITS | doc) for every filtered doc inside the area
+    private static final class NearestCollector implements GeoGrid.Visitor {
+
+        private final GeoQuery area;
+        private final BitSet filtered;
+        private long[] entries = new long[64];
+        private int size;
+
+        NearestCollector(GeoQuery area, BitSet filtered) {
+            this.area = area;
+            this.filtered = filtered;
+        }
+
+        @Override
+        public void visit(int doc, double latitude, double longitude) {
+            if (!filtered.get(doc)) {
+                return;
+            }
+            double distanceKm = area.distanceIfInside(latitude, longitude);
+            if (distanceKm < 0) {
+                return;
+            }
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = (Math.round(distanceKm * 1000) << DOC_BITS) | doc;
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(entries, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
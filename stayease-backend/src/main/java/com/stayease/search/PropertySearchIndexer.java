@@ -0,0 +1,179 @@
+package com.stayease.search;
+
+import com.stayease.dto.response.PropertyCardResponse;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.projection.PropertyCardView;
+import com.stayease.repository.projection.PropertyTextView;
+import com.stayease.service.impl.PropertyListingAssembler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Builds the search indexes once the application is ready and applies every committed property change
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertySearchIndexer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final LocalDateTime LOAD_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyListingAssembler propertyListingAssembler;
+
+    private volatile PropertySearchIndex index = new PropertySearchIndex();
+    private volatile PropertyKeywordIndex keywordIndex = new PropertyKeywordIndex();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            PropertySearchIndex fresh = new PropertySearchIndex();
+            LocalDateTime createdAt = LOAD_START;
+            Long id = 0L;
+            List<PropertyCardView> batch;
+            do {
+                batch = propertyRepository.findActiveCardsAfter(createdAt, id, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (PropertyCardResponse card : propertyListingAssembler.assembleCards(batch)) {
+                    fresh.upsert(card);
+                }
+                if (!batch.isEmpty()) {
+                    PropertyCardView last = batch.get(batch.size() - 1);
+                    createdAt = last.getCreatedAt();
+                    id = last.getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            PropertyKeywordIndex freshKeywords = new PropertyKeywordIndex();
+            createdAt = LOAD_START;
+            id = 0L;
+            List<PropertyTextView> textBatch;
+            do {
+                textBatch = propertyRepository.findActiveTextAfter(createdAt, id, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (PropertyTextView text : textBatch) {
+                    indexText(freshKeywords, text);
+                }
+                if (!textBatch.isEmpty()) {
+                    PropertyTextView last = textBatch.get(textBatch.size() - 1);
+                    createdAt = last.getCreatedAt();
+                    id = last.getId();
+                }
+            } while (textBatch.size() == LOAD_BATCH_SIZE);
+
+            index = fresh;
+            keywordIndex = freshKeywords;
+            ready = true;
+        } finally {
+            rebuilding = false;
+        }
+
+        // Changes committed while the snapshot was being read may be missing from it
+        for (Long propertyId : changedDuringRebuild) {
+            refresh(propertyId);
+        }
+        changedDuringRebuild.clear();
+
+        log.info("Property search indexes built with {} properties ({} with keywords) in {} ms",
+            index.size(), keywordIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.getPropertyId());
+        }
+        if (event.getKind() == PropertyChangedEvent.Kind.DETAILS) {
+            refresh(event.getPropertyId());
+        } else {
+            refreshCounters(event.getPropertyId());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isIndexed(Long propertyId) {
+        return index.contains(propertyId);
+    }
+
+    public SearchResult search(SearchCriteria criteria, int page, int size) {
+        return index.search(criteria, page, size);
+    }
+
+    public SearchResult searchNear(SearchCriteria criteria, GeoQuery area, int page, int size) {
+        return index.searchNear(criteria, area, page, size);
+    }
+
+    public KeywordSearchResult searchKeyword(String keyword, int page, int size) {
+        return keywordIndex.search(keyword, page, size);
+    }
+
+    public List<PropertyCardResponse> findCards(List<Long> propertyIds) {
+        return index.findCards(propertyIds);
+    }
+
+    private void refresh(Long propertyId) {
+        Optional<PropertyCardView> view = propertyRepository.findActiveCardById(propertyId);
+        if (view.isPresent()) {
+            index.upsert(propertyListingAssembler.assembleCards(Collections.singletonList(view.get())).get(0));
+        } else {
+            index.remove(propertyId);
+        }
+
+        Optional<PropertyTextView> text = propertyRepository.findActiveTextById(propertyId);
+        if (text.isPresent()) {
+            indexText(keywordIndex, text.get());
+        } else {
+            keywordIndex.remove(propertyId);
+        }
+    }
+
+    // Inventory and rating changes leave the text and images alone; only the card's columns are re-read
+    private void refreshCounters(Long propertyId) {
+        List<PropertyCardResponse> indexed = index.findCards(Collections.singletonList(propertyId));
+        if (indexed.isEmpty()) {
+            refresh(propertyId);
+            return;
+        }
+        Optional<PropertyCardView> view = propertyRepository.findActiveCardById(propertyId);
+        if (view.isPresent()) {
+            index.upsert(propertyListingAssembler.assembleCards(Collections.singletonList(view.get()),
+                Collections.singletonMap(propertyId, indexed.get(0).getPrimaryImage())).get(0));
+        } else {
+            index.remove(propertyId);
+            keywordIndex.remove(propertyId);
+        }
+    }
+
+    private static void indexText(PropertyKeywordIndex target, PropertyTextView text) {
+        String address = text.getAddressLine2() == null
+            ? text.getAddressLine1()
+            : text.getAddressLine1() + " " + text.getAddressLine2();
+        target.upsert(text.getId(), text.getCreatedAt(), text.getName(), text.getCity(), address, text.getDescription());
+    }
+}
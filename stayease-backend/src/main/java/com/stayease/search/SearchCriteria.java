@@ -0,0 +1,20 @@
+package com.stayease.search;
+
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class SearchCriteria {
+
+    private final String city;
+    private final PropertyType propertyType;
+    private final GenderPreference genderPreference;
+    private final BigDecimal minRent;
+    private final BigDecimal maxRent;
+    private final Integer availableBeds;
+}
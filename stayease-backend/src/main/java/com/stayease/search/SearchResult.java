@@ -0,0 +1,17 @@
+package com.stayease.search;
+
+import com.stayease.dto.response.PropertyCardResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class SearchResult {
+
+    private final long totalElements;
+    private final List<PropertyCardResponse> cards;
+    private final Map<String, Map<String, Long>> facets;
+}
@@ -35,6 +35,20 @@ public class CustomUserDetails implements UserDetails {
         );
     }
 
+    // Principal rebuilt from a verified token; the password is never needed after login
+    public static CustomUserDetails fromToken(Long id, String email, Role role, boolean isActive) {
+        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.name());
+
+        return new CustomUserDetails(
+            id,
+            email,
+            null,
+            role,
+            isActive,
+            Collections.singletonList(authority)
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
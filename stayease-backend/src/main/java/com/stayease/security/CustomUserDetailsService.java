@@ -4,6 +4,7 @@ import com.stayease.entity.User;
 import com.stayease.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,7 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
 
@@ -31,4 +32,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return CustomUserDetails.build(user);
     }
+
+    // Called by the authentication provider after a successful login whose stored hash is
+    // outdated (legacy format or a lower BCrypt cost than configured)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        CustomUserDetails details = (CustomUserDetails) user;
+        return new CustomUserDetails(details.getId(), details.getEmail(), newPassword, details.getRole(),
+            details.getIsActive(), details.getAuthorities());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.stayease.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.* ;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -10,8 +13,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
@@ -24,11 +31,20 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Verified tokens, keyed by the SHA-256 of the whole token and kept until the token expires
+    @Value("${jwt.verification-cache.maximum-size:10000}")
+    private long verificationCacheMaximumSize;
+
     private SecretKey key;
+    private Cache<ByteBuffer, VerifiedToken> verificationCache;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.verificationCache = Caffeine.newBuilder()
+            .maximumSize(verificationCacheMaximumSize)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -77,6 +93,10 @@ public class JwtTokenProvider {
                 .parseClaimsJws(token)
                 .getBody();
 
+        return getUserId(claims);
+    }
+
+    private static Long getUserId(Claims claims) {
         Object idObj = claims.get("id");
         if (idObj == null) return null;
         if (idObj instanceof Number) {
@@ -89,13 +109,44 @@ public class JwtTokenProvider {
         }
     }
 
+    // Null if the token is invalid or expired; verified tokens are cached, failures never are
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verificationCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached.isExpired(System.currentTimeMillis()) ? null : cached;
+        }
+
+        Claims claims = getClaimsIfValid(token);
+        if (claims == null) {
+            return null;
+        }
+        Object role = claims.get("role");
+        VerifiedToken verified = new VerifiedToken(
+            claims.getSubject(),
+            getUserId(claims),
+            role != null ? role.toString() : null,
+            claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+        verificationCache.put(digest, verified);
+        return verified;
+    }
+
     public boolean validateToken(String token) {
+        return getClaimsIfValid(token) != null;
+    }
+
+    // Verifies the token once and returns its claims, or null if it is invalid or expired
+    public Claims getClaimsIfValid(String token) {
         try {
-            Jwts.parserBuilder()
+            return Jwts.parserBuilder()
                 .setSigningKey(key)
                 .build()
-                .parseClaimsJws(token);
-            return true;
+                .parseClaimsJws(token)
+                .getBody();
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
@@ -104,11 +155,41 @@ public class JwtTokenProvider {
             logger.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            logger.error("Invalid JWT signature");
         }
-        return false;
+        return null;
     }
 
     public long getExpirationTime() {
         return jwtExpiration;
     }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(0, value.getExpiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
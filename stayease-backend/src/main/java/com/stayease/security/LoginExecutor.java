@@ -0,0 +1,161 @@
+package com.stayease.security;
+
+import com.stayease.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Bounded pool for password checks; refuses logins that could not start within the timeout
+@Component
+@Slf4j
+public class LoginExecutor {
+
+    private static final String METRIC_PREFIX = "stayease.auth.login";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final Duration timeout;
+    // Smoothed duration of one check; zero until the first check completes
+    private final AtomicLong averageCheckNanos = new AtomicLong();
+    private final Timer waitTimer;
+    private final Timer checkTimer;
+    private final Counter queueFullCounter;
+    private final Counter backlogCounter;
+    private final Counter timeoutCounter;
+
+    public LoginExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${auth.login.threads:0}") int threads,
+            @Value("${auth.login.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.login.timeout:1s}") Duration timeout) {
+        // Default: half the cores, leaving the rest for request handling
+        this.poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "login-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+
+        Gauge.builder(METRIC_PREFIX + ".queue", this, LoginExecutor::queuedChecks)
+            .description("Credential checks waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Credential checks running")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+            .description("Time a credential check spent queued")
+            .register(meterRegistry);
+        this.checkTimer = Timer.builder(METRIC_PREFIX + ".check")
+            .description("Time to load the user and verify the password hash")
+            .register(meterRegistry);
+        this.queueFullCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.backlogCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .tag("reason", "backlog")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+        log.info("Login executor: {} threads, queue of {}", poolSize, queueCapacity);
+    }
+
+    public <T> T execute(Supplier<T> check) {
+        if (expectedWaitNanos() > timeout.toNanos()) {
+            backlogCounter.increment();
+            throw busy();
+        }
+        long submitted = System.nanoTime();
+        // Taken by the worker when the check starts, or by the caller when it gives up first
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long started = System.nanoTime();
+                waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return check.get();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    checkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    averageCheckNanos.accumulateAndGet(elapsed,
+                        (average, sample) -> average == 0 ? sample : average + (sample - average) / 8);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw busy();
+        }
+
+        try {
+            try {
+                return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    executor.remove((Runnable) future);
+                    timeoutCounter.increment();
+                    throw busy();
+                }
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Credential check failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        }
+    }
+
+    public int queuedChecks() {
+        return executor.getQueue().size();
+    }
+
+    // Time until a check submitted now could start: the rounds of checks ahead of it, one per worker
+    private long expectedWaitNanos() {
+        long ahead = executor.getQueue().size() + executor.getActiveCount() - poolSize + 1;
+        if (ahead <= 0) {
+            return 0;
+        }
+        return (ahead + poolSize - 1) / poolSize * averageCheckNanos.get();
+    }
+
+    private TooManyRequestsException busy() {
+        return new TooManyRequestsException("Too many login attempts in progress, please retry shortly",
+            RETRY_AFTER_SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package com.stayease.security;
+
+import com.stayease.config.CacheConfig;
+import com.stayease.event.UserStatusChangedEvent;
+import com.stayease.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Whether a user may still authenticate, answered from a bounded cache
+@Service
+@RequiredArgsConstructor
+public class UserStatusService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheConfig.USER_STATUS, key = "#userId", sync = true)
+    @Transactional(readOnly = true)
+    public boolean isActive(Long userId) {
+        // Deleted users are treated like deactivated ones
+        return userRepository.findIsActiveById(userId).orElse(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.USER_STATUS, key = "#event.userId")
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+    }
+}
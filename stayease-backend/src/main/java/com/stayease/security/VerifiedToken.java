@@ -0,0 +1,19 @@
+package com.stayease.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// The claims of a signature-checked JWT, extracted in one parse
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String email;
+    private final Long userId;
+    private final String role;
+    private final long expiresAt;
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
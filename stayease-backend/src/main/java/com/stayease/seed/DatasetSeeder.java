@@ -0,0 +1,657 @@
+package com.stayease.seed;
+
+import com.stayease.availability.BedAvailabilityIndexer;
+import com.stayease.config.IdGeneratorAligner;
+import com.stayease.entity.IdGenerators;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.InquiryStatus;
+import com.stayease.enums.PropertyType;
+import com.stayease.enums.RatingSubject;
+import com.stayease.enums.Role;
+import com.stayease.enums.RoomType;
+import com.stayease.search.PropertySearchIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Writes a synthetic, deterministic dataset straight through JDBC
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetSeeder {
+
+    public static final String PASSWORD = "password123";
+    public static final String EMAIL_DOMAIN = "seed.stayease";
+
+    // Pending beds that trigger a write of everything collected so far
+    private static final int FLUSH_BEDS = 2_000;
+    // Room and bed ids taken from their generators per round-trip; what a run leaves unused is skipped
+    private static final int ID_BLOCK = 10_000;
+
+    private static final City[] CITIES = {
+        new City("Bangalore", "Karnataka", "560", 12.9716, 77.5946, 18, 1.25),
+        new City("Mumbai", "Maharashtra", "400", 19.0760, 72.8777, 14, 1.50),
+        new City("Delhi", "Delhi", "110", 28.6139, 77.2090, 12, 1.30),
+        new City("Pune", "Maharashtra", "411", 18.5204, 73.8567, 10, 1.10),
+        new City("Hyderabad", "Telangana", "500", 17.3850, 78.4867, 10, 1.10),
+        new City("Chennai", "Tamil Nadu", "600", 13.0827, 80.2707, 8, 1.05),
+        new City("Gurgaon", "Haryana", "122", 28.4595, 77.0266, 6, 1.35),
+        new City("Noida", "Uttar Pradesh", "201", 28.5355, 77.3910, 5, 1.10),
+        new City("Kolkata", "West Bengal", "700", 22.5726, 88.3639, 5, 0.90),
+        new City("Ahmedabad", "Gujarat", "380", 23.0225, 72.5714, 4, 0.85),
+        new City("Chandigarh", "Chandigarh", "160", 30.7333, 76.7794, 2, 0.90),
+        new City("Kochi", "Kerala", "682", 9.9312, 76.2673, 2, 0.80),
+        new City("Jaipur", "Rajasthan", "302", 26.9124, 75.7873, 2, 0.75),
+        new City("Indore", "Madhya Pradesh", "452", 22.7196, 75.8577, 2, 0.70)
+    };
+    private static final int[] CITY_WEIGHTS = weights(CITIES);
+
+    private static final PropertyType[] PROPERTY_TYPES = PropertyType.values();
+    private static final int[] PROPERTY_TYPE_WEIGHTS = {50, 20, 15, 15};
+    private static final GenderPreference[] GENDERS = GenderPreference.values();
+    private static final int[] GENDER_WEIGHTS = {40, 30, 30};
+    private static final InquiryStatus[] INQUIRY_STATUSES = InquiryStatus.values();
+    private static final int[] INQUIRY_STATUS_WEIGHTS = {40, 25, 10, 10, 5, 10};
+
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    // Room type mix for shared accommodation (PG, hostel) and for flats and apartments
+    private static final int[] SHARED_ROOM_WEIGHTS = {15, 35, 30, 20};
+    private static final int[] PRIVATE_ROOM_WEIGHTS = {55, 35, 10, 0};
+
+    private static final String[] NAME_PREFIXES = {
+        "Sai", "Green", "Sunrise", "Royal", "Comfort", "Urban", "Lakeview", "Silver Oak", "Shanti", "Elite",
+        "Orchid", "Galaxy", "Heritage", "Metro", "Skyline", "Lotus"
+    };
+    private static final String[] REVIEW_TITLES = {
+        "Disappointing stay", "Below expectations", "Decent for the price", "Good place to stay",
+        "Excellent, would recommend"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdGeneratorAligner idGeneratorAligner;
+    private final PlatformTransactionManager transactionManager;
+    private final PropertySearchIndexer propertySearchIndexer;
+    private final BedAvailabilityIndexer bedAvailabilityIndexer;
+
+    public boolean hasSeededData() {
+        Integer users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE ?",
+            Integer.class, "%@" + EMAIL_DOMAIN);
+        return users != null && users > 0;
+    }
+
+    public SeedSummary seed(SeedOptions options) {
+        if (options.getProperties() <= 0 || options.getPropertiesPerOwner() <= 0) {
+            throw new IllegalArgumentException("properties and propertiesPerOwner must be positive");
+        }
+        long start = System.currentTimeMillis();
+        // Makes sure the generator rows exist before room and bed ids are reserved from them
+        idGeneratorAligner.align();
+        SeedSummary summary = new Generation(options).run();
+
+        // Before startup completes the indexes are built on ApplicationReadyEvent anyway
+        if (propertySearchIndexer.isReady()) {
+            propertySearchIndexer.rebuild();
+        }
+        if (bedAvailabilityIndexer.isReady()) {
+            bedAvailabilityIndexer.rebuild();
+        }
+
+        log.info("Seeded {} in {} ms", summary, System.currentTimeMillis() - start);
+        return summary;
+    }
+
+    private static int[] weights(City[] cities) {
+        int[] weights = new int[cities.length];
+        for (int i = 0; i < cities.length; i++) {
+            weights[i] = cities[i].weight;
+        }
+        return weights;
+    }
+
+    private static String phone(long id) {
+        return String.valueOf(9_000_000_000L + id);
+    }
+
+    private static String email(String kind, long userId) {
+        return kind + userId + "@" + EMAIL_DOMAIN;
+    }
+
+    private static BigDecimal money(long amount) {
+        return BigDecimal.valueOf(amount);
+    }
+
+    private static BigDecimal average(long sum, long count) {
+        return count == 0 ? BigDecimal.ZERO
+            : BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP);
+    }
+
+    // State of one seeding run; ids are assigned here so children can reference their parents
+    private class Generation {
+
+        private final SeedOptions options;
+        private final Random random;
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        private final LocalDate today = LocalDate.now();
+        private final List<Long> amenityIds;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        private final MultiRowInsert users = insert("users", "id", "email", "password", "first_name", "last_name",
+            "phone", "role", "is_verified", "is_active", "created_at", "updated_at");
+        private final MultiRowInsert ownerProfiles = insert("owner_profiles", "id", "user_id", "business_name",
+            "city", "state", "is_verified", "total_properties", "avg_rating", "created_at", "updated_at");
+        private final MultiRowInsert properties = insert("properties", "id", "owner_id", "name", "description",
+            "property_type", "gender_preference", "address_line1", "city", "state", "pincode", "latitude",
+            "longitude", "min_rent", "max_rent", "security_deposit", "notice_period_days", "total_rooms",
+            "total_beds", "available_beds", "avg_rating", "total_reviews", "is_verified", "is_active",
+            "is_featured", "created_at", "updated_at");
+        private final MultiRowInsert propertyAmenities = insert("property_amenities", "property_id", "amenity_id");
+        private final MultiRowInsert rooms = insert("rooms", "id", "property_id", "room_number", "room_type",
+            "floor_number", "total_beds", "available_beds", "rent_per_bed", "has_attached_bathroom", "has_ac",
+            "has_balcony", "is_active", "created_at", "updated_at");
+        private final MultiRowInsert beds = insert("beds", "id", "room_id", "bed_number", "status",
+            "current_tenant_id", "occupied_from", "expected_checkout", "created_at", "updated_at", "version");
+        private final MultiRowInsert bookings = insert("bookings", "id", "booking_reference", "user_id",
+            "property_id", "room_id", "bed_id", "check_in_date", "check_out_date", "monthly_rent",
+            "security_deposit", "status", "created_at", "updated_at", "version");
+        private final MultiRowInsert reviews = insert("reviews", "id", "property_id", "user_id", "rating",
+            "cleanliness_rating", "food_rating", "staff_rating", "value_rating", "title", "comment",
+            "is_verified", "is_visible", "created_at", "updated_at");
+        private final MultiRowInsert inquiries = insert("inquiries", "id", "property_id", "user_id", "name",
+            "email", "phone", "message", "preferred_visit_date", "status", "owner_notes", "created_at",
+            "updated_at");
+        private final MultiRowInsert ratingAggregates = insert("rating_aggregates", "subject_type", "subject_id",
+            "review_count", "rating_sum", "cleanliness_sum", "cleanliness_count", "food_sum", "food_count",
+            "staff_sum", "staff_count", "value_sum", "value_count", "updated_at");
+
+        private long userId = nextId("users");
+        private long ownerProfileId = nextId("owner_profiles");
+        private long propertyId = nextId("properties");
+        private final IdBlocks roomIds = new IdBlocks(IdGenerators.ROOMS);
+        private final IdBlocks bedIds = new IdBlocks(IdGenerators.BEDS);
+        private long bookingId = nextId("bookings");
+        private long reviewId = nextId("reviews");
+        private long inquiryId = nextId("inquiries");
+
+        private String passwordHash;
+        private long tenantIdStart;
+        private int tenantCount;
+        private int nextTenant;
+
+        Generation(SeedOptions options) {
+            this.options = options;
+            this.random = new Random(options.getRandomSeed());
+            this.amenityIds = jdbcTemplate.queryForList("SELECT id FROM amenities ORDER BY id", Long.class);
+        }
+
+        SeedSummary run() {
+            int propertyCount = options.getProperties();
+            int perOwner = options.getPropertiesPerOwner();
+            int ownerCount = (propertyCount + perOwner - 1) / perOwner;
+            int initialTenants = propertyCount * options.getTenantsPerProperty() + 1;
+            passwordHash = passwordEncoder.encode(PASSWORD);
+
+            long firstOwnerUserId = userId;
+            long firstOwnerProfileId = ownerProfileId;
+            City[] ownerCities = new City[ownerCount];
+            for (int i = 0; i < ownerCount; i++, userId++, ownerProfileId++) {
+                City city = CITIES[pick(CITY_WEIGHTS)];
+                ownerCities[i] = city;
+                users.add(userId, email("owner", userId), passwordHash, "Owner", String.valueOf(userId),
+                    phone(userId), Role.OWNER.name(), true, true, now, now);
+                ownerProfiles.add(ownerProfileId, userId, NAME_PREFIXES[i % NAME_PREFIXES.length] + " Stays " + i,
+                    city.name, city.state, random.nextInt(10) < 7, Math.min(perOwner, propertyCount - i * perOwner),
+                    BigDecimal.ZERO, now, now);
+            }
+            tenantIdStart = userId;
+            for (int i = 0; i < initialTenants; i++) {
+                addTenant();
+                if (users.size() >= FLUSH_BEDS) {
+                    flushUsers();
+                }
+            }
+            flushUsers();
+
+            long firstPropertyId = propertyId;
+            long[][] ownerRatings = new long[ownerCount][];
+            for (int p = 0; p < propertyCount; p++, propertyId++) {
+                int owner = p / perOwner;
+                City city = random.nextInt(10) < 8 ? ownerCities[owner] : CITIES[pick(CITY_WEIGHTS)];
+                long[] ratings = writeProperty(p, propertyCount, firstOwnerProfileId + owner, city);
+                ownerRatings[owner] = add(ownerRatings[owner], ratings);
+
+                // Parents before children: properties and rooms go in before the rows that point at them
+                if (beds.size() >= FLUSH_BEDS) {
+                    flushProperties();
+                }
+            }
+            flushProperties();
+
+            List<Object[]> ownerAverages = new ArrayList<>();
+            for (int i = 0; i < ownerCount; i++) {
+                long[] ratings = ownerRatings[i];
+                if (ratings != null && ratings[0] > 0) {
+                    ratingAggregate(RatingSubject.OWNER, firstOwnerProfileId + i, ratings);
+                    ownerAverages.add(new Object[] {average(ratings[1], ratings[0]), firstOwnerProfileId + i});
+                }
+            }
+            ratingAggregates.flush();
+            jdbcTemplate.batchUpdate("UPDATE owner_profiles SET avg_rating = ? WHERE id = ?", ownerAverages);
+
+            restartIdentity("users", userId);
+            restartIdentity("owner_profiles", ownerProfileId);
+            restartIdentity("properties", propertyId);
+            restartIdentity("bookings", bookingId);
+            restartIdentity("reviews", reviewId);
+            restartIdentity("inquiries", inquiryId);
+
+            return SeedSummary.builder()
+                .owners(ownerCount)
+                .tenants(tenantCount)
+                .properties(propertyCount)
+                .rooms(roomIds.taken)
+                .beds(bedIds.taken)
+                .bookings(bookings.total())
+                .reviews(reviews.total())
+                .inquiries(inquiries.total())
+                .firstOwnerUserId(firstOwnerUserId)
+                .firstTenantUserId(tenantIdStart)
+                .firstPropertyId(firstPropertyId)
+                .firstRoomId(roomIds.first)
+                .build();
+        }
+
+        // Writes one property with its rooms, beds, bookings, reviews, inquiries and amenities;
+        // returns its visible rating sums, or null when it has no visible reviews
+        private long[] writeProperty(int index, int propertyCount, long ownerProfileId, City city) {
+            PropertyType type = PROPERTY_TYPES[pick(PROPERTY_TYPE_WEIGHTS)];
+            GenderPreference gender = GENDERS[pick(GENDER_WEIGHTS)];
+            boolean shared = type == PropertyType.PG || type == PropertyType.HOSTEL;
+            double occupancy = clamp(options.getOccupancy() + 0.15 * random.nextGaussian(), 0.05, 1.0);
+            double quality = clamp(3.9 + 0.5 * random.nextGaussian(), 1.5, 4.9);
+            long baseRent = Math.max(2500, roundTo(7000 * city.rentFactor * Math.exp(0.25 * random.nextGaussian()), 250));
+
+            int roomCount = shared ? 3 + random.nextInt(8) : 2 + random.nextInt(3);
+            List<long[]> propertyBeds = new ArrayList<>();
+            long minRent = Long.MAX_VALUE;
+            long maxRent = 0;
+            int totalBeds = 0;
+            int availableBeds = 0;
+
+            for (int r = 0; r < roomCount; r++) {
+                long roomId = roomIds.next();
+                RoomType roomType = ROOM_TYPES[pick(shared ? SHARED_ROOM_WEIGHTS : PRIVATE_ROOM_WEIGHTS)];
+                int bedsInRoom = bedsFor(roomType);
+                long rent = roundTo(baseRent * rentFactor(roomType), 250);
+                minRent = Math.min(minRent, rent);
+                maxRent = Math.max(maxRent, rent);
+                int available = 0;
+
+                for (int b = 0; b < bedsInRoom; b++) {
+                    long bedId = bedIds.next();
+                    BedStatus status = bedStatus(occupancy);
+                    Long tenantId = null;
+                    LocalDate occupiedFrom = null;
+                    if (status == BedStatus.OCCUPIED || status == BedStatus.RESERVED) {
+                        tenantId = activeTenant();
+                        // A reserved bed's confirmed stay has started; the tenant just has not moved in yet
+                        LocalDate checkIn = status == BedStatus.OCCUPIED
+                            ? today.minusDays(1 + random.nextInt(365))
+                            : today.minusDays(random.nextInt(7));
+                        BookingStatus bookingStatus = status == BedStatus.OCCUPIED
+                            ? BookingStatus.CHECKED_IN : BookingStatus.CONFIRMED;
+                        booking(tenantId, roomId, bedId, checkIn, null, rent, bookingStatus);
+                        if (status == BedStatus.OCCUPIED) {
+                            occupiedFrom = checkIn;
+                        }
+                    } else if (status == BedStatus.AVAILABLE) {
+                        available++;
+                    }
+                    beds.add(bedId, roomId, "B" + (b + 1), status.name(), status == BedStatus.OCCUPIED ? tenantId : null,
+                        occupiedFrom, null, now, now, 0L);
+                    propertyBeds.add(new long[] {roomId, rent, bedId});
+                }
+
+                rooms.add(roomId, propertyId, String.valueOf(100 * (r / 4 + 1) + r % 4 + 1), roomType.name(), r / 4,
+                    bedsInRoom, available, money(rent), roomType == RoomType.SINGLE || random.nextBoolean(),
+                    random.nextDouble() < 0.25 * city.rentFactor, random.nextInt(5) == 0, true, now, now);
+                totalBeds += bedsInRoom;
+                availableBeds += available;
+            }
+
+            long[] ratings = writeReviews(quality, propertyBeds);
+            writeInquiries();
+            writeAmenities();
+
+            Timestamp createdAt = Timestamp.valueOf(now.toLocalDateTime().minusMinutes(propertyCount - index));
+            String name = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " " + label(type, gender);
+            properties.add(propertyId, ownerProfileId, name,
+                label(type, gender) + " in " + city.name + " with " + totalBeds + " beds across " + roomCount + " rooms.",
+                type.name(), gender.name(), (1 + random.nextInt(400)) + ", Cross Road " + (1 + random.nextInt(30)),
+                city.name, city.state, city.pincodePrefix + String.format("%03d", random.nextInt(100)),
+                coordinate(city.latitude), coordinate(city.longitude),
+                money(minRent), money(maxRent), money(baseRent * 2), shared ? 30 : 60, roomCount, totalBeds,
+                availableBeds, ratings == null ? BigDecimal.ZERO : average(ratings[1], ratings[0]),
+                ratings == null ? 0 : (int) ratings[0], random.nextInt(10) < 6, true, random.nextInt(20) == 0,
+                createdAt, createdAt);
+            if (ratings != null) {
+                ratingAggregate(RatingSubject.PROPERTY, propertyId, ratings);
+            }
+            return ratings;
+        }
+
+        // Past stays: a checked-out booking per reviewer, with distinct reviewers per property
+        private long[] writeReviews(double quality, List<long[]> propertyBeds) {
+            int count = (int) Math.min(tenantCount,
+                Math.round(Math.abs(random.nextGaussian()) * options.getReviewsPerProperty()));
+            long[] sums = new long[10];
+            int firstReviewer = random.nextInt(tenantCount);
+            for (int j = 0; j < count; j++) {
+                long tenantId = tenantIdStart + (firstReviewer + j) % tenantCount;
+                long[] bed = propertyBeds.get(random.nextInt(propertyBeds.size()));
+                LocalDate checkIn = today.minusDays(120 + random.nextInt(600));
+                LocalDate checkOut = checkIn.plusDays(60 + random.nextInt(300));
+                if (!checkOut.isBefore(today)) {
+                    checkOut = today.minusDays(1);
+                }
+                booking(tenantId, bed[0], bed[2], checkIn, checkOut, bed[1], BookingStatus.CHECKED_OUT);
+
+                int rating = score(quality, 0.8);
+                Integer cleanliness = subScore(quality);
+                Integer food = subScore(quality);
+                Integer staff = subScore(quality);
+                Integer value = subScore(quality);
+                boolean visible = random.nextInt(100) >= 3;
+                Timestamp createdAt = Timestamp.valueOf(checkOut.plusDays(1 + random.nextInt(20))
+                    .atTime(9 + random.nextInt(12), random.nextInt(60)));
+                if (createdAt.after(now)) {
+                    createdAt = now;
+                }
+                reviews.add(reviewId++, propertyId, tenantId, rating, cleanliness, food, staff, value,
+                    REVIEW_TITLES[rating - 1], "Stayed here for " + (checkOut.toEpochDay() - checkIn.toEpochDay())
+                        + " days. " + REVIEW_TITLES[rating - 1] + ".", true, visible, createdAt, createdAt);
+                if (visible) {
+                    sums[0]++;
+                    sums[1] += rating;
+                    addScore(sums, 2, cleanliness);
+                    addScore(sums, 4, food);
+                    addScore(sums, 6, staff);
+                    addScore(sums, 8, value);
+                }
+            }
+            return sums[0] > 0 ? sums : null;
+        }
+
+        private void writeInquiries() {
+            int count = random.nextInt(options.getMaxInquiriesPerProperty() + 1);
+            for (int j = 0; j < count; j++) {
+                InquiryStatus status = INQUIRY_STATUSES[pick(INQUIRY_STATUS_WEIGHTS)];
+                Timestamp createdAt = Timestamp.valueOf(now.toLocalDateTime().minusMinutes(random.nextInt(60 * 24 * 60)));
+                LocalDate visitDate = random.nextBoolean() ? today.plusDays(1 + random.nextInt(14)) : null;
+                if (random.nextInt(10) < 6) {
+                    long tenantId = tenantIdStart + random.nextInt(tenantCount);
+                    inquiries.add(inquiryId++, propertyId, tenantId, "Tenant " + tenantId, email("tenant", tenantId),
+                        phone(tenantId), "Is a bed available from next month?", visitDate, status.name(), null,
+                        createdAt, createdAt);
+                } else {
+                    inquiries.add(inquiryId, propertyId, null, "Visitor " + inquiryId,
+                        "visitor" + inquiryId + "@example.com", phone(inquiryId), "What is included in the rent?",
+                        visitDate, status.name(), null, createdAt, createdAt);
+                    inquiryId++;
+                }
+            }
+        }
+
+        private void writeAmenities() {
+            if (amenityIds.isEmpty()) {
+                return;
+            }
+            List<Long> remaining = new ArrayList<>(amenityIds);
+            int count = Math.min(remaining.size(), 4 + random.nextInt(7));
+            for (int i = 0; i < count; i++) {
+                propertyAmenities.add(propertyId, remaining.remove(random.nextInt(remaining.size())));
+            }
+        }
+
+        private void addTenant() {
+            users.add(userId, email("tenant", userId), passwordHash, "Tenant", String.valueOf(userId),
+                phone(userId), Role.USER.name(), true, true, now, now);
+            userId++;
+            tenantCount++;
+        }
+
+        // The next tenant without an active booking; the pool grows once every tenant has one
+        private long activeTenant() {
+            if (nextTenant == tenantCount) {
+                addTenant();
+            }
+            return tenantIdStart + nextTenant++;
+        }
+
+        private void booking(long tenantId, long roomId, long bedId, LocalDate checkIn, LocalDate checkOut,
+                             long rent, BookingStatus status) {
+            bookings.add(bookingId, "SD" + bookingId, tenantId, propertyId, roomId, bedId, checkIn, checkOut,
+                money(rent), money(rent * 2), status.name(), now, now, 0L);
+            bookingId++;
+        }
+
+        private void ratingAggregate(RatingSubject subject, long subjectId, long[] sums) {
+            ratingAggregates.add(subject.name(), subjectId, sums[0], sums[1], sums[2], sums[3], sums[4], sums[5],
+                sums[6], sums[7], sums[8], sums[9], now);
+        }
+
+        private void flushUsers() {
+            users.flush();
+            ownerProfiles.flush();
+        }
+
+        // One transaction, so the counter reconciliation never sees properties without their rooms and beds
+        private void flushProperties() {
+            transaction.executeWithoutResult(status -> {
+                // Tenants added while writing properties go in before the bookings that point at them
+                users.flush();
+                properties.flush();
+                propertyAmenities.flush();
+                rooms.flush();
+                beds.flush();
+                bookings.flush();
+                reviews.flush();
+                inquiries.flush();
+                ratingAggregates.flush();
+            });
+        }
+
+        private int bedsFor(RoomType roomType) {
+            switch (roomType) {
+                case SINGLE:
+                    return 1;
+                case DOUBLE:
+                    return 2;
+                case TRIPLE:
+                    return 3;
+                default:
+                    return 4 + random.nextInt(5);
+            }
+        }
+
+        private double rentFactor(RoomType roomType) {
+            switch (roomType) {
+                case SINGLE:
+                    return 1.6;
+                case DOUBLE:
+                    return 1.2;
+                case TRIPLE:
+                    return 1.0;
+                default:
+                    return 0.75;
+            }
+        }
+
+        private BedStatus bedStatus(double occupancy) {
+            double roll = random.nextDouble();
+            if (roll < occupancy * 0.93) {
+                return BedStatus.OCCUPIED;
+            }
+            if (roll < occupancy) {
+                return BedStatus.RESERVED;
+            }
+            if (roll < occupancy + (1 - occupancy) * 0.08) {
+                return BedStatus.MAINTENANCE;
+            }
+            return BedStatus.AVAILABLE;
+        }
+
+        private String label(PropertyType type, GenderPreference gender) {
+            String audience = gender == GenderPreference.MALE ? "Men's "
+                : gender == GenderPreference.FEMALE ? "Women's " : "";
+            switch (type) {
+                case PG:
+                    return audience + "PG";
+                case HOSTEL:
+                    return audience + "Hostel";
+                case FLAT:
+                    return "Shared Flat";
+                default:
+                    return "Residency Apartments";
+            }
+        }
+
+        private int score(double quality, double spread) {
+            return (int) clamp(Math.round(quality + spread * random.nextGaussian()), 1, 5);
+        }
+
+        private Integer subScore(double quality) {
+            return random.nextInt(10) < 8 ? score(quality, 0.9) : null;
+        }
+
+        private void addScore(long[] sums, int offset, Integer score) {
+            if (score != null) {
+                sums[offset] += score;
+                sums[offset + 1]++;
+            }
+        }
+
+        private long[] add(long[] total, long[] ratings) {
+            if (ratings == null) {
+                return total;
+            }
+            if (total == null) {
+                return ratings.clone();
+            }
+            for (int i = 0; i < total.length; i++) {
+                total[i] += ratings[i];
+            }
+            return total;
+        }
+
+        // Within roughly 12 km of the city centre
+        private BigDecimal coordinate(double centre) {
+            return BigDecimal.valueOf(centre + (random.nextDouble() - 0.5) * 0.22).setScale(8, RoundingMode.HALF_UP);
+        }
+
+        private int pick(int[] weights) {
+            int total = 0;
+            for (int weight : weights) {
+                total += weight;
+            }
+            int roll = random.nextInt(total);
+            for (int i = 0; i < weights.length; i++) {
+                roll -= weights[i];
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return weights.length - 1;
+        }
+
+        private double clamp(double value, double min, double max) {
+            return Math.max(min, Math.min(max, value));
+        }
+
+        private long roundTo(double value, long step) {
+            return Math.round(value / step) * step;
+        }
+
+        private MultiRowInsert insert(String table, String... columns) {
+            return new MultiRowInsert(jdbcTemplate, table, columns);
+        }
+
+        private long nextId(String table) {
+            return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        }
+
+        // MySQL moves AUTO_INCREMENT past explicit ids on its own; H2 identity columns have to be told
+        private void restartIdentity(String table, long next) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) (Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+            if ("H2".equals(product)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    // Hands out ids from blocks reserved on a table generator
+    private class IdBlocks {
+
+        private final String generator;
+        private long next;
+        private long limit;
+        private long first;
+        private long taken;
+
+        IdBlocks(String generator) {
+            this.generator = generator;
+        }
+
+        long next() {
+            if (next == limit) {
+                next = idGeneratorAligner.reserve(generator, ID_BLOCK);
+                limit = next + ID_BLOCK;
+                if (taken == 0) {
+                    first = next;
+                }
+            }
+            taken++;
+            return next++;
+        }
+    }
+
+    private static class City {
+
+        private final String name;
+        private final String state;
+        private final String pincodePrefix;
+        private final double latitude;
+        private final double longitude;
+        private final int weight;
+        private final double rentFactor;
+
+        City(String name, String state, String pincodePrefix, double latitude, double longitude, int weight,
+             double rentFactor) {
+            this.name = name;
+            this.state = state;
+            this.pincodePrefix = pincodePrefix;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.weight = weight;
+            this.rentFactor = rentFactor;
+        }
+    }
+}
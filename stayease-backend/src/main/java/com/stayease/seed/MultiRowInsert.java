@@ -0,0 +1,71 @@
+package com.stayease.seed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Writes rows for one table as multi-row INSERTs under MySQL's placeholder limit
+class MultiRowInsert {
+
+    private static final int MAX_ROWS_PER_INSERT = 500;
+    private static final int MAX_PLACEHOLDERS = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerInsert;
+    private final List<Object[]> pending = new ArrayList<>();
+    private long total;
+
+    MultiRowInsert(JdbcTemplate jdbcTemplate, String table, String... columns) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerInsert = Math.min(MAX_ROWS_PER_INSERT, MAX_PLACEHOLDERS / columns.length);
+    }
+
+    void add(Object... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(table + " expects " + columns.length + " values, got " + values.length);
+        }
+        pending.add(values);
+        total++;
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    long total() {
+        return total;
+    }
+
+    void flush() {
+        for (int from = 0; from < pending.size(); from += rowsPerInsert) {
+            List<Object[]> chunk = pending.subList(from, Math.min(pending.size(), from + rowsPerInsert));
+            jdbcTemplate.update(insertSql(chunk.size()), flatten(chunk));
+        }
+        pending.clear();
+    }
+
+    private String insertSql(int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+            + String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    private Object[] flatten(List<Object[]> rows) {
+        Object[] args = new Object[rows.size() * columns.length];
+        int i = 0;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                args[i++] = value instanceof LocalDate date ? Date.valueOf(date) : value;
+            }
+        }
+        return args;
+    }
+}
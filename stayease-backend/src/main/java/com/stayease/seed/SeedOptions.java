@@ -0,0 +1,32 @@
+package com.stayease.seed;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// Size and shape of a generated dataset; only properties has to be set
+@Getter
+@Builder
+public class SeedOptions {
+
+    private final int properties;
+
+    @Builder.Default
+    private final int propertiesPerOwner = 25;
+
+    // Initial size of the tenant pool, per property; it grows so that no tenant has two active bookings
+    @Builder.Default
+    private final int tenantsPerProperty = 8;
+
+    // Mean share of beds that are occupied or reserved
+    @Builder.Default
+    private final double occupancy = 0.72;
+
+    @Builder.Default
+    private final int reviewsPerProperty = 3;
+
+    @Builder.Default
+    private final int maxInquiriesPerProperty = 5;
+
+    @Builder.Default
+    private final long randomSeed = 42L;
+}
@@ -0,0 +1,64 @@
+package com.stayease.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Loads a synthetic dataset at startup when seed.enabled is set
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SeedRunner implements ApplicationRunner {
+
+    private final DatasetSeeder datasetSeeder;
+
+    @Value("${seed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${seed.properties:10000}")
+    private int properties;
+
+    @Value("${seed.properties-per-owner:25}")
+    private int propertiesPerOwner;
+
+    @Value("${seed.tenants-per-property:8}")
+    private int tenantsPerProperty;
+
+    @Value("${seed.occupancy:0.72}")
+    private double occupancy;
+
+    @Value("${seed.reviews-per-property:3}")
+    private int reviewsPerProperty;
+
+    @Value("${seed.max-inquiries-per-property:5}")
+    private int maxInquiriesPerProperty;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        if (datasetSeeder.hasSeededData()) {
+            log.info("Seed data already present, skipping");
+            return;
+        }
+        datasetSeeder.seed(SeedOptions.builder()
+            .properties(properties)
+            .propertiesPerOwner(propertiesPerOwner)
+            .tenantsPerProperty(tenantsPerProperty)
+            .occupancy(occupancy)
+            .reviewsPerProperty(reviewsPerProperty)
+            .maxInquiriesPerProperty(maxInquiriesPerProperty)
+            .randomSeed(randomSeed)
+            .build());
+    }
+}
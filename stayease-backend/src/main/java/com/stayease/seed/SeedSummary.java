@@ -0,0 +1,28 @@
+package com.stayease.seed;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeedSummary {
+
+    private final int owners;
+    private final int tenants;
+    private final int properties;
+    private final long rooms;
+    private final long beds;
+    private final long bookings;
+    private final long reviews;
+    private final long inquiries;
+    private final long firstOwnerUserId;
+    private final long firstTenantUserId;
+    private final long firstPropertyId;
+    private final long firstRoomId;
+
+    @Override
+    public String toString() {
+        return String.format("%d owners, %d tenants, %d properties, %d rooms, %d beds, %d bookings, %d reviews, %d inquiries",
+            owners, tenants, properties, rooms, beds, bookings, reviews, inquiries);
+    }
+}
@@ -0,0 +1,12 @@
+package com.stayease.service;
+
+import com.stayease.dto.response.CacheStatsResponse;
+
+import java.util.List;
+
+public interface AdminService {
+    
+    List<CacheStatsResponse> getCacheStats();
+    
+    void updateUserStatus(Long userId, Long adminId, boolean isActive);
+}
@@ -1,6 +1,7 @@
 package com.stayease.service;
 
 import com.stayease.dto.request.LoginRequest;
+import com.stayease.dto.request.RefreshTokenRequest;
 import com.stayease.dto.request.RegisterRequest;
 import com.stayease.dto.response.JwtResponse;
 import com.stayease.dto.response.UserResponse;
@@ -9,6 +10,10 @@ public interface AuthService {
     
     JwtResponse login(LoginRequest loginRequest);
     
+    JwtResponse refresh(RefreshTokenRequest request);
+    
+    void logout(RefreshTokenRequest request);
+    
     UserResponse register(RegisterRequest registerRequest);
     
     UserResponse registerOwner(RegisterRequest registerRequest);
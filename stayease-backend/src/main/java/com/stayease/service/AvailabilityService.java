@@ -0,0 +1,14 @@
+package com.stayease.service;
+
+import com.stayease.dto.response.AvailableBedResponse;
+import com.stayease.dto.response.PropertyCalendarResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AvailabilityService {
+    
+    List<AvailableBedResponse> getAvailableBeds(Long propertyId, Long roomId, LocalDate from, LocalDate to);
+    
+    PropertyCalendarResponse getPropertyCalendar(Long propertyId, LocalDate from, LocalDate to);
+}
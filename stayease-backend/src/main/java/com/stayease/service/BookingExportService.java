@@ -0,0 +1,10 @@
+package com.stayease.service;
+
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface BookingExportService {
+    
+    StreamingResponseBody exportOwnerBookings(Long ownerId, BookingStatus status, ExportFormat format);
+}
@@ -2,6 +2,7 @@ package com.stayease.service;
 
 import com.stayease.dto.request.BookingRequest;
 import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.CursorPagedResponse;
 import com.stayease.dto.response.PagedResponse;
 import com.stayease.enums.BookingStatus;
 
@@ -17,6 +18,10 @@ public interface BookingService {
     
     PagedResponse<BookingResponse> getOwnerBookings(Long ownerId, BookingStatus status, int page, int size);
     
+    CursorPagedResponse<BookingResponse> getUserBookingsByCursor(Long userId, String cursor, int size);
+    
+    CursorPagedResponse<BookingResponse> getOwnerBookingsByCursor(Long ownerId, BookingStatus status, String cursor, int size);
+    
     BookingResponse updateBookingStatus(Long bookingId, BookingStatus status, Long userId);
     
     void cancelBooking(Long bookingId, Long userId);
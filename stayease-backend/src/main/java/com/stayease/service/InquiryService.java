@@ -0,0 +1,12 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.InquiryRequest;
+import com.stayease.dto.response.InquiryResponse;
+import com.stayease.dto.response.PagedResponse;
+
+public interface InquiryService {
+    
+    void submitInquiry(InquiryRequest request, Long userId);
+    
+    PagedResponse<InquiryResponse> getOwnerInquiries(Long userId, int page, int size);
+}
@@ -0,0 +1,8 @@
+package com.stayease.service;
+
+import com.stayease.dto.response.OwnerDashboardResponse;
+
+public interface OwnerDashboardService {
+    
+    OwnerDashboardResponse getDashboard(Long userId);
+}
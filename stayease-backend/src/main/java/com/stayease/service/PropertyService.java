@@ -1,7 +1,10 @@
 package com.stayease.service;
 
 import com.stayease.dto.request.PropertyRequest;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.FacetedSearchResponse;
 import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyCardResponse;
 import com.stayease.dto.response.PropertyResponse;
 import com.stayease.enums.GenderPreference;
 import com.stayease.enums.PropertyType;
@@ -21,6 +24,8 @@ public interface PropertyService {
     
     PagedResponse<PropertyResponse> getPropertiesByOwner(Long ownerId, int page, int size);
     
+    CursorPagedResponse<PropertyResponse> getAllPropertiesByCursor(String cursor, int size);
+    
     PagedResponse<PropertyResponse> searchProperties(
         String city,
         PropertyType propertyType,
@@ -32,8 +37,72 @@ public interface PropertyService {
         int size
     );
     
+    PagedResponse<PropertyCardResponse> searchPropertyCards(
+        String city,
+        PropertyType propertyType,
+        GenderPreference genderPreference,
+        BigDecimal minRent,
+        BigDecimal maxRent,
+        Integer availableBeds,
+        int page,
+        int size
+    );
+    
+    PagedResponse<PropertyCardResponse> searchNearby(
+        double latitude,
+        double longitude,
+        double radiusKm,
+        String city,
+        PropertyType propertyType,
+        GenderPreference genderPreference,
+        BigDecimal minRent,
+        BigDecimal maxRent,
+        Integer availableBeds,
+        int page,
+        int size
+    );
+    
+    PagedResponse<PropertyCardResponse> searchWithinBounds(
+        double minLatitude,
+        double minLongitude,
+        double maxLatitude,
+        double maxLongitude,
+        String city,
+        PropertyType propertyType,
+        GenderPreference genderPreference,
+        BigDecimal minRent,
+        BigDecimal maxRent,
+        Integer availableBeds,
+        int page,
+        int size
+    );
+    
+    FacetedSearchResponse searchWithFacets(
+        String city,
+        PropertyType propertyType,
+        GenderPreference genderPreference,
+        BigDecimal minRent,
+        BigDecimal maxRent,
+        Integer availableBeds,
+        int page,
+        int size
+    );
+    
+    CursorPagedResponse<PropertyResponse> searchPropertiesByCursor(
+        String city,
+        PropertyType propertyType,
+        GenderPreference genderPreference,
+        BigDecimal minRent,
+        BigDecimal maxRent,
+        Integer availableBeds,
+        String cursor,
+        int size
+    );
+    
     PagedResponse<PropertyResponse> searchByKeyword(String keyword, int page, int size);
     
+    PagedResponse<PropertyCardResponse> searchPropertyCardsByKeyword(String keyword, int page, int size);
+    
     List<PropertyResponse> getFeaturedProperties();
     
     List<String> getAllCities();
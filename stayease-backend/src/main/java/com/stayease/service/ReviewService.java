@@ -0,0 +1,19 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.ReviewRequest;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.RatingSummaryResponse;
+import com.stayease.dto.response.ReviewResponse;
+
+public interface ReviewService {
+    
+    ReviewResponse createReview(ReviewRequest request, Long userId);
+    
+    ReviewResponse updateReview(Long reviewId, ReviewRequest request, Long userId);
+    
+    void setReviewVisibility(Long reviewId, boolean visible);
+    
+    CursorPagedResponse<ReviewResponse> getPropertyReviews(Long propertyId, String cursor, int size);
+    
+    RatingSummaryResponse getPropertyRatingSummary(Long propertyId);
+}
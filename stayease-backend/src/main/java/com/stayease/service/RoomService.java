@@ -1,6 +1,8 @@
 package com.stayease.service;
 
+import com.stayease.dto.request.BulkRoomRequest;
 import com.stayease.dto.request.RoomRequest;
+import com.stayease.dto.response.BulkRoomResponse;
 import com.stayease.dto.response.RoomResponse;
 
 import java.util.List;
@@ -9,6 +11,8 @@ public interface RoomService {
     
     RoomResponse createRoom(Long propertyId, RoomRequest request, Long ownerId);
     
+    BulkRoomResponse createRooms(Long propertyId, BulkRoomRequest request, Long ownerId);
+    
     RoomResponse updateRoom(Long roomId, RoomRequest request, Long ownerId);
     
     RoomResponse getRoomById(Long roomId);
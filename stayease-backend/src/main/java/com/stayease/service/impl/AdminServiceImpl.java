@@ -0,0 +1,66 @@
+package com.stayease.service.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stayease.dto.response.CacheStatsResponse;
+import com.stayease.entity.User;
+import com.stayease.event.UserStatusChangedEvent;
+import com.stayease.exception.BadRequestException;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.UserRepository;
+import com.stayease.service.AdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminServiceImpl implements AdminService {
+
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats cacheStats = nativeCache.stats();
+            stats.add(CacheStatsResponse.builder()
+                .name(name)
+                .size(nativeCache.estimatedSize())
+                .hitCount(cacheStats.hitCount())
+                .missCount(cacheStats.missCount())
+                .hitRate(cacheStats.hitRate())
+                .evictionCount(cacheStats.evictionCount())
+                .build());
+        }
+        return stats;
+    }
+
+    @Override
+    @Transactional
+    public void updateUserStatus(Long userId, Long adminId, boolean isActive) {
+        if (userId.equals(adminId) && !isActive) {
+            throw new BadRequestException("You cannot deactivate your own account");
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        user.setIsActive(isActive);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
+    }
+}
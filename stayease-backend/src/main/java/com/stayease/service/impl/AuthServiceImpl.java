@@ -1,6 +1,7 @@
 package com.stayease.service.impl;
 
 import com.stayease.dto.request.LoginRequest;
+import com.stayease.dto.request.RefreshTokenRequest;
 import com.stayease.dto.request.RegisterRequest;
 import com.stayease.dto.response.JwtResponse;
 import com.stayease.dto.response.UserResponse;
@@ -14,6 +15,7 @@ import com.stayease.repository.OwnerProfileRepository;
 import com.stayease.repository.UserRepository;
 import com.stayease.security.CustomUserDetails;
 import com.stayease.security.JwtTokenProvider;
+import com.stayease.security.LoginExecutor;
 import com.stayease.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,15 +35,18 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginExecutor loginExecutor;
+    private final RefreshTokens refreshTokens;
 
     @Override
     public JwtResponse login(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
+        // The BCrypt check runs on the bounded login pool; everything else stays on the request thread
+        Authentication authentication = loginExecutor.execute(() -> authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 loginRequest.getEmail(),
                 loginRequest.getPassword()
             )
-        );
+        ));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtTokenProvider.generateToken(authentication);
@@ -50,12 +55,21 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findById(userDetails.getId())
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return JwtResponse.builder()
-            .accessToken(jwt)
-            .tokenType("Bearer")
-            .expiresIn(jwtTokenProvider.getExpirationTime())
-            .user(mapToUserResponse(user))
-            .build();
+        return toJwtResponse(jwt, refreshTokens.issue(user), user);
+    }
+
+    // A signature and one indexed token lookup; no password check and no session state
+    @Override
+    public JwtResponse refresh(RefreshTokenRequest request) {
+        RefreshTokens.Rotation rotation = refreshTokens.rotate(request.getRefreshToken());
+        User user = rotation.getUser();
+        String jwt = jwtTokenProvider.generateTokenFromEmail(user.getEmail(), user.getId(), user.getRole().name());
+        return toJwtResponse(jwt, rotation.getRefreshToken(), user);
+    }
+
+    @Override
+    public void logout(RefreshTokenRequest request) {
+        refreshTokens.revokeFamily(request.getRefreshToken());
     }
 
     @Override
@@ -124,6 +138,17 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    private JwtResponse toJwtResponse(String jwt, String refreshToken, User user) {
+        return JwtResponse.builder()
+            .accessToken(jwt)
+            .tokenType("Bearer")
+            .expiresIn(jwtTokenProvider.getExpirationTime())
+            .refreshToken(refreshToken)
+            .refreshExpiresIn(refreshTokens.getTtlMillis())
+            .user(mapToUserResponse(user))
+            .build();
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
             .id(user.getId())
@@ -0,0 +1,118 @@
+package com.stayease.service.impl;
+
+import com.stayease.availability.BedAvailabilityIndexer;
+import com.stayease.availability.BedTimeline;
+import com.stayease.availability.PropertyAvailability;
+import com.stayease.dto.response.AvailableBedResponse;
+import com.stayease.dto.response.PropertyCalendarResponse;
+import com.stayease.exception.BadRequestException;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    // Two years of days, enough for the longest stays owners plan ahead for
+    private static final int MAX_CALENDAR_DAYS = 731;
+
+    private final BedAvailabilityIndexer bedAvailabilityIndexer;
+    private final PropertyRepository propertyRepository;
+
+    @Override
+    public List<AvailableBedResponse> getAvailableBeds(Long propertyId, Long roomId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        PropertyAvailability availability = findAvailability(propertyId);
+        if (availability == null) {
+            return Collections.emptyList();
+        }
+
+        return availability.freeBeds(roomId, BedTimeline.toDay(from), BedTimeline.toDay(to)).stream()
+            .map(bed -> AvailableBedResponse.builder()
+                .bedId(bed.getBedId())
+                .roomId(bed.getRoomId())
+                .roomNumber(bed.getRoomNumber())
+                .bedNumber(bed.getBedNumber())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public PropertyCalendarResponse getPropertyCalendar(Long propertyId, LocalDate from, LocalDate to) {
+        if (to == null) {
+            throw new BadRequestException("End date is required for a calendar");
+        }
+        validateRange(from, to);
+        int firstDay = BedTimeline.toDay(from);
+        int lastDay = BedTimeline.toDay(to);
+        if (lastDay - firstDay > MAX_CALENDAR_DAYS) {
+            throw new BadRequestException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        PropertyAvailability availability = findAvailability(propertyId);
+        List<BedTimeline> beds = availability == null ? Collections.emptyList() : availability.getBeds();
+        int blockedBeds = availability == null ? 0 : availability.getBlockedBeds();
+        int[] booked = availability == null ? new int[lastDay - firstDay] : availability.bookedPerDay(firstDay, lastDay);
+
+        List<PropertyCalendarResponse.CalendarDay> days = new ArrayList<>(booked.length);
+        for (int i = 0; i < booked.length; i++) {
+            days.add(PropertyCalendarResponse.CalendarDay.builder()
+                .date(from.plusDays(i))
+                .bookedBeds(booked[i])
+                .freeBeds(beds.size() - blockedBeds - booked[i])
+                .build());
+        }
+
+        List<PropertyCalendarResponse.BedCalendar> bedCalendars = new ArrayList<>(beds.size());
+        for (BedTimeline bed : beds) {
+            List<PropertyCalendarResponse.BookedStay> stays = new ArrayList<>();
+            for (int i = bed.firstEndingAfter(firstDay); i < bed.size() && bed.startAt(i) < lastDay; i++) {
+                stays.add(PropertyCalendarResponse.BookedStay.builder()
+                    .checkInDate(BedTimeline.toDate(bed.startAt(i)))
+                    .checkOutDate(BedTimeline.toDate(bed.endAt(i)))
+                    .build());
+            }
+            bedCalendars.add(PropertyCalendarResponse.BedCalendar.builder()
+                .bedId(bed.getBedId())
+                .roomId(bed.getRoomId())
+                .roomNumber(bed.getRoomNumber())
+                .bedNumber(bed.getBedNumber())
+                .blocked(bed.isBlocked())
+                .bookedStays(stays)
+                .build());
+        }
+
+        return PropertyCalendarResponse.builder()
+            .propertyId(propertyId)
+            .from(from)
+            .to(to)
+            .totalBeds(beds.size())
+            .blockedBeds(blockedBeds)
+            .days(days)
+            .beds(bedCalendars)
+            .build();
+    }
+
+    private PropertyAvailability findAvailability(Long propertyId) {
+        PropertyAvailability availability = bedAvailabilityIndexer.forProperty(propertyId);
+        if (availability == null && !propertyRepository.existsById(propertyId)) {
+            throw new ResourceNotFoundException("Property", "id", propertyId);
+        }
+        return availability;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (to != null && !to.isAfter(from)) {
+            throw new BadRequestException("End date must be after start date");
+        }
+    }
+}
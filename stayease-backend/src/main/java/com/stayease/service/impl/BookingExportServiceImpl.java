@@ -0,0 +1,200 @@
+package com.stayease.service.impl;
+
+import com.stayease.entity.OwnerProfile;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.ExportFormat;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.projection.BookingExportView;
+import com.stayease.service.BookingExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Streams an owner's bookings from a forward-only result set, one row at a time
+@Service
+@Slf4j
+public class BookingExportServiceImpl implements BookingExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = {
+        "booking_reference", "status", "tenant_name", "tenant_email", "tenant_phone",
+        "property", "room", "bed", "check_in", "check_out", "monthly_rent", "security_deposit", "created_at"
+    };
+
+    // monthly_rent and security_deposit are written as JSON numbers
+    private static final boolean[] JSON_NUMBERS = {
+        false, false, false, false, false, false, false, false, false, false, true, true, false
+    };
+
+    private final BookingRepository bookingRepository;
+    private final OwnerProfileRepository ownerProfileRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExportServiceImpl(BookingRepository bookingRepository,
+                                    OwnerProfileRepository ownerProfileRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.ownerProfileRepository = ownerProfileRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportOwnerBookings(Long userId, BookingStatus status, ExportFormat format) {
+        // Resolved up front so a missing profile is a 404, not a broken download
+        OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
+        Long ownerId = owner.getId();
+
+        // Runs on the async request thread once headers are sent; the stream needs its own transaction
+        return outputStream -> readOnlyTransaction.executeWithoutResult(tx -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            long rows = 0;
+            try (Stream<BookingExportView> bookings = bookingRepository.streamForExport(ownerId, status)) {
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, CSV_HEADER);
+                }
+                Iterator<BookingExportView> it = bookings.iterator();
+                while (it.hasNext()) {
+                    BookingExportView booking = it.next();
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, values(booking));
+                    } else {
+                        writeJsonLine(writer, values(booking));
+                    }
+                    rows++;
+                }
+                writer.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            log.debug("Exported {} bookings for owner {} as {}", rows, ownerId, format);
+        });
+    }
+
+    private static String[] values(BookingExportView booking) {
+        return new String[] {
+            booking.getBookingReference(),
+            booking.getStatus() != null ? booking.getStatus().name() : null,
+            booking.getTenantFirstName() + " " + booking.getTenantLastName(),
+            booking.getTenantEmail(),
+            booking.getTenantPhone(),
+            booking.getPropertyName(),
+            booking.getRoomNumber(),
+            booking.getBedNumber(),
+            stringOrNull(booking.getCheckInDate()),
+            stringOrNull(booking.getCheckOutDate()),
+            booking.getMonthlyRent() != null ? booking.getMonthlyRent().toPlainString() : null,
+            booking.getSecurityDeposit() != null ? booking.getSecurityDeposit().toPlainString() : null,
+            stringOrNull(booking.getCreatedAt())
+        };
+    }
+
+    private static String stringOrNull(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (isFormula(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // Spreadsheets evaluate cells starting with = + - @ as formulas. A leading + or - followed only by
+    // digits and phone punctuation (+91 98765 43210, -1500.00) cannot reference cells or call functions,
+    // so it is left alone rather than corrupting phone numbers and negative amounts.
+    private static boolean isFormula(String value) {
+        char first = value.charAt(0);
+        if (first == '=' || first == '@') {
+            return true;
+        }
+        if (first != '+' && first != '-') {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isDigit(c) && c != ' ' && c != '-' && c != '.' && c != '(' && c != ')') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeJsonLine(Writer writer, String[] values) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(CSV_HEADER[i]);
+            writer.write("\":");
+            if (JSON_NUMBERS[i] && values[i] != null) {
+                writer.write(values[i]);
+            } else {
+                writeJsonString(writer, values[i]);
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,112 @@
+package com.stayease.service.impl;
+
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.projection.BookingSlotView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+// Set-wise booking transitions for the lifecycle job, each conditional on the current status
+@Component
+@RequiredArgsConstructor
+public class BookingLifecycle {
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = Arrays.asList(
+        BookingStatus.PENDING,
+        BookingStatus.CONFIRMED,
+        BookingStatus.CHECKED_IN
+    );
+
+    private final BookingRepository bookingRepository;
+    private final BedRepository bedRepository;
+    private final InventoryCounters inventoryCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<BookingSlotView> findStalePending(LocalDateTime createdBefore, Long afterId, int limit) {
+        return bookingRepository.findPendingCreatedBefore(createdBefore, afterId, PageRequest.of(0, limit));
+    }
+
+    public List<BookingSlotView> findOverdueCheckIns(LocalDate dueBy, Long afterId, int limit) {
+        return bookingRepository.findCheckedInDueBy(dueBy, afterId, PageRequest.of(0, limit));
+    }
+
+    public List<BookingSlotView> findStartedOnAvailableBeds(LocalDate today, Long afterId, int limit) {
+        return bookingRepository.findStartedOnAvailableBeds(today, afterId, PageRequest.of(0, limit));
+    }
+
+    // Cancels PENDING bookings nobody confirmed in time and frees their beds
+    @Transactional
+    public int expire(List<BookingSlotView> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> bedIds = collect(bookings, BookingSlotView::getBedId);
+        bedRepository.findAllByIdForUpdate(bedIds);
+
+        int expired = bookingRepository.transitionStatus(
+            collect(bookings, BookingSlotView::getId), BookingStatus.PENDING, BookingStatus.CANCELLED, now);
+        if (expired > 0) {
+            bedRepository.releaseUnbooked(bedIds, EnumSet.of(BedStatus.RESERVED), ACTIVE_STATUSES, now.toLocalDate(), now);
+            afterTransition(bookings);
+        }
+        return expired;
+    }
+
+    // Checks out stays past their check-out date
+    @Transactional
+    public int checkOut(List<BookingSlotView> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> bedIds = collect(bookings, BookingSlotView::getBedId);
+        bedRepository.findAllByIdForUpdate(bedIds);
+
+        int checkedOut = bookingRepository.transitionStatus(
+            collect(bookings, BookingSlotView::getId), BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT, now);
+        if (checkedOut > 0) {
+            bedRepository.reserveVacated(bedIds, ACTIVE_STATUSES, now.toLocalDate(), now);
+            bedRepository.releaseUnbooked(bedIds, EnumSet.of(BedStatus.OCCUPIED), ACTIVE_STATUSES, now.toLocalDate(), now);
+            afterTransition(bookings);
+        }
+        return checkedOut;
+    }
+
+    // Reserves free beds whose booked stay has started
+    @Transactional
+    public int reserveStarted(List<BookingSlotView> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> bedIds = collect(bookings, BookingSlotView::getBedId);
+        bedRepository.findAllByIdForUpdate(bedIds);
+
+        int reserved = bedRepository.reserveStarted(bedIds, now.toLocalDate(), now);
+        if (reserved > 0) {
+            afterTransition(bookings);
+        }
+        return reserved;
+    }
+
+    private void afterTransition(List<BookingSlotView> bookings) {
+        Set<Long> propertyIds = collect(bookings, BookingSlotView::getPropertyId);
+        inventoryCounters.recount(collect(bookings, BookingSlotView::getRoomId), propertyIds);
+        propertyIds.forEach(propertyId -> eventPublisher.publishEvent(PropertyChangedEvent.inventory(propertyId)));
+    }
+
+    private static Set<Long> collect(List<BookingSlotView> bookings, Function<BookingSlotView, Long> field) {
+        Set<Long> ids = new TreeSet<>();
+        for (BookingSlotView booking : bookings) {
+            ids.add(field.apply(booking));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,94 @@
+package com.stayease.service.impl;
+
+import com.stayease.job.SchedulerLeases;
+import com.stayease.util.SnowflakeIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Booking references (BK + 13 base32 characters) from Snowflake ids on a leased node id
+@Component
+@Slf4j
+public class BookingReferenceGenerator {
+
+    static final String PREFIX = "BK";
+    static final String NODE_LEASE_PREFIX = "booking-reference-node-";
+
+    private final SchedulerLeases schedulerLeases;
+    private final Duration nodeLeaseDuration;
+    private final Duration takeoverGrace;
+    private final boolean leased;
+    private volatile int nodeId;
+    private volatile SnowflakeIds ids;
+    // System.nanoTime() at which our node lease runs out, measured from before the acquire that set it
+    private volatile long leaseExpiresAt;
+
+    public BookingReferenceGenerator(
+            SchedulerLeases schedulerLeases,
+            @Value("${bookings.reference.node-id:-1}") int configuredNodeId,
+            @Value("${bookings.reference.node-lease-duration:10m}") Duration nodeLeaseDuration,
+            @Value("${bookings.reference.node-lease-takeover-grace:2m}") Duration takeoverGrace) {
+        this.schedulerLeases = schedulerLeases;
+        this.nodeLeaseDuration = nodeLeaseDuration;
+        this.takeoverGrace = takeoverGrace;
+        this.leased = configuredNodeId < 0;
+        this.nodeId = leased ? claimNode(0) : configuredNodeId;
+        this.ids = new SnowflakeIds(nodeId);
+        log.info("Booking references use node id {}{}", nodeId, leased ? " (leased)" : "");
+    }
+
+    public String next() {
+        if (leased && System.nanoTime() - leaseExpiresAt >= 0) {
+            // Past the grace another instance may hold this node, and its references could repeat ours
+            throw new IllegalStateException("Booking reference node lease " + nodeId + " expired without renewal");
+        }
+        return SnowflakeIds.encode(PREFIX, ids.next());
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(
+        initialDelayString = "${bookings.reference.node-lease-renew-ms:60000}",
+        fixedDelayString = "${bookings.reference.node-lease-renew-ms:60000}"
+    )
+    public void renewNodeLease() {
+        if (!leased) {
+            return;
+        }
+        try {
+            if (!acquireNode(nodeId)) {
+                // The lease lapsed and another instance took the node; move to a free one
+                int previous = nodeId;
+                nodeId = claimNode(previous + 1);
+                ids = new SnowflakeIds(nodeId);
+                log.warn("Lost the lease on booking reference node {}, switched to node {}", previous, nodeId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not renew the booking reference node lease", e);
+        }
+    }
+
+    private int claimNode(int start) {
+        for (int i = 0; i <= SnowflakeIds.MAX_NODE_ID; i++) {
+            int candidate = (start + i) % (SnowflakeIds.MAX_NODE_ID + 1);
+            if (acquireNode(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No free booking reference node id; set bookings.reference.node-id");
+    }
+
+    private boolean acquireNode(int candidate) {
+        long attemptedAt = System.nanoTime();
+        if (!schedulerLeases.tryAcquire(NODE_LEASE_PREFIX + candidate, nodeLeaseDuration, takeoverGrace)) {
+            return false;
+        }
+        leaseExpiresAt = attemptedAt + nodeLeaseDuration.toNanos();
+        return true;
+    }
+}
@@ -2,24 +2,28 @@ package com.stayease.service.impl;
 
 import com.stayease.dto.request.BookingRequest;
 import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.CursorPagedResponse;
 import com.stayease.dto.response.PagedResponse;
 import com.stayease.entity.*;
 import com.stayease.enums.BedStatus;
 import com.stayease.enums.BookingStatus;
+import com.stayease.event.PropertyChangedEvent;
 import com.stayease.exception.BadRequestException;
 import com.stayease.exception.ResourceNotFoundException;
 import com.stayease.repository.*;
 import com.stayease.service.BookingService;
+import com.stayease.util.KeysetCursor;
+import com.stayease.util.Paging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,12 +32,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
     
+    private static final List<BookingStatus> ACTIVE_STATUSES = Arrays.asList(
+        BookingStatus.PENDING,
+        BookingStatus.CONFIRMED,
+        BookingStatus.CHECKED_IN
+    );
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final PropertyRepository propertyRepository;
     private final RoomRepository roomRepository;
     private final BedRepository bedRepository;
     private final OwnerProfileRepository ownerProfileRepository;
+    private final InventoryCounters inventoryCounters;
+    private final BookingReferenceGenerator bookingReferenceGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -55,8 +68,8 @@ public class BookingServiceImpl implements BookingService {
             throw new BadRequestException("Room does not belong to the specified property");
         }
 
-        // Get bed
-        Bed bed = bedRepository.findById(request.getBedId())
+        // Lock the bed row so concurrent requests for it are checked one at a time
+        Bed bed = bedRepository.findByIdForUpdate(request.getBedId())
             .orElseThrow(() -> new ResourceNotFoundException("Bed", "id", request.getBedId()));
 
         // Verify bed belongs to room
@@ -64,23 +77,21 @@ public class BookingServiceImpl implements BookingService {
             throw new BadRequestException("Bed does not belong to the specified room");
         }
 
-        // Check if bed is available
-        if (bed.getStatus() != BedStatus.AVAILABLE) {
+        if (bed.getStatus() == BedStatus.MAINTENANCE || Boolean.FALSE.equals(room.getIsActive())) {
             throw new BadRequestException("Bed is not available for booking");
         }
 
-        // Check for existing active bookings
-        List<BookingStatus> activeStatuses = Arrays.asList(
-            BookingStatus.PENDING, 
-            BookingStatus.CONFIRMED, 
-            BookingStatus.CHECKED_IN
-        );
-        if (bookingRepository.existsByBedIdAndStatusIn(bed.getId(), activeStatuses)) {
-            throw new BadRequestException("Bed already has an active booking");
+        if (request.getCheckOutDate() != null && !request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+            throw new BadRequestException("Check-out date must be after check-in date");
+        }
+
+        // A bed can carry several future bookings as long as their stays do not overlap
+        if (bookingRepository.existsOverlappingBooking(
+                bed.getId(), request.getCheckInDate(), request.getCheckOutDate(), ACTIVE_STATUSES)) {
+            throw new BadRequestException("Bed is already booked for the requested dates");
         }
 
-        // Generate booking reference
-        String bookingReference = generateBookingReference();
+        String bookingReference = bookingReferenceGenerator.next();
 
         // Create booking
         Booking booking = Booking.builder()
@@ -99,18 +110,16 @@ public class BookingServiceImpl implements BookingService {
 
         Booking savedBooking = bookingRepository.save(booking);
 
-        // Update bed status to reserved
-        bed.setStatus(BedStatus.RESERVED);
-        bedRepository.save(bed);
-
-        // Update room available beds count
-        room.recalculateAvailableBeds();
-        roomRepository.save(room);
+        // Bed status is the present state: a stay starting later leaves the bed free until the lifecycle job reserves it
+        if (bed.getStatus() == BedStatus.AVAILABLE && hasStarted(savedBooking)) {
+            bed.setStatus(BedStatus.RESERVED);
+            bedRepository.save(bed);
 
-        // Update property available beds count
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+            // One bed fewer available in the room and property
+            inventoryCounters.bedStatusChanged(room.getId(), property.getId(), BedStatus.AVAILABLE, BedStatus.RESERVED);
+        }
 
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
         return mapToBookingResponse(savedBooking);
     }
 
@@ -142,7 +151,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<BookingResponse> getUserBookings(Long userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = Paging.of(page, size, Sort.by("createdAt").descending());
         Page<Booking> bookingPage = bookingRepository.findByUserId(userId, pageable);
         return mapToPagedResponse(bookingPage);
     }
@@ -153,11 +162,34 @@ public class BookingServiceImpl implements BookingService {
         OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
             .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = Paging.of(page, size, Sort.by("createdAt").descending());
         Page<Booking> bookingPage = bookingRepository.findByOwnerIdAndStatus(owner.getId(), status, pageable);
         return mapToPagedResponse(bookingPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<BookingResponse> getUserBookingsByCursor(Long userId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Booking> slice = bookingRepository.findByUserIdBefore(
+            userId, position.getCreatedAt(), position.getId(), KeysetCursor.pageable(size)
+        );
+        return mapToCursorPagedResponse(slice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<BookingResponse> getOwnerBookingsByCursor(Long userId, BookingStatus status, String cursor, int size) {
+        OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Booking> slice = bookingRepository.findByOwnerIdAndStatusBefore(
+            owner.getId(), status, position.getCreatedAt(), position.getId(), KeysetCursor.pageable(size)
+        );
+        return mapToCursorPagedResponse(slice);
+    }
+
     @Override
     @Transactional
     public BookingResponse updateBookingStatus(Long bookingId, BookingStatus newStatus, Long userId) {
@@ -170,7 +202,8 @@ public class BookingServiceImpl implements BookingService {
         }
 
         BookingStatus currentStatus = booking.getStatus();
-        Bed bed = booking.getBed();
+        Bed bed = lockBed(booking);
+        BedStatus previousBedStatus = bed.getStatus();
         Room room = booking.getRoom();
         Property property = booking.getProperty();
 
@@ -180,9 +213,14 @@ public class BookingServiceImpl implements BookingService {
         // Update bed status based on booking status
         switch (newStatus) {
             case CONFIRMED:
-                bed.setStatus(BedStatus.RESERVED);
+                if (bed.getStatus() == BedStatus.AVAILABLE && hasStarted(booking)) {
+                    bed.setStatus(BedStatus.RESERVED);
+                }
                 break;
             case CHECKED_IN:
+                if (bed.getStatus() == BedStatus.OCCUPIED) {
+                    throw new BadRequestException("Bed is still occupied by the previous tenant");
+                }
                 bed.setStatus(BedStatus.OCCUPIED);
                 bed.setCurrentTenant(booking.getUser());
                 bed.setOccupiedFrom(booking.getCheckInDate());
@@ -190,10 +228,7 @@ public class BookingServiceImpl implements BookingService {
                 break;
             case CHECKED_OUT:
             case CANCELLED:
-                bed.setStatus(BedStatus.AVAILABLE);
-                bed.setCurrentTenant(null);
-                bed.setOccupiedFrom(null);
-                bed.setExpectedCheckout(null);
+                releaseBed(bed, booking);
                 break;
             default:
                 break;
@@ -201,16 +236,12 @@ public class BookingServiceImpl implements BookingService {
 
         bedRepository.save(bed);
         
-        // Recalculate counts
-        room.recalculateAvailableBeds();
-        roomRepository.save(room);
-        
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+        inventoryCounters.bedStatusChanged(room.getId(), property.getId(), previousBedStatus, bed.getStatus());
 
         booking.setStatus(newStatus);
         Booking updatedBooking = bookingRepository.save(booking);
 
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
         return mapToBookingResponse(updatedBooking);
     }
 
@@ -235,24 +266,20 @@ public class BookingServiceImpl implements BookingService {
         }
 
         // Update bed status
-        Bed bed = booking.getBed();
-        bed.setStatus(BedStatus.AVAILABLE);
-        bed.setCurrentTenant(null);
+        Bed bed = lockBed(booking);
+        BedStatus previousBedStatus = bed.getStatus();
+        releaseBed(bed, booking);
         bedRepository.save(bed);
 
-        // Update room counts
-        Room room = booking.getRoom();
-        room.recalculateAvailableBeds();
-        roomRepository.save(room);
-
-        // Update property counts
+        // Update room and property counts
         Property property = booking.getProperty();
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+        inventoryCounters.bedStatusChanged(booking.getRoom().getId(), property.getId(), previousBedStatus, bed.getStatus());
 
         // Update booking status
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
     }
 
     private void validateStatusTransition(BookingStatus current, BookingStatus newStatus) {
@@ -280,10 +307,28 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private String generateBookingReference() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String random = String.valueOf((int) (Math.random() * 10000));
-        return "BK" + timestamp + random;
+    // Called before the booking leaves its active status; the bed stays reserved for any later booking
+    private void releaseBed(Bed bed, Booking booking) {
+        if (bed.getStatus() == BedStatus.OCCUPIED && booking.getStatus() != BookingStatus.CHECKED_IN) {
+            // Another tenant lives in the bed; a future booking going away does not change that
+            return;
+        }
+        boolean startedBooking = bookingRepository.existsByBedIdAndStatusInAndIdNotAndCheckInDateLessThanEqual(
+            bed.getId(), ACTIVE_STATUSES, booking.getId(), LocalDate.now());
+        bed.setStatus(startedBooking ? BedStatus.RESERVED : BedStatus.AVAILABLE);
+        bed.setCurrentTenant(null);
+        bed.setOccupiedFrom(null);
+        bed.setExpectedCheckout(null);
+    }
+
+    private static boolean hasStarted(Booking booking) {
+        return !booking.getCheckInDate().isAfter(LocalDate.now());
+    }
+
+    private Bed lockBed(Booking booking) {
+        Long bedId = booking.getBed().getId();
+        return bedRepository.findByIdForUpdate(bedId)
+            .orElseThrow(() -> new ResourceNotFoundException("Bed", "id", bedId));
     }
 
     private BookingResponse mapToBookingResponse(Booking booking) {
@@ -323,4 +368,24 @@ public class BookingServiceImpl implements BookingService {
             .first(page.isFirst())
             .build();
     }
+
+    private CursorPagedResponse<BookingResponse> mapToCursorPagedResponse(Slice<Booking> slice) {
+        List<Booking> bookings = slice.getContent();
+        List<BookingResponse> content = bookings.stream()
+            .map(this::mapToBookingResponse)
+            .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Booking last = bookings.get(bookings.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPagedResponse.<BookingResponse>builder()
+            .content(content)
+            .size(slice.getSize())
+            .nextCursor(nextCursor)
+            .hasNext(slice.hasNext())
+            .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.stayease.service.impl;
+
+import com.stayease.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Queues public inquiries and inserts them in batches; a full queue answers 429
+@Component
+@Slf4j
+public class InquiryBuffer {
+
+    private static final String INSERT_SQL = "INSERT INTO inquiries (property_id, user_id, name, email, phone, "
+        + "message, preferred_visit_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'NEW', ?, ?)";
+
+    private static final String METRIC_PREFIX = "stayease.inquiries.buffer";
+
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingInquiry> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+    private final long maxBackoffNanos;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private volatile boolean running;
+    private Thread writer;
+
+    public InquiryBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inquiries.buffer.capacity:10000}") int capacity,
+            @Value("${inquiries.buffer.batch-size:200}") int batchSize,
+            @Value("${inquiries.buffer.flush-interval:1s}") Duration flushInterval,
+            @Value("${inquiries.buffer.shutdown-timeout:10s}") Duration shutdownTimeout,
+            @Value("${inquiries.buffer.max-retry-backoff:5s}") Duration maxBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        // A batch commits as a whole, so retrying it after a failure cannot insert a row twice
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        Gauge.builder(METRIC_PREFIX + ".size", queue, BlockingQueue::size)
+            .description("Inquiries waiting to be written")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + ".written").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Submissions refused because the buffer was full")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+            .description("Inquiries dropped because the database rejected them")
+            .register(meterRegistry);
+        this.retriedCounter = Counter.builder(METRIC_PREFIX + ".retried")
+            .description("Writes put off because the database was unavailable")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "inquiry-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeout.toMillis());
+        if (!queue.isEmpty()) {
+            log.warn("{} queued inquiries were not written before shutdown", queue.size());
+        }
+    }
+
+    public void submit(PendingInquiry inquiry) {
+        if (!queue.offer(inquiry)) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(
+                "We are receiving a lot of inquiries right now, please try again in a moment",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(flushIntervalNanos)));
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void writeLoop() {
+        List<PendingInquiry> batch = new ArrayList<>(batchSize);
+        long backoffNanos = INITIAL_BACKOFF_NANOS;
+        while (running) {
+            try {
+                // A batch left over from a failed write is retried before anything else is taken off the queue
+                if (batch.isEmpty()) {
+                    fill(batch);
+                }
+                if (write(batch)) {
+                    backoffNanos = INITIAL_BACKOFF_NANOS;
+                } else {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                    backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+        while (!batch.isEmpty() || queue.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                log.warn("Database unavailable at shutdown, {} inquiries were not written", batch.size() + queue.size());
+                return;
+            }
+        }
+    }
+
+    // Waits up to one interval for the first row, then collects until the batch is full or the interval ends
+    private void fill(List<PendingInquiry> batch) throws InterruptedException {
+        PendingInquiry first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingInquiry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // Removes the rows it wrote or dropped; false leaves the rest in the batch because the database is unavailable
+    private boolean write(List<PendingInquiry> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+            writtenCounter.increment(batch.size());
+            batch.clear();
+            return true;
+        } catch (CannotCreateTransactionException ex) {
+            // No connection to begin the transaction on
+            return retryLater(batch, ex);
+        } catch (DataAccessException ex) {
+            if (isTransient(ex)) {
+                return retryLater(batch, ex);
+            }
+            // One bad row (say, its property was deleted meanwhile) fails the whole batch; retry row by row
+            log.warn("Batch insert of {} inquiries failed, retrying individually: {}", batch.size(), ex.getMessage());
+        }
+
+        Iterator<PendingInquiry> rows = batch.iterator();
+        while (rows.hasNext()) {
+            PendingInquiry inquiry = rows.next();
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, inquiry));
+                writtenCounter.increment();
+            } catch (DataAccessException ex) {
+                if (isTransient(ex)) {
+                    return retryLater(batch, ex);
+                }
+                failedCounter.increment();
+                log.error("Dropping inquiry for property {}: {}", inquiry.getPropertyId(), ex.getMessage());
+            }
+            rows.remove();
+        }
+        return true;
+    }
+
+    private boolean retryLater(List<PendingInquiry> batch, RuntimeException ex) {
+        retriedCounter.increment();
+        log.warn("Database unavailable, keeping {} inquiries for a retry: {}", batch.size(), ex.getMessage());
+        return false;
+    }
+
+    private static boolean isTransient(DataAccessException ex) {
+        return ex instanceof TransientDataAccessException
+            || ex instanceof RecoverableDataAccessException
+            || ex instanceof DataAccessResourceFailureException;
+    }
+
+    private void bind(PreparedStatement ps, PendingInquiry inquiry) throws SQLException {
+        Timestamp submittedAt = Timestamp.valueOf(inquiry.getSubmittedAt());
+        ps.setLong(1, inquiry.getPropertyId());
+        if (inquiry.getUserId() != null) {
+            ps.setLong(2, inquiry.getUserId());
+        } else {
+            ps.setNull(2, Types.BIGINT);
+        }
+        ps.setString(3, inquiry.getName());
+        ps.setString(4, inquiry.getEmail());
+        ps.setString(5, inquiry.getPhone());
+        ps.setString(6, inquiry.getMessage());
+        if (inquiry.getPreferredVisitDate() != null) {
+            ps.setDate(7, Date.valueOf(inquiry.getPreferredVisitDate()));
+        } else {
+            ps.setNull(7, Types.DATE);
+        }
+        ps.setTimestamp(8, submittedAt);
+        ps.setTimestamp(9, submittedAt);
+    }
+
+    @Getter
+    @Builder
+    public static class PendingInquiry {
+        private final Long propertyId;
+        private final Long userId;
+        private final String name;
+        private final String email;
+        private final String phone;
+        private final String message;
+        private final LocalDate preferredVisitDate;
+        private final LocalDateTime submittedAt;
+    }
+}
@@ -0,0 +1,91 @@
+package com.stayease.service.impl;
+
+import com.stayease.dto.request.InquiryRequest;
+import com.stayease.dto.response.InquiryResponse;
+import com.stayease.dto.response.PagedResponse;
+import com.stayease.entity.Inquiry;
+import com.stayease.entity.OwnerProfile;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.InquiryRepository;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.service.InquiryService;
+import com.stayease.util.Paging;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class InquiryServiceImpl implements InquiryService {
+    
+    private final InquiryRepository inquiryRepository;
+    private final PropertyRepository propertyRepository;
+    private final OwnerProfileRepository ownerProfileRepository;
+    private final InquiryBuffer inquiryBuffer;
+    
+    @Override
+    public void submitInquiry(InquiryRequest request, Long userId) {
+        if (!propertyRepository.existsByIdAndIsActiveTrue(request.getPropertyId())) {
+            throw new ResourceNotFoundException("Property", "id", request.getPropertyId());
+        }
+        
+        inquiryBuffer.submit(InquiryBuffer.PendingInquiry.builder()
+            .propertyId(request.getPropertyId())
+            .userId(userId)
+            .name(request.getName().trim())
+            .email(request.getEmail().trim())
+            .phone(request.getPhone())
+            .message(request.getMessage())
+            .preferredVisitDate(request.getPreferredVisitDate())
+            .submittedAt(LocalDateTime.now())
+            .build());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<InquiryResponse> getOwnerInquiries(Long userId, int page, int size) {
+        OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
+        
+        Pageable pageable = Paging.of(page, size, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+        Page<Inquiry> inquiryPage = inquiryRepository.findByOwnerId(owner.getId(), pageable);
+        
+        List<InquiryResponse> content = inquiryPage.getContent().stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+        
+        return PagedResponse.<InquiryResponse>builder()
+            .content(content)
+            .page(inquiryPage.getNumber())
+            .size(inquiryPage.getSize())
+            .totalElements(inquiryPage.getTotalElements())
+            .totalPages(inquiryPage.getTotalPages())
+            .last(inquiryPage.isLast())
+            .first(inquiryPage.isFirst())
+            .build();
+    }
+    
+    private InquiryResponse mapToResponse(Inquiry inquiry) {
+        return InquiryResponse.builder()
+            .id(inquiry.getId())
+            .propertyId(inquiry.getProperty().getId())
+            .propertyName(inquiry.getProperty().getName())
+            .name(inquiry.getName())
+            .email(inquiry.getEmail())
+            .phone(inquiry.getPhone())
+            .message(inquiry.getMessage())
+            .preferredVisitDate(inquiry.getPreferredVisitDate())
+            .status(inquiry.getStatus())
+            .ownerNotes(inquiry.getOwnerNotes())
+            .createdAt(inquiry.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.stayease.service.impl;
+
+import com.stayease.enums.BedStatus;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RoomRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// Keeps room and property bed counters current with single-row delta updates
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryCounters {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final RoomRepository roomRepository;
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void bedStatusChanged(Long roomId, Long propertyId, BedStatus from, BedStatus to) {
+        int delta = availability(to) - availability(from);
+        if (delta != 0) {
+            roomRepository.adjustAvailableBeds(roomId, delta);
+            propertyRepository.adjustInventory(propertyId, 0, 0, delta);
+        }
+    }
+
+    // New beds always start out available
+    public void bedsAdded(Long roomId, Long propertyId, int count) {
+        if (count != 0) {
+            roomRepository.adjustAvailableBeds(roomId, count);
+            propertyRepository.adjustInventory(propertyId, 0, count, count);
+        }
+    }
+
+    public void roomAdded(Long propertyId, int totalBeds, int availableBeds) {
+        roomsAdded(propertyId, 1, totalBeds, availableBeds);
+    }
+
+    public void roomsAdded(Long propertyId, int rooms, int totalBeds, int availableBeds) {
+        propertyRepository.adjustInventory(propertyId, rooms, totalBeds, availableBeds);
+    }
+
+    public void roomRemoved(Long propertyId, int totalBeds, int availableBeds) {
+        propertyRepository.adjustInventory(propertyId, -1, -totalBeds, -availableBeds);
+    }
+
+    // Recomputes the counters of the given rooms and their properties from the bed rows, after set-wise bed updates
+    public void recount(Collection<Long> roomIds, Collection<Long> propertyIds) {
+        if (!roomIds.isEmpty()) {
+            roomRepository.recountAvailableBeds(roomIds, BedStatus.AVAILABLE);
+        }
+        if (!propertyIds.isEmpty()) {
+            propertyRepository.recountInventory(propertyIds);
+        }
+    }
+
+    @Transactional
+    public ReconciliationResult reconcile() {
+        // Rooms first: property totals are summed from the room counters
+        List<Long> roomIds = roomRepository.findIdsWithAvailableBedsDrift(BedStatus.AVAILABLE);
+        for (int from = 0; from < roomIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            roomRepository.recountAvailableBeds(
+                roomIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, roomIds.size())), BedStatus.AVAILABLE);
+        }
+
+        List<Long> propertyIds = propertyRepository.findIdsWithInventoryDrift();
+        for (int from = 0; from < propertyIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            propertyRepository.recountInventory(
+                propertyIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, propertyIds.size())));
+        }
+        propertyIds.forEach(propertyId -> eventPublisher.publishEvent(PropertyChangedEvent.inventory(propertyId)));
+
+        if (!roomIds.isEmpty() || !propertyIds.isEmpty()) {
+            log.warn("Repaired bed counter drift in {} rooms and {} properties", roomIds.size(), propertyIds.size());
+        }
+        return new ReconciliationResult(roomIds.size(), propertyIds.size());
+    }
+
+    private static int availability(BedStatus status) {
+        return status == BedStatus.AVAILABLE ? 1 : 0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ReconciliationResult {
+
+        private final int roomsRepaired;
+        private final int propertiesRepaired;
+    }
+}
@@ -0,0 +1,89 @@
+package com.stayease.service.impl;
+
+import com.stayease.config.CacheConfig;
+import com.stayease.dto.response.OwnerDashboardResponse;
+import com.stayease.entity.OwnerProfile;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.InquiryStatus;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.InquiryRepository;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.projection.BedStatusCountView;
+import com.stayease.repository.projection.BookingStatusTotalsView;
+import com.stayease.repository.projection.InquiryStatusCountView;
+import com.stayease.service.OwnerDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Owner dashboard figures from one GROUP BY query each, cached per owner
+@Service
+@RequiredArgsConstructor
+public class OwnerDashboardServiceImpl implements OwnerDashboardService {
+    
+    private final OwnerProfileRepository ownerProfileRepository;
+    private final PropertyRepository propertyRepository;
+    private final BedRepository bedRepository;
+    private final BookingRepository bookingRepository;
+    private final InquiryRepository inquiryRepository;
+    
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.OWNER_DASHBOARD, key = "#userId", sync = true)
+    public OwnerDashboardResponse getDashboard(Long userId) {
+        OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
+        
+        Map<BedStatus, Long> bedsByStatus = zeroCounts(BedStatus.class);
+        for (BedStatusCountView row : bedRepository.countByOwnerIdGroupByStatus(owner.getId())) {
+            bedsByStatus.put(row.getStatus(), row.getTotal());
+        }
+        long totalBeds = bedsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long occupied = bedsByStatus.get(BedStatus.OCCUPIED);
+        
+        Map<BookingStatus, Long> bookingsByStatus = zeroCounts(BookingStatus.class);
+        Map<BookingStatus, BigDecimal> rentByStatus = new EnumMap<>(BookingStatus.class);
+        for (BookingStatusTotalsView row : bookingRepository.sumByOwnerIdGroupByStatus(owner.getId())) {
+            bookingsByStatus.put(row.getStatus(), row.getTotal());
+            rentByStatus.put(row.getStatus(), row.getMonthlyRent());
+        }
+        BigDecimal monthlyRevenue = rentByStatus.getOrDefault(BookingStatus.CHECKED_IN, BigDecimal.ZERO);
+        
+        Map<InquiryStatus, Long> inquiriesByStatus = zeroCounts(InquiryStatus.class);
+        for (InquiryStatusCountView row : inquiryRepository.countByOwnerIdGroupByStatus(owner.getId())) {
+            inquiriesByStatus.put(row.getStatus(), row.getTotal());
+        }
+        
+        return OwnerDashboardResponse.builder()
+            .totalProperties(propertyRepository.countByOwnerId(owner.getId()))
+            .totalBeds(totalBeds)
+            .bedsByStatus(bedsByStatus)
+            .occupancyRate(totalBeds == 0 ? 0.0 : Math.round(occupied * 1000.0 / totalBeds) / 10.0)
+            .bookingsByStatus(bookingsByStatus)
+            .monthlyRevenue(monthlyRevenue)
+            .committedMonthlyRevenue(monthlyRevenue.add(
+                rentByStatus.getOrDefault(BookingStatus.CONFIRMED, BigDecimal.ZERO)))
+            .inquiriesByStatus(inquiriesByStatus)
+            .generatedAt(LocalDateTime.now())
+            .build();
+    }
+    
+    // Every status is present in the response, with 0 for the ones no row was grouped under
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E status : type.getEnumConstants()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
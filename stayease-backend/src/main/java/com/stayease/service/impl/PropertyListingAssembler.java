@@ -0,0 +1,190 @@
+package com.stayease.service.impl;
+
+import com.stayease.dto.response.PropertyCardResponse;
+import com.stayease.dto.response.PropertyResponse;
+import com.stayease.entity.Property;
+import com.stayease.entity.PropertyImage;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyImageRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.projection.OwnerSummaryView;
+import com.stayease.repository.projection.PropertyAmenityView;
+import com.stayease.repository.projection.PropertyCardView;
+import com.stayease.repository.projection.PropertyImageView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Builds a page of property responses with one query per association
+@Component
+@RequiredArgsConstructor
+public class PropertyListingAssembler {
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyImageRepository propertyImageRepository;
+    private final OwnerProfileRepository ownerProfileRepository;
+
+    public PropertyResponse assemble(Property property) {
+        return assemble(Collections.singletonList(property)).get(0);
+    }
+
+    public List<PropertyResponse> assemble(List<Property> properties) {
+        if (properties.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> propertyIds = new LinkedHashSet<>();
+        Set<Long> ownerIds = new HashSet<>();
+        for (Property property : properties) {
+            propertyIds.add(property.getId());
+            ownerIds.add(property.getOwner().getId());
+        }
+
+        Map<Long, List<PropertyImage>> imagesByProperty = propertyImageRepository
+            .findByPropertyIdInOrderByDisplayOrderAsc(propertyIds)
+            .stream()
+            .collect(Collectors.groupingBy(image -> image.getProperty().getId()));
+
+        Map<Long, Set<String>> amenitiesByProperty = propertyRepository
+            .findAmenityNamesByPropertyIds(propertyIds)
+            .stream()
+            .collect(Collectors.groupingBy(
+                PropertyAmenityView::getPropertyId,
+                Collectors.mapping(PropertyAmenityView::getAmenityName, Collectors.toSet())
+            ));
+
+        Map<Long, OwnerSummaryView> ownersById = new HashMap<>();
+        for (OwnerSummaryView owner : ownerProfileRepository.findSummariesByIdIn(ownerIds)) {
+            ownersById.put(owner.getId(), owner);
+        }
+
+        List<PropertyResponse> responses = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            responses.add(toResponse(
+                property,
+                imagesByProperty.getOrDefault(property.getId(), Collections.emptyList()),
+                amenitiesByProperty.getOrDefault(property.getId(), new HashSet<>()),
+                ownersById.get(property.getOwner().getId())
+            ));
+        }
+        return responses;
+    }
+
+    public List<PropertyCardResponse> assembleCards(List<PropertyCardView> cards) {
+        if (cards.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return assembleCards(cards, findPrimaryImages(
+            cards.stream().map(PropertyCardView::getId).collect(Collectors.toSet())
+        ));
+    }
+
+    // For callers that already know the primary images, such as the search index refreshing a card's counters
+    public List<PropertyCardResponse> assembleCards(List<PropertyCardView> cards, Map<Long, String> primaryImages) {
+        List<PropertyCardResponse> responses = new ArrayList<>(cards.size());
+        for (PropertyCardView card : cards) {
+            responses.add(PropertyCardResponse.builder()
+                .id(card.getId())
+                .name(card.getName())
+                .propertyType(card.getPropertyType())
+                .genderPreference(card.getGenderPreference())
+                .city(card.getCity())
+                .state(card.getState())
+                .minRent(card.getMinRent())
+                .maxRent(card.getMaxRent())
+                .totalBeds(card.getTotalBeds())
+                .availableBeds(card.getAvailableBeds())
+                .avgRating(card.getAvgRating())
+                .totalReviews(card.getTotalReviews())
+                .isVerified(card.getIsVerified())
+                .isFeatured(card.getIsFeatured())
+                .primaryImage(primaryImages.get(card.getId()))
+                .latitude(card.getLatitude())
+                .longitude(card.getLongitude())
+                .createdAt(card.getCreatedAt())
+                .build());
+        }
+        return responses;
+    }
+
+    public Map<Long, String> findPrimaryImages(Set<Long> propertyIds) {
+        // Rows arrive in display order: keep the first image unless a primary one shows up
+        Map<Long, String> primaryImages = new HashMap<>();
+        Set<Long> withPrimary = new HashSet<>();
+        for (PropertyImageView image : propertyImageRepository.findImageViewsByPropertyIds(propertyIds)) {
+            Long propertyId = image.getPropertyId();
+            if (withPrimary.contains(propertyId)) {
+                continue;
+            }
+            if (Boolean.TRUE.equals(image.getIsPrimary())) {
+                primaryImages.put(propertyId, image.getImageUrl());
+                withPrimary.add(propertyId);
+            } else {
+                primaryImages.putIfAbsent(propertyId, image.getImageUrl());
+            }
+        }
+        return primaryImages;
+    }
+
+    private PropertyResponse toResponse(Property property,
+                                        List<PropertyImage> images,
+                                        Set<String> amenityNames,
+                                        OwnerSummaryView owner) {
+        String primaryImage = images.stream()
+            .filter(image -> Boolean.TRUE.equals(image.getIsPrimary()))
+            .map(PropertyImage::getImageUrl)
+            .findFirst()
+            .orElse(images.isEmpty() ? null : images.get(0).getImageUrl());
+
+        List<String> imageUrls = images.stream()
+            .map(PropertyImage::getImageUrl)
+            .collect(Collectors.toList());
+
+        return PropertyResponse.builder()
+            .id(property.getId())
+            .name(property.getName())
+            .description(property.getDescription())
+            .propertyType(property.getPropertyType())
+            .genderPreference(property.getGenderPreference())
+            .addressLine1(property.getAddressLine1())
+            .addressLine2(property.getAddressLine2())
+            .city(property.getCity())
+            .state(property.getState())
+            .pincode(property.getPincode())
+            .fullAddress(property.getFullAddress())
+            .latitude(property.getLatitude())
+            .longitude(property.getLongitude())
+            .minRent(property.getMinRent())
+            .maxRent(property.getMaxRent())
+            .securityDeposit(property.getSecurityDeposit())
+            .noticePeriodDays(property.getNoticePeriodDays())
+            .totalRooms(property.getTotalRooms())
+            .totalBeds(property.getTotalBeds())
+            .availableBeds(property.getAvailableBeds())
+            .avgRating(property.getAvgRating())
+            .totalReviews(property.getTotalReviews())
+            .isVerified(property.getIsVerified())
+            .isFeatured(property.getIsFeatured())
+            .images(imageUrls)
+            .primaryImage(primaryImage)
+            .amenities(amenityNames)
+            .owner(owner == null ? null : PropertyResponse.OwnerSummary.builder()
+                .id(owner.getId())
+                .name(owner.getFirstName() + " " + owner.getLastName())
+                .phone(owner.getPhone())
+                .businessName(owner.getBusinessName())
+                .build())
+            .createdAt(property.getCreatedAt())
+            .build();
+    }
+}
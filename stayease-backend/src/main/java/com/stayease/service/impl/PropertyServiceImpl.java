@@ -1,38 +1,66 @@
 package com.stayease.service.impl;
 
+import com.stayease.config.CacheConfig;
 import com.stayease.dto.request.PropertyRequest;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.FacetedSearchResponse;
 import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyCardResponse;
 import com.stayease.dto.response.PropertyResponse;
 import com.stayease.entity.*;
 import com.stayease.enums.GenderPreference;
 import com.stayease.enums.PropertyType;
+import com.stayease.event.PropertyChangedEvent;
 import com.stayease.exception.BadRequestException;
 import com.stayease.exception.ResourceNotFoundException;
 import com.stayease.repository.*;
+import com.stayease.repository.projection.PropertyCardView;
+import com.stayease.search.GeoQuery;
+import com.stayease.search.KeywordSearchResult;
+import com.stayease.search.PropertySearchIndexer;
+import com.stayease.search.SearchCriteria;
+import com.stayease.search.SearchResult;
 import com.stayease.service.PropertyService;
+import com.stayease.util.KeysetCursor;
+import com.stayease.util.Paging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PropertyServiceImpl implements PropertyService {
+
+    private static final double MAX_SEARCH_RADIUS_KM = 50;
+    // About 111 km north to south, a little more than the box around the largest search radius
+    private static final double MAX_BOUNDING_BOX_SPAN_DEGREES = 1.0;
     
     private final PropertyRepository propertyRepository;
     private final OwnerProfileRepository ownerProfileRepository;
     private final AmenityRepository amenityRepository;
     private final PropertyImageRepository propertyImageRepository;
     private final UserRepository userRepository;
+    private final PropertyListingAssembler propertyListingAssembler;
+    private final PropertySearchIndexer propertySearchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
 @Transactional
@@ -91,6 +119,7 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
     owner.setTotalProperties(currentCount + 1);
     ownerProfileRepository.save(owner);
 
+    eventPublisher.publishEvent(PropertyChangedEvent.details(savedProperty.getId()));
     return mapToPropertyResponse(savedProperty);
 }
 
@@ -128,11 +157,13 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
         }
 
         Property updatedProperty = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.details(propertyId));
         return mapToPropertyResponse(updatedProperty);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_DETAIL, key = "#propertyId", sync = true)
     public PropertyResponse getPropertyById(Long propertyId) {
         Property property = propertyRepository.findById(propertyId)
             .orElseThrow(() -> new ResourceNotFoundException("Property", "id", propertyId));
@@ -142,7 +173,7 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PropertyResponse> getAllProperties(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = Paging.of(page, size, Sort.by("createdAt").descending());
         Page<Property> propertyPage = propertyRepository.findByIsActiveTrue(pageable);
         return mapToPagedResponse(propertyPage);
     }
@@ -153,11 +184,21 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
         OwnerProfile owner = ownerProfileRepository.findByUserId(userId)
             .orElseThrow(() -> new ResourceNotFoundException("Owner profile not found"));
             
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = Paging.of(page, size, Sort.by("createdAt").descending());
         Page<Property> propertyPage = propertyRepository.findByOwnerId(owner.getId(), pageable);
         return mapToPagedResponse(propertyPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PropertyResponse> getAllPropertiesByCursor(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Property> slice = propertyRepository.findActiveBefore(
+            position.getCreatedAt(), position.getId(), KeysetCursor.pageable(size)
+        );
+        return mapToCursorPagedResponse(slice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PropertyResponse> searchProperties(
@@ -170,6 +211,19 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
             int page,
             int size) {
         
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (propertySearchIndexer.isReady()) {
+            SearchResult result = propertySearchIndexer.search(
+                buildCriteria(city, propertyType, genderPreference, minRent, maxRent, availableBeds), page, size
+            );
+            List<Long> ids = result.getCards().stream()
+                .map(PropertyCardResponse::getId)
+                .collect(Collectors.toList());
+            List<PropertyResponse> content = propertyListingAssembler.assemble(findAllInOrder(ids));
+            return buildPagedResponse(content, page, size, result.getTotalElements());
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Property> propertyPage = propertyRepository.searchProperties(
             city, propertyType, genderPreference, minRent, maxRent, availableBeds, pageable
@@ -177,21 +231,174 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
         return mapToPagedResponse(propertyPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PropertyCardResponse> searchPropertyCards(
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            int page,
+            int size) {
+        
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (propertySearchIndexer.isReady()) {
+            SearchResult result = propertySearchIndexer.search(
+                buildCriteria(city, propertyType, genderPreference, minRent, maxRent, availableBeds), page, size
+            );
+            return buildPagedResponse(result.getCards(), page, size, result.getTotalElements());
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Page<PropertyCardView> cardPage = propertyRepository.searchPropertyCards(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, pageable
+        );
+        return mapToCardPagedResponse(cardPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PropertyCardResponse> searchNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            int page,
+            int size) {
+        
+        validateCoordinates(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_SEARCH_RADIUS_KM) {
+            throw new BadRequestException("radiusKm must be greater than 0 and at most " + MAX_SEARCH_RADIUS_KM);
+        }
+        return searchNear(GeoQuery.radius(latitude, longitude, radiusKm),
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PropertyCardResponse> searchWithinBounds(
+            double minLatitude,
+            double minLongitude,
+            double maxLatitude,
+            double maxLongitude,
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            int page,
+            int size) {
+        
+        validateCoordinates(minLatitude, minLongitude);
+        validateCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new BadRequestException("Bounding box minimums must not exceed its maximums");
+        }
+        if (maxLatitude - minLatitude > MAX_BOUNDING_BOX_SPAN_DEGREES
+                || maxLongitude - minLongitude > MAX_BOUNDING_BOX_SPAN_DEGREES) {
+            throw new BadRequestException("Bounding box may span at most " + MAX_BOUNDING_BOX_SPAN_DEGREES
+                + " degrees of latitude and of longitude; zoom in to search");
+        }
+        return searchNear(GeoQuery.boundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude),
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse searchWithFacets(
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            int page,
+            int size) {
+        
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (!propertySearchIndexer.isReady()) {
+            // Index still loading: serve the cards from the database without facet counts
+            return FacetedSearchResponse.builder()
+                .results(searchPropertyCards(city, propertyType, genderPreference, minRent, maxRent, availableBeds, page, size))
+                .facets(Collections.emptyMap())
+                .build();
+        }
+
+        SearchResult result = propertySearchIndexer.search(
+            buildCriteria(city, propertyType, genderPreference, minRent, maxRent, availableBeds), page, size
+        );
+        return FacetedSearchResponse.builder()
+            .results(buildPagedResponse(result.getCards(), page, size, result.getTotalElements()))
+            .facets(result.getFacets())
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PropertyResponse> searchPropertiesByCursor(
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            String cursor,
+            int size) {
+        
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Property> slice = propertyRepository.searchPropertiesBefore(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds,
+            position.getCreatedAt(), position.getId(), KeysetCursor.pageable(size)
+        );
+        return mapToCursorPagedResponse(slice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PropertyResponse> searchByKeyword(String keyword, int page, int size) {
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (propertySearchIndexer.isReady()) {
+            KeywordSearchResult result = propertySearchIndexer.searchKeyword(keyword, page, size);
+            List<PropertyResponse> content = propertyListingAssembler.assemble(findAllInOrder(result.getPropertyIds()));
+            return buildPagedResponse(content, page, size, result.getTotalElements());
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Property> propertyPage = propertyRepository.searchByKeyword(keyword, pageable);
         return mapToPagedResponse(propertyPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PropertyCardResponse> searchPropertyCardsByKeyword(String keyword, int page, int size) {
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (propertySearchIndexer.isReady()) {
+            KeywordSearchResult result = propertySearchIndexer.searchKeyword(keyword, page, size);
+            List<PropertyCardResponse> cards = propertySearchIndexer.findCards(result.getPropertyIds());
+            return buildPagedResponse(cards, page, size, result.getTotalElements());
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Page<PropertyCardView> cardPage = propertyRepository.searchPropertyCardsByKeyword(keyword, pageable);
+        return mapToCardPagedResponse(cardPage);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PropertyResponse> getFeaturedProperties() {
-        return propertyRepository.findByIsFeaturedTrueAndIsActiveTrue()
-            .stream()
-            .map(this::mapToPropertyResponse)
-            .collect(Collectors.toList());
+        return propertyListingAssembler.assemble(propertyRepository.findByIsFeaturedTrueAndIsActiveTrue());
     }
 
     @Override
@@ -218,6 +425,8 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
         OwnerProfile owner = property.getOwner();
         owner.setTotalProperties(Math.max(0, owner.getTotalProperties() - 1));
         ownerProfileRepository.save(owner);
+
+        eventPublisher.publishEvent(PropertyChangedEvent.details(propertyId));
     }
 
     @Override
@@ -232,70 +441,15 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
 
         property.setIsActive(isActive);
         propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.details(propertyId));
     }
 
-    private PropertyResponse mapToPropertyResponse(Property property) {
-        List<PropertyImage> images = propertyImageRepository
-            .findByPropertyIdOrderByDisplayOrderAsc(property.getId());
-        
-        String primaryImage = images.stream()
-            .filter(PropertyImage::getIsPrimary)
-            .map(PropertyImage::getImageUrl)
-            .findFirst()
-            .orElse(images.isEmpty() ? null : images.get(0).getImageUrl());
-
-        List<String> imageUrls = images.stream()
-            .map(PropertyImage::getImageUrl)
-            .collect(Collectors.toList());
-
-        Set<String> amenityNames = property.getAmenities().stream()
-            .map(Amenity::getName)
-            .collect(Collectors.toSet());
-
-        User ownerUser = property.getOwner().getUser();
-
-        return PropertyResponse.builder()
-            .id(property.getId())
-            .name(property.getName())
-            .description(property.getDescription())
-            .propertyType(property.getPropertyType())
-            .genderPreference(property.getGenderPreference())
-            .addressLine1(property.getAddressLine1())
-            .addressLine2(property.getAddressLine2())
-            .city(property.getCity())
-            .state(property.getState())
-            .pincode(property.getPincode())
-            .fullAddress(property.getFullAddress())
-            .latitude(property.getLatitude())
-            .longitude(property.getLongitude())
-            .minRent(property.getMinRent())
-            .maxRent(property.getMaxRent())
-            .securityDeposit(property.getSecurityDeposit())
-            .noticePeriodDays(property.getNoticePeriodDays())
-            .totalRooms(property.getTotalRooms())
-            .totalBeds(property.getTotalBeds())
-            .availableBeds(property.getAvailableBeds())
-            .avgRating(property.getAvgRating())
-            .totalReviews(property.getTotalReviews())
-            .isVerified(property.getIsVerified())
-            .isFeatured(property.getIsFeatured())
-            .images(imageUrls)
-            .primaryImage(primaryImage)
-            .amenities(amenityNames)
-            .owner(PropertyResponse.OwnerSummary.builder()
-                .id(property.getOwner().getId())
-                .name(ownerUser.getFullName())
-                .phone(ownerUser.getPhone())
-                .businessName(property.getOwner().getBusinessName())
-                .build())
-            .createdAt(property.getCreatedAt())
-            .build();
+    PropertyResponse mapToPropertyResponse(Property property) {
+        return propertyListingAssembler.assemble(property);
     }
 
     private PagedResponse<PropertyResponse> mapToPagedResponse(Page<Property> page) {
-        List<PropertyResponse> content = page.getContent().stream()
-            .map(this::mapToPropertyResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> content = propertyListingAssembler.assemble(page.getContent());
 
         return PagedResponse.<PropertyResponse>builder()
             .content(content)
@@ -307,4 +461,126 @@ public PropertyResponse createProperty(PropertyRequest request, Long userId) {
             .first(page.isFirst())
             .build();
     }
+
+    private PagedResponse<PropertyCardResponse> mapToCardPagedResponse(Page<PropertyCardView> page) {
+        List<PropertyCardResponse> content = propertyListingAssembler.assembleCards(page.getContent());
+
+        return PagedResponse.<PropertyCardResponse>builder()
+            .content(content)
+            .page(page.getNumber())
+            .size(page.getSize())
+            .totalElements(page.getTotalElements())
+            .totalPages(page.getTotalPages())
+            .last(page.isLast())
+            .first(page.isFirst())
+            .build();
+    }
+
+    private CursorPagedResponse<PropertyResponse> mapToCursorPagedResponse(Slice<Property> slice) {
+        List<Property> properties = slice.getContent();
+        List<PropertyResponse> content = propertyListingAssembler.assemble(properties);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Property last = properties.get(properties.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPagedResponse.<PropertyResponse>builder()
+            .content(content)
+            .size(slice.getSize())
+            .nextCursor(nextCursor)
+            .hasNext(slice.hasNext())
+            .build();
+    }
+
+    private PagedResponse<PropertyCardResponse> searchNear(
+            GeoQuery area,
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds,
+            int page,
+            int size) {
+        
+        page = Paging.page(page);
+        size = Paging.size(size);
+        if (propertySearchIndexer.isReady()) {
+            SearchResult result = propertySearchIndexer.searchNear(
+                buildCriteria(city, propertyType, genderPreference, minRent, maxRent, availableBeds), area, page, size
+            );
+            return buildPagedResponse(result.getCards(), page, size, result.getTotalElements());
+        }
+
+        // Index still loading: filter the bounding box in SQL and rank by distance here
+        List<PropertyCardView> inBox = propertyRepository.findCardsInBoundingBox(
+            city, propertyType, genderPreference, minRent, maxRent, availableBeds,
+            BigDecimal.valueOf(area.getMinLatitude()), BigDecimal.valueOf(area.getMaxLatitude()),
+            BigDecimal.valueOf(area.getMinLongitude()), BigDecimal.valueOf(area.getMaxLongitude())
+        );
+        List<PropertyCardResponse> nearby = new ArrayList<>();
+        for (PropertyCardResponse card : propertyListingAssembler.assembleCards(inBox)) {
+            double distanceKm = area.distanceIfInside(card.getLatitude().doubleValue(), card.getLongitude().doubleValue());
+            if (distanceKm >= 0) {
+                card.setDistanceKm(Math.round(distanceKm * 100) / 100.0);
+                nearby.add(card);
+            }
+        }
+        nearby.sort(Comparator.comparing(PropertyCardResponse::getDistanceKm));
+
+        int from = (int) Math.min((long) page * size, nearby.size());
+        int to = (int) Math.min((long) from + size, nearby.size());
+        return buildPagedResponse(new ArrayList<>(nearby.subList(from, to)), page, size, nearby.size());
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    private SearchCriteria buildCriteria(
+            String city,
+            PropertyType propertyType,
+            GenderPreference genderPreference,
+            BigDecimal minRent,
+            BigDecimal maxRent,
+            Integer availableBeds) {
+        return SearchCriteria.builder()
+            .city(city)
+            .propertyType(propertyType)
+            .genderPreference(genderPreference)
+            .minRent(minRent)
+            .maxRent(maxRent)
+            .availableBeds(availableBeds)
+            .build();
+    }
+
+    private List<Property> findAllInOrder(List<Long> ids) {
+        Map<Long, Property> byId = propertyRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Property::getId, Function.identity()));
+        List<Property> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Property property = byId.get(id);
+            if (property != null) {
+                ordered.add(property);
+            }
+        }
+        return ordered;
+    }
+
+    private static <T> PagedResponse<T> buildPagedResponse(List<T> content, int page, int size, long totalElements) {
+        int totalPages = size > 0 ? (int) ((totalElements + size - 1) / size) : 0;
+        return PagedResponse.<T>builder()
+            .content(content)
+            .page(page)
+            .size(size)
+            .totalElements(totalElements)
+            .totalPages(totalPages)
+            .last(page >= totalPages - 1)
+            .first(page == 0)
+            .build();
+    }
 }
\ No newline at end of file
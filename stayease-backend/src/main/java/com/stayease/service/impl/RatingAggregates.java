@@ -0,0 +1,139 @@
+package com.stayease.service.impl;
+
+import com.stayease.entity.RatingAggregate;
+import com.stayease.entity.RatingAggregateId;
+import com.stayease.entity.Review;
+import com.stayease.enums.RatingSubject;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RatingAggregateRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+// Applies review changes to the rating aggregates as deltas
+@Component
+@Slf4j
+public class RatingAggregates {
+
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final PropertyRepository propertyRepository;
+    private final OwnerProfileRepository ownerProfileRepository;
+    private final TransactionTemplate newTransaction;
+
+    public RatingAggregates(RatingAggregateRepository ratingAggregateRepository,
+                            PropertyRepository propertyRepository,
+                            OwnerProfileRepository ownerProfileRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.ratingAggregateRepository = ratingAggregateRepository;
+        this.propertyRepository = propertyRepository;
+        this.ownerProfileRepository = ownerProfileRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void apply(Long propertyId, Long ownerId, RatingDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        RatingAggregate property = lock(RatingSubject.PROPERTY, propertyId);
+        add(property, delta);
+        propertyRepository.updateRating(propertyId, orZero(property.averageRating()), (int) property.getReviewCount());
+
+        RatingAggregate owner = lock(RatingSubject.OWNER, ownerId);
+        add(owner, delta);
+        ownerProfileRepository.updateAvgRating(ownerId, orZero(owner.averageRating()));
+    }
+
+    private RatingAggregate lock(RatingSubject subject, Long subjectId) {
+        RatingAggregateId id = new RatingAggregateId(subject, subjectId);
+        if (!ratingAggregateRepository.existsById(id)) {
+            // First review of this property or owner. The row is created in its own transaction before
+            // locking, since a locking read of a missing row would hold a gap lock the insert waits on.
+            try {
+                newTransaction.executeWithoutResult(status ->
+                    ratingAggregateRepository.insertEmpty(subject.name(), subjectId));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Rating aggregate {} {} was created concurrently", subject, subjectId);
+            }
+        }
+        return ratingAggregateRepository.findByIdForUpdate(id).orElseThrow();
+    }
+
+    private static void add(RatingAggregate aggregate, RatingDelta delta) {
+        aggregate.setReviewCount(aggregate.getReviewCount() + delta.getReviews());
+        aggregate.setRatingSum(aggregate.getRatingSum() + delta.getRating());
+        aggregate.setCleanlinessSum(aggregate.getCleanlinessSum() + delta.getCleanliness());
+        aggregate.setCleanlinessCount(aggregate.getCleanlinessCount() + delta.getCleanlinessCount());
+        aggregate.setFoodSum(aggregate.getFoodSum() + delta.getFood());
+        aggregate.setFoodCount(aggregate.getFoodCount() + delta.getFoodCount());
+        aggregate.setStaffSum(aggregate.getStaffSum() + delta.getStaff());
+        aggregate.setStaffCount(aggregate.getStaffCount() + delta.getStaffCount());
+        aggregate.setValueSum(aggregate.getValueSum() + delta.getValue());
+        aggregate.setValueCount(aggregate.getValueCount() + delta.getValueCount());
+    }
+
+    private static BigDecimal orZero(BigDecimal average) {
+        return average == null ? BigDecimal.ZERO : average;
+    }
+
+    // Change to the sums and counts from one or more reviews
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RatingDelta {
+
+        private int reviews;
+        private int rating;
+        private int cleanliness;
+        private int cleanlinessCount;
+        private int food;
+        private int foodCount;
+        private int staff;
+        private int staffCount;
+        private int value;
+        private int valueCount;
+
+        public static RatingDelta of(Review review) {
+            return new RatingDelta(1, review.getRating(),
+                orZero(review.getCleanlinessRating()), countOf(review.getCleanlinessRating()),
+                orZero(review.getFoodRating()), countOf(review.getFoodRating()),
+                orZero(review.getStaffRating()), countOf(review.getStaffRating()),
+                orZero(review.getValueRating()), countOf(review.getValueRating()));
+        }
+
+        public RatingDelta negate() {
+            return new RatingDelta(-reviews, -rating, -cleanliness, -cleanlinessCount,
+                -food, -foodCount, -staff, -staffCount, -value, -valueCount);
+        }
+
+        public RatingDelta minus(RatingDelta other) {
+            return new RatingDelta(reviews - other.reviews, rating - other.rating,
+                cleanliness - other.cleanliness, cleanlinessCount - other.cleanlinessCount,
+                food - other.food, foodCount - other.foodCount,
+                staff - other.staff, staffCount - other.staffCount,
+                value - other.value, valueCount - other.valueCount);
+        }
+
+        public boolean isEmpty() {
+            return reviews == 0 && rating == 0 && cleanliness == 0 && cleanlinessCount == 0
+                && food == 0 && foodCount == 0 && staff == 0 && staffCount == 0
+                && value == 0 && valueCount == 0;
+        }
+
+        private static int orZero(Integer rating) {
+            return rating == null ? 0 : rating;
+        }
+
+        private static int countOf(Integer rating) {
+            return rating == null ? 0 : 1;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.stayease.service.impl;
+
+import com.stayease.entity.RefreshToken;
+import com.stayease.entity.User;
+import com.stayease.exception.UnauthorizedException;
+import com.stayease.repository.RefreshTokenRepository;
+import com.stayease.security.UserStatusService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// Issues and rotates refresh tokens; replaying a used one revokes its family
+@Component
+@Slf4j
+public class RefreshTokens {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserStatusService userStatusService;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Duration ttl;
+    private final Counter reuseCounter;
+    private final Counter endedSessionCounter;
+
+    public RefreshTokens(RefreshTokenRepository refreshTokenRepository,
+                         UserStatusService userStatusService,
+                         MeterRegistry meterRegistry,
+                         @Value("${jwt.refresh.ttl:14d}") Duration ttl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userStatusService = userStatusService;
+        this.ttl = ttl;
+        this.reuseCounter = Counter.builder("stayease.auth.refresh.reuse")
+            .description("Replayed refresh tokens whose family was revoked")
+            .register(meterRegistry);
+        this.endedSessionCounter = Counter.builder("stayease.auth.refresh.ended")
+            .description("Refresh tokens presented after their session had ended")
+            .register(meterRegistry);
+    }
+
+    // Starts a new family, one per login
+    @Transactional
+    public String issue(User user) {
+        return issue(user, randomToken(16));
+    }
+
+    // The revocations made before an UnauthorizedException are kept, not rolled back
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String presented) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(hash(presented))
+            .orElseThrow(RefreshTokens::invalid);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() == null && current.getExpiresAt().isBefore(now)) {
+            throw invalid();
+        }
+        if (current.getRevokedAt() != null
+                && !refreshTokenRepository.existsActiveInFamily(current.getFamilyId(), now)) {
+            endedSessionCounter.increment();
+            log.debug("Refresh token of ended session {} presented for user {}",
+                current.getFamilyId(), current.getUser().getId());
+            throw invalid();
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            reuseCounter.increment();
+            log.warn("Refresh token reuse for user {}; revoked {} tokens of family {}",
+                current.getUser().getId(), revoked, current.getFamilyId());
+            throw invalid();
+        }
+        User user = current.getUser();
+        if (!userStatusService.isActive(user.getId())) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw invalid();
+        }
+        return new Rotation(user, issue(user, current.getFamilyId()));
+    }
+
+    // Logout: ends the session the token belongs to. Unknown tokens are ignored.
+    @Transactional
+    public void revokeFamily(String presented) {
+        refreshTokenRepository.findByTokenHash(hash(presented))
+            .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Transactional
+    public int purgeExpired(Duration retention) {
+        return refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now().minus(retention));
+    }
+
+    public long getTtlMillis() {
+        return ttl.toMillis();
+    }
+
+    private String issue(User user, String familyId) {
+        String token = randomToken(32);
+        refreshTokenRepository.save(RefreshToken.builder()
+            .user(user)
+            .tokenHash(hash(token))
+            .familyId(familyId)
+            .expiresAt(LocalDateTime.now().plus(ttl))
+            .build());
+        return token;
+    }
+
+    private String randomToken(int bytes) {
+        byte[] value = new byte[bytes];
+        secureRandom.nextBytes(value);
+        return ENCODER.encodeToString(value);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static UnauthorizedException invalid() {
+        return new UnauthorizedException("Invalid or expired refresh token");
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+
+        private final User user;
+        private final String refreshToken;
+    }
+}
@@ -0,0 +1,215 @@
+package com.stayease.service.impl;
+
+import com.stayease.dto.request.ReviewRequest;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.RatingSummaryResponse;
+import com.stayease.dto.response.ReviewResponse;
+import com.stayease.entity.Property;
+import com.stayease.entity.RatingAggregate;
+import com.stayease.entity.RatingAggregateId;
+import com.stayease.entity.Review;
+import com.stayease.entity.User;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.RatingSubject;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.exception.BadRequestException;
+import com.stayease.exception.DuplicateResourceException;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RatingAggregateRepository;
+import com.stayease.repository.ReviewRepository;
+import com.stayease.repository.UserRepository;
+import com.stayease.service.ReviewService;
+import com.stayease.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewServiceImpl implements ReviewService {
+
+    // Only tenants who actually stayed can review
+    private static final List<BookingStatus> STAYED_STATUSES = Arrays.asList(
+        BookingStatus.CHECKED_IN,
+        BookingStatus.CHECKED_OUT
+    );
+
+    private final ReviewRepository reviewRepository;
+    private final PropertyRepository propertyRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final RatingAggregates ratingAggregates;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ReviewResponse createReview(ReviewRequest request, Long userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        Property property = propertyRepository.findById(request.getPropertyId())
+            .orElseThrow(() -> new ResourceNotFoundException("Property", "id", request.getPropertyId()));
+
+        if (reviewRepository.existsByUserIdAndPropertyId(userId, property.getId())) {
+            throw new DuplicateResourceException("You have already reviewed this property");
+        }
+
+        if (!bookingRepository.existsByUserIdAndPropertyIdAndStatusIn(userId, property.getId(), STAYED_STATUSES)) {
+            throw new BadRequestException("You can only review properties you have stayed at");
+        }
+
+        Review review = Review.builder()
+            .property(property)
+            .user(user)
+            .isVerified(true)
+            .isVisible(true)
+            .build();
+        applyRequest(review, request);
+        Review savedReview = reviewRepository.save(review);
+
+        ratingAggregates.apply(property.getId(), property.getOwner().getId(),
+            RatingAggregates.RatingDelta.of(savedReview));
+
+        eventPublisher.publishEvent(PropertyChangedEvent.rating(property.getId()));
+        return mapToReviewResponse(savedReview);
+    }
+
+    @Override
+    @Transactional
+    public ReviewResponse updateReview(Long reviewId, ReviewRequest request, Long userId) {
+        Review review = reviewRepository.findById(reviewId)
+            .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
+
+        if (!review.getUser().getId().equals(userId)) {
+            throw new BadRequestException("You can only edit your own reviews");
+        }
+
+        RatingAggregates.RatingDelta before = RatingAggregates.RatingDelta.of(review);
+        applyRequest(review, request);
+        Review updatedReview = reviewRepository.save(review);
+
+        // Hidden reviews are not part of the aggregates
+        if (Boolean.TRUE.equals(review.getIsVisible())) {
+            Property property = review.getProperty();
+            ratingAggregates.apply(property.getId(), property.getOwner().getId(),
+                RatingAggregates.RatingDelta.of(updatedReview).minus(before));
+            eventPublisher.publishEvent(PropertyChangedEvent.rating(property.getId()));
+        }
+        return mapToReviewResponse(updatedReview);
+    }
+
+    @Override
+    @Transactional
+    public void setReviewVisibility(Long reviewId, boolean visible) {
+        Review review = reviewRepository.findById(reviewId)
+            .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
+
+        if (Boolean.valueOf(visible).equals(review.getIsVisible())) {
+            return;
+        }
+
+        review.setIsVisible(visible);
+        reviewRepository.save(review);
+
+        Property property = review.getProperty();
+        RatingAggregates.RatingDelta delta = RatingAggregates.RatingDelta.of(review);
+        ratingAggregates.apply(property.getId(), property.getOwner().getId(), visible ? delta : delta.negate());
+        eventPublisher.publishEvent(PropertyChangedEvent.rating(property.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<ReviewResponse> getPropertyReviews(Long propertyId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Slice<Review> slice = reviewRepository.findVisibleByPropertyIdBefore(
+            propertyId, position.getCreatedAt(), position.getId(), KeysetCursor.pageable(size)
+        );
+
+        List<Review> reviews = slice.getContent();
+        List<ReviewResponse> content = reviews.stream()
+            .map(this::mapToReviewResponse)
+            .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Review last = reviews.get(reviews.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPagedResponse.<ReviewResponse>builder()
+            .content(content)
+            .size(slice.getSize())
+            .nextCursor(nextCursor)
+            .hasNext(slice.hasNext())
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RatingSummaryResponse getPropertyRatingSummary(Long propertyId) {
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new ResourceNotFoundException("Property", "id", propertyId);
+        }
+
+        return ratingAggregateRepository.findById(new RatingAggregateId(RatingSubject.PROPERTY, propertyId))
+            .map(this::mapToRatingSummary)
+            .orElseGet(() -> RatingSummaryResponse.builder()
+                .reviewCount(0L)
+                .avgRating(BigDecimal.ZERO)
+                .build());
+    }
+
+    private static void applyRequest(Review review, ReviewRequest request) {
+        review.setRating(request.getRating());
+        review.setCleanlinessRating(request.getCleanlinessRating());
+        review.setFoodRating(request.getFoodRating());
+        review.setStaffRating(request.getStaffRating());
+        review.setValueRating(request.getValueRating());
+        review.setTitle(request.getTitle());
+        review.setComment(request.getComment());
+    }
+
+    private RatingSummaryResponse mapToRatingSummary(RatingAggregate aggregate) {
+        BigDecimal avgRating = aggregate.averageRating();
+        return RatingSummaryResponse.builder()
+            .reviewCount(aggregate.getReviewCount())
+            .avgRating(avgRating == null ? BigDecimal.ZERO : avgRating)
+            .avgCleanliness(aggregate.averageCleanliness())
+            .avgFood(aggregate.averageFood())
+            .avgStaff(aggregate.averageStaff())
+            .avgValue(aggregate.averageValue())
+            .build();
+    }
+
+    private ReviewResponse mapToReviewResponse(Review review) {
+        User user = review.getUser();
+        String lastInitial = user.getLastName() == null || user.getLastName().isEmpty()
+            ? "" : " " + user.getLastName().charAt(0) + ".";
+        return ReviewResponse.builder()
+            .id(review.getId())
+            .propertyId(review.getProperty().getId())
+            .reviewerName(user.getFirstName() + lastInitial)
+            .rating(review.getRating())
+            .cleanlinessRating(review.getCleanlinessRating())
+            .foodRating(review.getFoodRating())
+            .staffRating(review.getStaffRating())
+            .valueRating(review.getValueRating())
+            .title(review.getTitle())
+            .comment(review.getComment())
+            .isVerified(review.getIsVerified())
+            .isVisible(review.getIsVisible())
+            .createdAt(review.getCreatedAt())
+            .updatedAt(review.getUpdatedAt())
+            .build();
+    }
+}
@@ -1,12 +1,16 @@
 package com.stayease.service.impl;
 
+import com.stayease.config.CacheConfig;
+import com.stayease.dto.request.BulkRoomRequest;
 import com.stayease.dto.request.RoomRequest;
+import com.stayease.dto.response.BulkRoomResponse;
 import com.stayease.dto.response.BedResponse;
 import com.stayease.dto.response.RoomResponse;
 import com.stayease.entity.Bed;
 import com.stayease.entity.Property;
 import com.stayease.entity.Room;
 import com.stayease.enums.BedStatus;
+import com.stayease.event.PropertyChangedEvent;
 import com.stayease.exception.BadRequestException;
 import com.stayease.exception.DuplicateResourceException;
 import com.stayease.exception.ResourceNotFoundException;
@@ -15,20 +19,31 @@ import com.stayease.repository.PropertyRepository;
 import com.stayease.repository.RoomRepository;
 import com.stayease.service.RoomService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class RoomServiceImpl implements RoomService {
     
     private final RoomRepository roomRepository;
     private final PropertyRepository propertyRepository;
     private final BedRepository bedRepository;
+    private final InventoryCounters inventoryCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -46,43 +61,80 @@ public class RoomServiceImpl implements RoomService {
             throw new DuplicateResourceException("Room number already exists in this property");
         }
 
-        Room room = Room.builder()
-            .property(property)
-            .roomNumber(request.getRoomNumber())
-            .roomType(request.getRoomType())
-            .floorNumber(request.getFloorNumber())
-            .totalBeds(request.getTotalBeds())
-            .availableBeds(request.getTotalBeds()) // Initially all beds are available
-            .rentPerBed(request.getRentPerBed())
-            .hasAttachedBathroom(request.getHasAttachedBathroom())
-            .hasAc(request.getHasAc())
-            .hasBalcony(request.getHasBalcony())
-            .roomSizeSqft(request.getRoomSizeSqft())
-            .description(request.getDescription())
-            .isActive(true)
-            .build();
-
-        Room savedRoom = roomRepository.save(room);
+        Room savedRoom = roomRepository.save(buildRoom(property, request));
 
         // Create beds for the room
         List<Bed> beds = new ArrayList<>();
-        for (int i = 1; i <= request.getTotalBeds(); i++) {
-            Bed bed = Bed.builder()
-                .room(savedRoom)
-                .bedNumber("B" + i)
-                .status(BedStatus.AVAILABLE)
-                .build();
-            beds.add(bed);
-        }
+        addBeds(savedRoom, 1, request.getTotalBeds(), beds);
         bedRepository.saveAll(beds);
 
         // Update property bed counts
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+        inventoryCounters.roomAdded(propertyId, savedRoom.getTotalBeds(), savedRoom.getAvailableBeds());
 
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
         return mapToRoomResponse(savedRoom);
     }
 
+    @Override
+    @Transactional
+    public BulkRoomResponse createRooms(Long propertyId, BulkRoomRequest request, Long userId) {
+        Property property = propertyRepository.findById(propertyId)
+            .orElseThrow(() -> new ResourceNotFoundException("Property", "id", propertyId));
+
+        // Verify ownership
+        if (!property.getOwner().getUser().getId().equals(userId)) {
+            throw new BadRequestException("You don't have permission to add rooms to this property");
+        }
+
+        // Check duplicate room numbers against the property and within the request, with one query
+        Set<String> roomNumbers = new HashSet<>(roomRepository.findRoomNumbersByPropertyId(propertyId));
+        for (RoomRequest roomRequest : request.getRooms()) {
+            if (!roomNumbers.add(roomRequest.getRoomNumber())) {
+                throw new DuplicateResourceException("Room number " + roomRequest.getRoomNumber()
+                    + " already exists in this property");
+            }
+        }
+
+        List<Room> rooms = new ArrayList<>(request.getRooms().size());
+        List<Bed> beds = new ArrayList<>();
+        Map<Room, List<Bed>> bedsByRoom = new IdentityHashMap<>();
+        int totalBeds = 0;
+        for (RoomRequest roomRequest : request.getRooms()) {
+            Room room = buildRoom(property, roomRequest);
+            rooms.add(room);
+            List<Bed> roomBeds = new ArrayList<>(roomRequest.getTotalBeds());
+            addBeds(room, 1, roomRequest.getTotalBeds(), roomBeds);
+            bedsByRoom.put(room, roomBeds);
+            beds.addAll(roomBeds);
+            totalBeds += roomRequest.getTotalBeds();
+        }
+
+        // Ids come from the table generator in blocks, so the flush sends batched INSERTs
+        long start = System.nanoTime();
+        roomRepository.saveAll(rooms);
+        bedRepository.saveAll(beds);
+        bedRepository.flush();
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+        inventoryCounters.roomsAdded(propertyId, rooms.size(), totalBeds, totalBeds);
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(propertyId));
+
+        int rows = rooms.size() + beds.size();
+        double rowsPerSecond = rows / (elapsedNanos / 1e9);
+        log.info("Bulk-created {} rooms and {} beds for property {} in {} ms ({} rows/s)",
+            rooms.size(), beds.size(), propertyId, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+
+        return BulkRoomResponse.builder()
+            .roomsCreated(rooms.size())
+            .bedsCreated(beds.size())
+            .insertMillis(elapsedNanos / 1_000_000)
+            .rowsPerSecond((double) Math.round(rowsPerSecond))
+            .rooms(rooms.stream()
+                .map(room -> mapToRoomResponse(room, bedsByRoom.get(room)))
+                .collect(Collectors.toList()))
+            .build();
+    }
+
     @Override
     @Transactional
     public RoomResponse updateRoom(Long roomId, RoomRequest request, Long userId) {
@@ -113,29 +165,21 @@ public class RoomServiceImpl implements RoomService {
         // Handle bed count changes
         int currentBeds = room.getTotalBeds();
         int newBeds = request.getTotalBeds();
+        Property property = room.getProperty();
         
         if (newBeds > currentBeds) {
             // Add new beds
-            for (int i = currentBeds + 1; i <= newBeds; i++) {
-                Bed bed = Bed.builder()
-                    .room(room)
-                    .bedNumber("B" + i)
-                    .status(BedStatus.AVAILABLE)
-                    .build();
-                bedRepository.save(bed);
-            }
+            List<Bed> addedBeds = new ArrayList<>();
+            addBeds(room, currentBeds + 1, newBeds, addedBeds);
+            bedRepository.saveAll(addedBeds);
             room.setTotalBeds(newBeds);
-            room.setAvailableBeds(room.getAvailableBeds() + (newBeds - currentBeds));
+            inventoryCounters.bedsAdded(room.getId(), property.getId(), newBeds - currentBeds);
         }
         // Note: We don't reduce beds to avoid data loss. This should be handled carefully in production.
 
         Room updatedRoom = roomRepository.save(room);
 
-        // Update property bed counts
-        Property property = room.getProperty();
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
-
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
         return mapToRoomResponse(updatedRoom);
     }
 
@@ -149,18 +193,15 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PROPERTY_ROOMS, key = "#propertyId", sync = true)
     public List<RoomResponse> getRoomsByPropertyId(Long propertyId) {
-        return roomRepository.findByPropertyId(propertyId).stream()
-            .map(this::mapToRoomResponse)
-            .collect(Collectors.toList());
+        return mapToRoomResponses(roomRepository.findByPropertyId(propertyId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponse> getAvailableRoomsByPropertyId(Long propertyId) {
-        return roomRepository.findAvailableRoomsByPropertyId(propertyId).stream()
-            .map(this::mapToRoomResponse)
-            .collect(Collectors.toList());
+        return mapToRoomResponses(roomRepository.findAvailableRoomsByPropertyId(propertyId));
     }
 
     @Override
@@ -180,11 +221,14 @@ public class RoomServiceImpl implements RoomService {
         }
 
         Property property = room.getProperty();
+        int totalBeds = room.getTotalBeds();
+        int availableBeds = room.getAvailableBeds();
         roomRepository.delete(room);
 
         // Update property counts
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+        inventoryCounters.roomRemoved(property.getId(), totalBeds, availableBeds);
+
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
     }
 
     @Override
@@ -200,14 +244,60 @@ public class RoomServiceImpl implements RoomService {
         room.setIsActive(isActive);
         roomRepository.save(room);
 
-        // Update property counts
+        // Inactive rooms still count towards the property totals, so no counters change here
         Property property = room.getProperty();
-        property.recalculateBedCounts();
-        propertyRepository.save(property);
+
+        eventPublisher.publishEvent(PropertyChangedEvent.inventory(property.getId()));
+    }
+
+    private Room buildRoom(Property property, RoomRequest request) {
+        return Room.builder()
+            .property(property)
+            .roomNumber(request.getRoomNumber())
+            .roomType(request.getRoomType())
+            .floorNumber(request.getFloorNumber())
+            .totalBeds(request.getTotalBeds())
+            .availableBeds(request.getTotalBeds()) // Initially all beds are available
+            .rentPerBed(request.getRentPerBed())
+            .hasAttachedBathroom(request.getHasAttachedBathroom())
+            .hasAc(request.getHasAc())
+            .hasBalcony(request.getHasBalcony())
+            .roomSizeSqft(request.getRoomSizeSqft())
+            .description(request.getDescription())
+            .isActive(true)
+            .build();
+    }
+
+    // Beds are numbered B<from> to B<to>
+    private void addBeds(Room room, int from, int to, List<Bed> beds) {
+        for (int i = from; i <= to; i++) {
+            beds.add(Bed.builder()
+                .room(room)
+                .bedNumber("B" + i)
+                .status(BedStatus.AVAILABLE)
+                .build());
+        }
     }
 
     private RoomResponse mapToRoomResponse(Room room) {
-        List<Bed> beds = bedRepository.findByRoomId(room.getId());
+        return mapToRoomResponse(room, bedRepository.findByRoomId(room.getId()));
+    }
+
+    // Loads the beds of all rooms in one query instead of one per room
+    private List<RoomResponse> mapToRoomResponses(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, List<Bed>> bedsByRoomId = bedRepository.findByRoomIdIn(
+                rooms.stream().map(Room::getId).collect(Collectors.toList())).stream()
+            .collect(Collectors.groupingBy(bed -> bed.getRoom().getId()));
+
+        return rooms.stream()
+            .map(room -> mapToRoomResponse(room, bedsByRoomId.getOrDefault(room.getId(), Collections.emptyList())))
+            .collect(Collectors.toList());
+    }
+
+    private RoomResponse mapToRoomResponse(Room room, List<Bed> beds) {
         List<BedResponse> bedResponses = beds.stream()
             .map(this::mapToBedResponse)
             .collect(Collectors.toList());
@@ -219,7 +309,8 @@ public class RoomServiceImpl implements RoomService {
             .roomType(room.getRoomType())
             .floorNumber(room.getFloorNumber())
             .totalBeds(room.getTotalBeds())
-            .availableBeds(room.getAvailableBeds())
+            // Counted from the beds loaded above: the room's counter may have just been changed in SQL
+            .availableBeds((int) beds.stream().filter(bed -> bed.getStatus() == BedStatus.AVAILABLE).count())
             .rentPerBed(room.getRentPerBed())
             .hasAttachedBathroom(room.getHasAttachedBathroom())
             .hasAc(room.getHasAc())
@@ -0,0 +1,66 @@
+package com.stayease.util;
+
+import com.stayease.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// Opaque seek position over rows ordered by (createdAt DESC, id DESC)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    // Upper bound for the first page, so the same seek predicate serves every page
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static KeysetCursor first() {
+        return new KeysetCursor(FIRST_PAGE_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return first();
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long epochSecond = buffer.getLong();
+            int nanos = buffer.getInt();
+            long id = buffer.getLong();
+            return new KeysetCursor(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(createdAt.getNano());
+        buffer.putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static Pageable pageable(int size) {
+        return PageRequest.of(0, Paging.size(size), Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    }
+}
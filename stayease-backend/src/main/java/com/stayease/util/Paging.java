@@ -0,0 +1,26 @@
+package com.stayease.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Page numbers and sizes come straight from the query string; keep them in range before they reach SQL or an index
+public final class Paging {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Paging() {
+    }
+
+    public static int page(int page) {
+        return Math.max(0, page);
+    }
+
+    public static int size(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public static Pageable of(int page, int size, Sort sort) {
+        return PageRequest.of(page(page), size(size), sort);
+    }
+}
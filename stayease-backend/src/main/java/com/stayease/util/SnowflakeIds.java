@@ -0,0 +1,72 @@
+package com.stayease.util;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 63-bit ids: milliseconds since EPOCH, a 10-bit node id and a 12-bit sequence
+public final class SnowflakeIds {
+
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    // Crockford base32 leaves out I, L, O and U so references read back unambiguously
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TIMESTAMP_BITS = 63 - NODE_BITS - SEQUENCE_BITS;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Characters needed for a 63-bit id in base32
+    public static final int ENCODED_LENGTH = 13;
+
+    private final long nodeBits;
+    private final long epochMillis = EPOCH.toEpochMilli();
+    private final LongSupplier clock;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public SnowflakeIds(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIds(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long next() {
+        while (true) {
+            long now = clock.getAsLong() - epochMillis;
+            long last = lastTick.get();
+            // A tick is (millisecond << SEQUENCE_BITS | sequence); +1 carries a full sequence into the next millisecond
+            long tick = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastTick.compareAndSet(last, tick)) {
+                long millis = tick >>> SEQUENCE_BITS;
+                if (millis > MAX_TIMESTAMP) {
+                    throw new IllegalStateException("Snowflake timestamp overflow");
+                }
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (tick & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // Fixed-width base32, so encoded ids sort like the numbers
+    public static String encode(String prefix, long id) {
+        int length = prefix.length() + ENCODED_LENGTH;
+        char[] chars = new char[length];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = length - 1; i >= prefix.length(); i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
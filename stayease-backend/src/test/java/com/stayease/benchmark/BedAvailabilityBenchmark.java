@@ -0,0 +1,123 @@
+package com.stayease.benchmark;
+
+import com.stayease.availability.BedTimeline;
+import com.stayease.availability.PropertyAvailability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Availability queries over 10k beds: mvn -Pbenchmark test -Dbenchmark=BedAvailabilityBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BedAvailabilityBenchmark {
+
+	private static final int BEDS_PER_PROPERTY = 100;
+	private static final int MONTHS = 24;
+	private static final int WINDOW_DAYS = 30;
+
+	@Param({"10000"})
+	private int bedCount;
+
+	private PropertyAvailability[] properties;
+	private int[][] allStarts;
+	private int[][] allEnds;
+	private int firstDay;
+	private int lastDay;
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random data = new Random(15);
+		LocalDate start = LocalDate.now().withDayOfMonth(1);
+		firstDay = BedTimeline.toDay(start);
+		lastDay = BedTimeline.toDay(start.plusMonths(MONTHS));
+
+		int propertyCount = bedCount / BEDS_PER_PROPERTY;
+		properties = new PropertyAvailability[propertyCount];
+		allStarts = new int[bedCount][];
+		allEnds = new int[bedCount][];
+		for (int p = 0; p < propertyCount; p++) {
+			List<BedTimeline> beds = new ArrayList<>(BEDS_PER_PROPERTY);
+			for (int b = 0; b < BEDS_PER_PROPERTY; b++) {
+				int[] starts = new int[MONTHS];
+				int[] ends = new int[MONTHS];
+				int count = 0;
+				for (int m = 0; m < MONTHS; m++) {
+					// Roughly one month in five stays empty between tenants
+					if (data.nextInt(5) == 0) {
+						continue;
+					}
+					starts[count] = BedTimeline.toDay(start.plusMonths(m));
+					ends[count] = BedTimeline.toDay(start.plusMonths(m + 1));
+					count++;
+				}
+				int bed = p * BEDS_PER_PROPERTY + b;
+				allStarts[bed] = Arrays.copyOf(starts, count);
+				allEnds[bed] = Arrays.copyOf(ends, count);
+				beds.add(BedTimeline.of((long) bed, (long) (bed / 4), "R" + (b / 4), "B" + (b % 4), false, starts, ends, count));
+			}
+			properties[p] = new PropertyAvailability((long) p, beds);
+		}
+		random = new Random(42);
+	}
+
+	@Benchmark
+	public int freeBedsInProperty() {
+		int from = firstDay + random.nextInt(lastDay - firstDay - WINDOW_DAYS);
+		return properties[random.nextInt(properties.length)].freeBeds(null, from, from + WINDOW_DAYS).size();
+	}
+
+	@Benchmark
+	public int freeBedsAcrossAllProperties() {
+		int from = firstDay + random.nextInt(lastDay - firstDay - WINDOW_DAYS);
+		int free = 0;
+		for (PropertyAvailability property : properties) {
+			free += property.freeBeds(null, from, from + WINDOW_DAYS).size();
+		}
+		return free;
+	}
+
+	@Benchmark
+	public int[] twoYearCalendar() {
+		return properties[random.nextInt(properties.length)].bookedPerDay(firstDay, lastDay);
+	}
+
+	@Benchmark
+	public int linearScanAcrossAllProperties() {
+		int from = firstDay + random.nextInt(lastDay - firstDay - WINDOW_DAYS);
+		int to = from + WINDOW_DAYS;
+		int free = 0;
+		for (int bed = 0; bed < bedCount; bed++) {
+			boolean overlaps = false;
+			for (int i = 0; i < allStarts[bed].length; i++) {
+				if (allStarts[bed][i] < to && allEnds[bed][i] > from) {
+					overlaps = true;
+				}
+			}
+			if (!overlaps) {
+				free++;
+			}
+		}
+		return free;
+	}
+}
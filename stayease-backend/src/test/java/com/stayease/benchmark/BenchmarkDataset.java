@@ -0,0 +1,37 @@
+package com.stayease.benchmark;
+
+import com.stayease.StayEaseApplication;
+import com.stayease.seed.DatasetSeeder;
+import com.stayease.seed.SeedOptions;
+import com.stayease.seed.SeedSummary;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The application on its own in-memory H2 database, filled by DatasetSeeder with a fixed seed
+public final class BenchmarkDataset {
+
+	private BenchmarkDataset() {
+	}
+
+	// Boots the application on a random port with its own in-memory H2 database; overrides are extra --key=value arguments
+	public static ConfigurableApplicationContext startApplication(String database, String... overrides) {
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+			"--spring.jpa.properties.hibernate.generate_statistics=false",
+			"--bookings.lifecycle.enabled=false",
+			"--logging.level.root=WARN"
+		));
+		args.addAll(List.of(overrides));
+		return new SpringApplicationBuilder(StayEaseApplication.class)
+			.profiles("test")
+			.run(args.toArray(new String[0]));
+	}
+
+	public static SeedSummary generate(ConfigurableApplicationContext context, int propertyCount) {
+		return context.getBean(DatasetSeeder.class).seed(SeedOptions.builder().properties(propertyCount).build());
+	}
+}
@@ -0,0 +1,52 @@
+package com.stayease.benchmark;
+
+import com.stayease.util.SnowflakeIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+// Booking reference generation: mvn -Pbenchmark test -Dbenchmark=BookingReferenceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingReferenceBenchmark {
+
+	private final SnowflakeIds ids = new SnowflakeIds(1);
+
+	@Benchmark
+	public String snowflake() {
+		return SnowflakeIds.encode("BK", ids.next());
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String snowflakeContended() {
+		return SnowflakeIds.encode("BK", ids.next());
+	}
+
+	@Benchmark
+	public long snowflakeIdOnly() {
+		return ids.next();
+	}
+
+	@Benchmark
+	public String timestampAndRandom() {
+		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+		String random = String.valueOf((int) (Math.random() * 10000));
+		return "BK" + timestamp + random;
+	}
+}
@@ -0,0 +1,260 @@
+package com.stayease.benchmark;
+
+import com.stayease.seed.DatasetSeeder;
+import com.stayease.seed.SeedSummary;
+import com.stayease.service.PropertyService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Weighted endpoint mix against the real controllers: mvn -Ploadsuite test
+public final class EndpointLoadSuite {
+
+	private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+	private static final int PROPERTY_COUNT = Integer.getInteger("loadsuite.properties", 10_000);
+	private static final int CONCURRENCY = Integer.getInteger("loadsuite.concurrency", 64);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loadsuite.warmup-seconds", 10);
+	private static final int MEASURE_SECONDS = Integer.getInteger("loadsuite.seconds", 30);
+	private static final int TENANT_SESSIONS = 50;
+	private static final int OWNER_SESSIONS = 20;
+
+	private EndpointLoadSuite() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		try (ConfigurableApplicationContext context = BenchmarkDataset.startApplication("load_suite")) {
+			long start = System.currentTimeMillis();
+			SeedSummary dataset = BenchmarkDataset.generate(context, PROPERTY_COUNT);
+			System.out.printf("Seeded %s in %d ms%n", dataset, System.currentTimeMillis() - start);
+
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			String baseUrl = "http://localhost:" + port;
+			List<String> cities = context.getBean(PropertyService.class).getAllCities();
+			List<String> tenantTokens = login(baseUrl, "tenant", dataset.getFirstTenantUserId(),
+				Math.min(TENANT_SESSIONS, dataset.getTenants()));
+			List<String> ownerTokens = login(baseUrl, "owner", dataset.getFirstOwnerUserId(),
+				Math.min(OWNER_SESSIONS, dataset.getOwners()));
+
+			List<Endpoint> scenario = scenario(baseUrl, dataset, cities, tenantTokens, ownerTokens);
+			report(scenario, run(scenario));
+		}
+	}
+
+	private static List<Endpoint> scenario(String baseUrl, SeedSummary dataset, List<String> cities,
+										   List<String> tenantTokens, List<String> ownerTokens) {
+		List<Endpoint> scenario = new ArrayList<>();
+		scenario.add(new Endpoint("GET /properties/search", 30, random -> get(baseUrl + "/properties/search?city="
+			+ pick(random, cities).replace(" ", "%20") + "&availableBeds=1&size=20")));
+		scenario.add(new Endpoint("GET /properties/{id}", 18, random ->
+			get(baseUrl + "/properties/" + propertyId(random, dataset))));
+		scenario.add(new Endpoint("GET /properties/{id}/rooms", 10, random ->
+			get(baseUrl + "/properties/" + propertyId(random, dataset) + "/rooms")));
+		scenario.add(new Endpoint("GET /properties/{id}/availability", 10, random ->
+			get(baseUrl + "/properties/" + propertyId(random, dataset) + "/availability?from="
+				+ LocalDate.now().plusDays(1 + random.nextInt(30)))));
+		scenario.add(new Endpoint("GET /properties/{id}/reviews", 8, random ->
+			get(baseUrl + "/properties/" + propertyId(random, dataset) + "/reviews")));
+		scenario.add(new Endpoint("GET /bookings", 8, random -> get(baseUrl + "/bookings?size=10")
+			.header("Authorization", "Bearer " + pick(random, tenantTokens))));
+		scenario.add(new Endpoint("GET /owner/dashboard", 4, random -> get(baseUrl + "/owner/dashboard")
+			.header("Authorization", "Bearer " + pick(random, ownerTokens))));
+		scenario.add(new Endpoint("GET /owner/bookings", 6, random -> get(baseUrl + "/owner/bookings?size=20")
+			.header("Authorization", "Bearer " + pick(random, ownerTokens))));
+		scenario.add(new Endpoint("POST /inquiries", 6, random -> HttpRequest.newBuilder(URI.create(baseUrl + "/inquiries"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString("{\"propertyId\":" + propertyId(random, dataset)
+				+ ",\"name\":\"Load Test\",\"email\":\"load@example.com\",\"phone\":\"9876543210\""
+				+ ",\"message\":\"Is a bed available from next month?\"}"))));
+		return scenario;
+	}
+
+	private static Samples[] run(List<Endpoint> scenario) throws Exception {
+		int totalWeight = scenario.stream().mapToInt(endpoint -> endpoint.weight).sum();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(clients)
+				.build();
+
+			long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+			long measureEnd = warmupEnd + MEASURE_SECONDS * 1_000_000_000L;
+			List<Future<Samples[]>> futures = new ArrayList<>(CONCURRENCY);
+
+			for (int i = 0; i < CONCURRENCY; i++) {
+				futures.add(clients.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					Samples[] samples = new Samples[scenario.size()];
+					for (int e = 0; e < samples.length; e++) {
+						samples[e] = new Samples();
+					}
+					while (true) {
+						int e = choose(scenario, random.nextInt(totalWeight));
+						HttpRequest request = scenario.get(e).request.apply(random).timeout(Duration.ofSeconds(30)).build();
+						long start = System.nanoTime();
+						if (start >= measureEnd) {
+							break;
+						}
+						boolean ok;
+						try {
+							HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+							ok = response.statusCode() / 100 == 2;
+						} catch (Exception ex) {
+							ok = false;
+						}
+						long end = System.nanoTime();
+						if (start >= warmupEnd) {
+							samples[e].record(end - start, ok);
+						}
+					}
+					return samples;
+				}));
+			}
+
+			Samples[] merged = new Samples[scenario.size()];
+			for (int e = 0; e < merged.length; e++) {
+				merged[e] = new Samples();
+			}
+			for (Future<Samples[]> future : futures) {
+				Samples[] samples = future.get();
+				for (int e = 0; e < merged.length; e++) {
+					merged[e].addAll(samples[e]);
+				}
+			}
+			return merged;
+		}
+	}
+
+	private static void report(List<Endpoint> scenario, Samples[] samples) {
+		System.out.printf("%nConcurrency %d, %ds measured after %ds warm-up%n", CONCURRENCY, MEASURE_SECONDS, WARMUP_SECONDS);
+		System.out.printf("%-36s %9s %9s %9s %9s %9s %9s %7s%n",
+			"endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+		Samples total = new Samples();
+		for (int e = 0; e < scenario.size(); e++) {
+			print(scenario.get(e).label, samples[e]);
+			total.addAll(samples[e]);
+		}
+		print("all", total);
+	}
+
+	private static void print(String label, Samples samples) {
+		long[] sorted = samples.sorted();
+		System.out.printf("%-36s %9d %9.0f %9.2f %9.2f %9.2f %9.2f %7d%n",
+			label, sorted.length, sorted.length / (double) MEASURE_SECONDS,
+			percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.90), percentileMillis(sorted, 0.99),
+			percentileMillis(sorted, 1.0), samples.errors);
+	}
+
+	private static List<String> login(String baseUrl, String kind, long firstUserId, int count) throws Exception {
+		HttpClient httpClient = HttpClient.newHttpClient();
+		List<String> tokens = new ArrayList<>(count);
+		for (long userId = firstUserId; userId < firstUserId + count; userId++) {
+			String body = "{\"email\":\"" + kind + userId + "@" + DatasetSeeder.EMAIL_DOMAIN + "\",\"password\":\""
+				+ DatasetSeeder.PASSWORD + "\"}";
+			HttpResponse<String> response = httpClient.send(
+				HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(body))
+					.build(),
+				HttpResponse.BodyHandlers.ofString());
+			Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+			if (!matcher.find()) {
+				throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+			}
+			tokens.add(matcher.group(1));
+		}
+		return tokens;
+	}
+
+	private static HttpRequest.Builder get(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).GET();
+	}
+
+	private static long propertyId(ThreadLocalRandom random, SeedSummary dataset) {
+		return dataset.getFirstPropertyId() + random.nextInt(dataset.getProperties());
+	}
+
+	private static <T> T pick(ThreadLocalRandom random, List<T> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+
+	private static int choose(List<Endpoint> scenario, int roll) {
+		for (int e = 0; e < scenario.size(); e++) {
+			roll -= scenario.get(e).weight;
+			if (roll < 0) {
+				return e;
+			}
+		}
+		return scenario.size() - 1;
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return Double.NaN;
+		}
+		int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private static final class Endpoint {
+
+		private final String label;
+		private final int weight;
+		private final Function<ThreadLocalRandom, HttpRequest.Builder> request;
+
+		private Endpoint(String label, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+			this.label = label;
+			this.weight = weight;
+			this.request = request;
+		}
+	}
+
+	// Latencies of successful requests, in nanoseconds
+	private static final class Samples {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private long errors;
+
+		void record(long nanos, boolean ok) {
+			if (!ok) {
+				errors++;
+				return;
+			}
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+
+		void addAll(Samples other) {
+			if (count + other.count > latencies.length) {
+				latencies = Arrays.copyOf(latencies, count + other.count);
+			}
+			System.arraycopy(other.latencies, 0, latencies, count, other.count);
+			count += other.count;
+			errors += other.errors;
+		}
+
+		long[] sorted() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+}
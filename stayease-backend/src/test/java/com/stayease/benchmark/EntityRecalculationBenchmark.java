@@ -0,0 +1,85 @@
+package com.stayease.benchmark;
+
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.RoomType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// In-memory bed count recalculation: mvn -Pbenchmark test -Dbenchmark=EntityRecalculationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityRecalculationBenchmark {
+
+	@Param({"4", "40"})
+	private int bedsPerRoom;
+
+	@Param({"5", "300"})
+	private int roomsPerProperty;
+
+	private Room room;
+	private Property property;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42);
+		property = Property.builder().name("Benchmark PG").build();
+		List<Room> rooms = new ArrayList<>(roomsPerProperty);
+		for (int r = 0; r < roomsPerProperty; r++) {
+			Room next = Room.builder()
+				.property(property)
+				.roomNumber(String.valueOf(r))
+				.roomType(RoomType.DORMITORY)
+				.floorNumber(0)
+				.totalBeds(bedsPerRoom)
+				.rentPerBed(BigDecimal.valueOf(6000))
+				.isActive(true)
+				.build();
+			for (int b = 0; b < bedsPerRoom; b++) {
+				next.getBeds().add(Bed.builder()
+					.room(next)
+					.bedNumber("B" + b)
+					.status(random.nextInt(10) < 7 ? BedStatus.OCCUPIED : BedStatus.AVAILABLE)
+					.build());
+			}
+			next.recalculateAvailableBeds();
+			rooms.add(next);
+		}
+		property.setRooms(rooms);
+		room = rooms.get(0);
+	}
+
+	@Benchmark
+	public Integer roomAvailableBeds() {
+		room.recalculateAvailableBeds();
+		return room.getAvailableBeds();
+	}
+
+	@Benchmark
+	public Integer propertyBedCounts() {
+		property.recalculateBedCounts();
+		return property.getAvailableBeds();
+	}
+}
@@ -0,0 +1,86 @@
+package com.stayease.benchmark;
+
+import com.stayease.search.GeoGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Radius lookups on GeoGrid against a linear scan: mvn -Pbenchmark test -Dbenchmark=GeoGridBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoGridBenchmark {
+
+	private static final double[][] CITY_CENTRES = {
+		{12.9716, 77.5946}, {19.0760, 72.8777}, {28.7041, 77.1025}, {18.5204, 73.8567},
+		{17.3850, 78.4867}, {13.0827, 80.2707}, {22.5726, 88.3639}, {26.9124, 75.7873}
+	};
+
+	private static final double QUERY_LATITUDE = 12.9352;
+	private static final double QUERY_LONGITUDE = 77.6245;
+	private static final double RADIUS_KM = 3;
+
+	@Param({"1000000"})
+	private int pointCount;
+
+	private double[] latitudes;
+	private double[] longitudes;
+	private GeoGrid grid;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(11);
+		latitudes = new double[pointCount];
+		longitudes = new double[pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			double[] centre = CITY_CENTRES[random.nextInt(CITY_CENTRES.length)];
+			latitudes[i] = centre[0] + random.nextGaussian() * 0.15;
+			longitudes[i] = centre[1] + random.nextGaussian() * 0.15;
+		}
+		BitSet all = new BitSet(pointCount);
+		all.set(0, pointCount);
+		grid = GeoGrid.build(latitudes, longitudes, all);
+	}
+
+	@Benchmark
+	public int gridRadius() {
+		double latitudeDelta = RADIUS_KM / GeoGrid.KM_PER_DEGREE_LATITUDE;
+		double longitudeDelta = RADIUS_KM / (GeoGrid.KM_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(QUERY_LATITUDE + latitudeDelta)));
+		int[] count = new int[1];
+		grid.forEachInBox(QUERY_LATITUDE - latitudeDelta, QUERY_LONGITUDE - longitudeDelta,
+			QUERY_LATITUDE + latitudeDelta, QUERY_LONGITUDE + longitudeDelta,
+			(doc, latitude, longitude) -> {
+				if (GeoGrid.distanceKm(QUERY_LATITUDE, QUERY_LONGITUDE, latitude, longitude) <= RADIUS_KM) {
+					count[0]++;
+				}
+			});
+		return count[0];
+	}
+
+	@Benchmark
+	public int linearScan() {
+		int count = 0;
+		for (int i = 0; i < pointCount; i++) {
+			if (GeoGrid.distanceKm(QUERY_LATITUDE, QUERY_LONGITUDE, latitudes[i], longitudes[i]) <= RADIUS_KM) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,88 @@
+package com.stayease.benchmark;
+
+import com.stayease.security.JwtTokenProvider;
+import com.stayease.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Bearer token verification per request: mvn -Pbenchmark test -Dbenchmark=JwtVerificationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-for-stayease-0123456789abcdef";
+
+	@Param({"0", "512", "2048"})
+	private int extraClaimBytes;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		jwtTokenProvider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 86400000L);
+		ReflectionTestUtils.setField(jwtTokenProvider, "verificationCacheMaximumSize", 10000L);
+		jwtTokenProvider.init();
+
+		Date now = new Date();
+		token = Jwts.builder()
+			.setSubject("tenant.with.a.longish.name@example.com")
+			.claim("id", 123456L)
+			.claim("role", "USER")
+			.claim("scope", "x".repeat(extraClaimBytes))
+			.setIssuedAt(now)
+			.setExpiration(new Date(now.getTime() + 86400000L))
+			.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+			.compact();
+
+		if (jwtTokenProvider.verify(token) == null) {
+			throw new IllegalStateException("Benchmark token does not verify");
+		}
+	}
+
+	@Benchmark
+	public void validateThenParse(Blackhole blackhole) {
+		blackhole.consume(jwtTokenProvider.validateToken(token));
+		blackhole.consume(jwtTokenProvider.getEmailFromToken(token));
+	}
+
+	@Benchmark
+	public Claims singleParse() {
+		return jwtTokenProvider.getClaimsIfValid(token);
+	}
+
+	@Benchmark
+	public VerifiedToken cachedVerify() {
+		return jwtTokenProvider.verify(token);
+	}
+
+	@Benchmark
+	public String issueToken() {
+		return jwtTokenProvider.generateTokenFromEmail("tenant.with.a.longish.name@example.com", 123456L, "USER");
+	}
+}
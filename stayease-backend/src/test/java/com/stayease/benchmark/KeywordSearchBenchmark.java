@@ -0,0 +1,81 @@
+package com.stayease.benchmark;
+
+import com.stayease.search.KeywordSearchResult;
+import com.stayease.search.PropertyKeywordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Keyword search latency: mvn -Pbenchmark test -Dbenchmark=KeywordSearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordSearchBenchmark {
+
+	private static final String[] CITIES = {
+		"Bangalore", "Mumbai", "Delhi", "Pune", "Hyderabad", "Chennai", "Kolkata", "Jaipur"
+	};
+
+	private static final String[] NAME_WORDS = {
+		"Sunrise", "Green", "Comfort", "Royal", "Lakeview", "Elite", "Urban", "Cozy", "Silver", "Orchid",
+		"Palm", "Harmony", "Galaxy", "Heritage", "Maple", "Zen", "Nest", "Haven", "Residency", "Stay"
+	};
+
+	private static final String[] DESCRIPTION_WORDS = {
+		"spacious", "furnished", "rooms", "near", "metro", "station", "wifi", "meals", "included",
+		"laundry", "housekeeping", "power", "backup", "security", "cctv", "parking", "quiet", "locality",
+		"students", "professionals", "gym", "terrace", "balcony", "attached", "bathroom", "geyser"
+	};
+
+	@Param({"100000"})
+	private int propertyCount;
+
+	private PropertyKeywordIndex index;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(7);
+		LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+		index = new PropertyKeywordIndex();
+		for (int i = 1; i <= propertyCount; i++) {
+			String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+			StringBuilder description = new StringBuilder();
+			for (int w = 0; w < 40; w++) {
+				description.append(DESCRIPTION_WORDS[random.nextInt(DESCRIPTION_WORDS.length)]).append(' ');
+			}
+			index.upsert((long) i, start.plusMinutes(i), name, CITIES[random.nextInt(CITIES.length)],
+				"Street " + random.nextInt(500) + " Sector " + random.nextInt(60), description.toString());
+		}
+	}
+
+	@Benchmark
+	public KeywordSearchResult singleTerm() {
+		return index.search("lakeview", 0, 20);
+	}
+
+	@Benchmark
+	public KeywordSearchResult twoTerms() {
+		return index.search("royal pune", 0, 20);
+	}
+
+	@Benchmark
+	public KeywordSearchResult prefix() {
+		return index.search("orchid hyd", 0, 20);
+	}
+}
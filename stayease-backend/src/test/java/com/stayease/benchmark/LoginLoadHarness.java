@@ -0,0 +1,198 @@
+package com.stayease.benchmark;
+
+import com.stayease.seed.DatasetSeeder;
+import com.stayease.seed.SeedSummary;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Search latency under a login storm, unbounded vs bounded login pool: mvn -Ploginload test
+public final class LoginLoadHarness {
+
+	private static final int PROPERTY_COUNT = Integer.getInteger("loginload.properties", 2000);
+	private static final int READERS = Integer.getInteger("loginload.readers", 32);
+	private static final int LOGIN_CLIENTS = Integer.getInteger("loginload.logins", 200);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loginload.warmup-seconds", 5);
+	private static final int MEASURE_SECONDS = Integer.getInteger("loginload.seconds", 20);
+	private static final String[] CITIES = {"bangalore", "mumbai", "delhi", "pune", "hyderabad", "chennai"};
+
+	private LoginLoadHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> report = new ArrayList<>();
+		report.addAll(run("unbounded", "--auth.login.threads=200", "--auth.login.queue-capacity=100000",
+			"--auth.login.timeout=60s"));
+		report.addAll(run("bounded"));
+
+		System.out.printf("%n%d readers, %d login clients, %ds measured after %ds warm-up%n",
+			READERS, LOGIN_CLIENTS, MEASURE_SECONDS, WARMUP_SECONDS);
+		System.out.printf("%-10s %-14s %10s %10s %10s %10s %10s %10s %8s%n",
+			"pool", "phase", "reads/s", "p50 ms", "p99 ms", "logins/s", "429/s", "login p99", "errors");
+		report.forEach(System.out::println);
+	}
+
+	private static List<String> run(String mode, String... overrides) throws Exception {
+		try (ConfigurableApplicationContext context = BenchmarkDataset.startApplication("login_load_" + mode, overrides)) {
+			SeedSummary dataset = BenchmarkDataset.generate(context, PROPERTY_COUNT);
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			String baseUrl = "http://localhost:" + port;
+
+			Supplier<HttpRequest> search = () -> HttpRequest.newBuilder(URI.create(baseUrl + "/properties/search?city="
+					+ CITIES[ThreadLocalRandom.current().nextInt(CITIES.length)] + "&availableBeds=1&size=20"))
+				.timeout(Duration.ofSeconds(60))
+				.GET()
+				.build();
+			Supplier<HttpRequest> login = () -> {
+				long tenantId = dataset.getFirstTenantUserId() + ThreadLocalRandom.current().nextInt(dataset.getTenants());
+				String body = "{\"email\":\"tenant" + tenantId + "@" + DatasetSeeder.EMAIL_DOMAIN
+					+ "\",\"password\":\"" + DatasetSeeder.PASSWORD + "\"}";
+				return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+					.timeout(Duration.ofSeconds(60))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(body))
+					.build();
+			};
+
+			Samples[] readsOnly = load(List.of(new Client(search, READERS)));
+			Samples[] mixed = load(List.of(new Client(search, READERS), new Client(login, LOGIN_CLIENTS)));
+			return List.of(row(mode, "reads only", readsOnly[0], null), row(mode, "reads+logins", mixed[0], mixed[1]));
+		}
+	}
+
+	// Closed loop: every client sends its next request as soon as the previous one completes
+	private static Samples[] load(List<Client> clientGroups) throws Exception {
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(clients)
+				.build();
+
+			long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+			long measureEnd = warmupEnd + MEASURE_SECONDS * 1_000_000_000L;
+			List<List<Future<Samples>>> futures = new ArrayList<>();
+
+			for (Client group : clientGroups) {
+				List<Future<Samples>> groupFutures = new ArrayList<>(group.count);
+				for (int i = 0; i < group.count; i++) {
+					groupFutures.add(clients.submit(() -> {
+						Samples samples = new Samples();
+						while (true) {
+							HttpRequest request = group.request.get();
+							long start = System.nanoTime();
+							if (start >= measureEnd) {
+								break;
+							}
+							int status;
+							try {
+								status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+							} catch (Exception ex) {
+								status = -1;
+							}
+							long end = System.nanoTime();
+							if (start >= warmupEnd) {
+								samples.record(end - start, status);
+							}
+						}
+						return samples;
+					}));
+				}
+				futures.add(groupFutures);
+			}
+
+			Samples[] merged = new Samples[clientGroups.size()];
+			for (int g = 0; g < merged.length; g++) {
+				merged[g] = new Samples();
+				for (Future<Samples> future : futures.get(g)) {
+					merged[g].addAll(future.get());
+				}
+			}
+			return merged;
+		}
+	}
+
+	private static String row(String mode, String phase, Samples reads, Samples logins) {
+		long[] readLatencies = reads.sorted();
+		long[] loginLatencies = logins == null ? new long[0] : logins.sorted();
+		return String.format("%-10s %-14s %10.0f %10.2f %10.2f %10.1f %10.1f %10.2f %8d",
+			mode, phase,
+			readLatencies.length / (double) MEASURE_SECONDS,
+			percentileMillis(readLatencies, 0.50),
+			percentileMillis(readLatencies, 0.99),
+			loginLatencies.length / (double) MEASURE_SECONDS,
+			logins == null ? 0.0 : logins.refused / (double) MEASURE_SECONDS,
+			percentileMillis(loginLatencies, 0.99),
+			reads.errors + (logins == null ? 0 : logins.errors));
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return Double.NaN;
+		}
+		int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	private static final class Client {
+
+		private final Supplier<HttpRequest> request;
+		private final int count;
+
+		private Client(Supplier<HttpRequest> request, int count) {
+			this.request = request;
+			this.count = count;
+		}
+	}
+
+	// Latencies of successful requests, in nanoseconds, plus 429 and error counts
+	private static final class Samples {
+
+		private long[] latencies = new long[1024];
+		private int count;
+		private long refused;
+		private long errors;
+
+		void record(long nanos, int status) {
+			if (status == 429) {
+				refused++;
+				return;
+			}
+			if (status / 100 != 2) {
+				errors++;
+				return;
+			}
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+
+		void addAll(Samples other) {
+			if (count + other.count > latencies.length) {
+				latencies = Arrays.copyOf(latencies, count + other.count);
+			}
+			System.arraycopy(other.latencies, 0, latencies, count, other.count);
+			count += other.count;
+			refused += other.refused;
+			errors += other.errors;
+		}
+
+		long[] sorted() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.stayease.benchmark;
+
+import com.stayease.dto.response.PropertyCardResponse;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import com.stayease.search.PropertySearchIndex;
+import com.stayease.search.SearchCriteria;
+import com.stayease.search.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Indexed property search against the SQL search: mvn -Pbenchmark test -Dbenchmark=PropertySearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertySearchBenchmark {
+
+	private static final String[] CITIES = {
+		"Bangalore", "Mumbai", "Delhi", "Pune", "Hyderabad", "Chennai", "Kolkata", "Jaipur",
+		"Ahmedabad", "Noida", "Gurgaon", "Indore", "Kochi", "Lucknow", "Chandigarh", "Bhopal"
+	};
+
+	private static final String PAGE_SQL = "SELECT * FROM properties p WHERE p.is_active = TRUE "
+		+ "AND (? IS NULL OR LOWER(p.city) = LOWER(?)) "
+		+ "AND (? IS NULL OR p.property_type = ?) "
+		+ "AND (? IS NULL OR p.gender_preference = ?) "
+		+ "AND (? IS NULL OR p.min_rent >= ?) "
+		+ "AND (? IS NULL OR p.max_rent <= ?) "
+		+ "AND (? IS NULL OR p.available_beds >= ?) "
+		+ "ORDER BY p.created_at DESC LIMIT ? OFFSET ?";
+
+	private static final String COUNT_SQL = "SELECT COUNT(*) FROM properties p WHERE p.is_active = TRUE "
+		+ "AND (? IS NULL OR LOWER(p.city) = LOWER(?)) "
+		+ "AND (? IS NULL OR p.property_type = ?) "
+		+ "AND (? IS NULL OR p.gender_preference = ?) "
+		+ "AND (? IS NULL OR p.min_rent >= ?) "
+		+ "AND (? IS NULL OR p.max_rent <= ?) "
+		+ "AND (? IS NULL OR p.available_beds >= ?)";
+
+	@Param({"10000", "100000", "1000000"})
+	private int propertyCount;
+
+	private PropertySearchIndex index;
+	private Connection connection;
+	private PreparedStatement pageStatement;
+	private PreparedStatement countStatement;
+	private SearchCriteria criteria;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		criteria = SearchCriteria.builder()
+			.city("pune")
+			.propertyType(PropertyType.PG)
+			.maxRent(BigDecimal.valueOf(12000))
+			.availableBeds(1)
+			.build();
+
+		index = new PropertySearchIndex();
+		connection = DriverManager.getConnection("jdbc:h2:mem:search_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS properties");
+			statement.execute("CREATE TABLE properties (id BIGINT PRIMARY KEY, name VARCHAR(200), "
+				+ "property_type VARCHAR(20), gender_preference VARCHAR(20), city VARCHAR(100), state VARCHAR(100), "
+				+ "min_rent DECIMAL(10,2), max_rent DECIMAL(10,2), total_beds INT, available_beds INT, "
+				+ "is_active BOOLEAN, created_at TIMESTAMP)");
+			statement.execute("CREATE INDEX idx_properties_active_created ON properties (is_active, created_at, id)");
+		}
+
+		Random random = new Random(42);
+		LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+		PropertyType[] types = PropertyType.values();
+		GenderPreference[] genders = GenderPreference.values();
+
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO properties VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?)")) {
+			for (int i = 1; i <= propertyCount; i++) {
+				int minRent = 3000 + random.nextInt(20) * 500;
+				int maxRent = minRent + random.nextInt(10) * 500;
+				int totalBeds = 2 + random.nextInt(30);
+				PropertyCardResponse card = PropertyCardResponse.builder()
+					.id((long) i)
+					.name("Property " + i)
+					.propertyType(types[random.nextInt(types.length)])
+					.genderPreference(genders[random.nextInt(genders.length)])
+					.city(CITIES[random.nextInt(CITIES.length)])
+					.state("State")
+					.minRent(BigDecimal.valueOf(minRent))
+					.maxRent(BigDecimal.valueOf(maxRent))
+					.totalBeds(totalBeds)
+					.availableBeds(random.nextInt(totalBeds + 1))
+					.createdAt(start.plusMinutes(i))
+					.build();
+				index.upsert(card);
+
+				insert.setLong(1, card.getId());
+				insert.setString(2, card.getName());
+				insert.setString(3, card.getPropertyType().name());
+				insert.setString(4, card.getGenderPreference().name());
+				insert.setString(5, card.getCity());
+				insert.setString(6, card.getState());
+				insert.setBigDecimal(7, card.getMinRent());
+				insert.setBigDecimal(8, card.getMaxRent());
+				insert.setInt(9, card.getTotalBeds());
+				insert.setInt(10, card.getAvailableBeds());
+				insert.setTimestamp(11, Timestamp.valueOf(card.getCreatedAt()));
+				insert.addBatch();
+				if (i % 5000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+
+		pageStatement = connection.prepareStatement(PAGE_SQL);
+		countStatement = connection.prepareStatement(COUNT_SQL);
+		bindFilters(pageStatement);
+		pageStatement.setInt(13, 20);
+		pageStatement.setInt(14, 0);
+		bindFilters(countStatement);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE properties");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public SearchResult inMemoryIndex() {
+		return index.search(criteria, 0, 20);
+	}
+
+	@Benchmark
+	public void databaseQuery(Blackhole blackhole) throws SQLException {
+		try (ResultSet rows = pageStatement.executeQuery()) {
+			while (rows.next()) {
+				blackhole.consume(rows.getLong("id"));
+			}
+		}
+		try (ResultSet count = countStatement.executeQuery()) {
+			count.next();
+			blackhole.consume(count.getLong(1));
+		}
+	}
+
+	private void bindFilters(PreparedStatement statement) throws SQLException {
+		statement.setString(1, criteria.getCity());
+		statement.setString(2, criteria.getCity());
+		statement.setString(3, criteria.getPropertyType().name());
+		statement.setString(4, criteria.getPropertyType().name());
+		statement.setString(5, null);
+		statement.setString(6, null);
+		statement.setBigDecimal(7, null);
+		statement.setBigDecimal(8, null);
+		statement.setBigDecimal(9, criteria.getMaxRent());
+		statement.setBigDecimal(10, criteria.getMaxRent());
+		statement.setInt(11, criteria.getAvailableBeds());
+		statement.setInt(12, criteria.getAvailableBeds());
+	}
+}
@@ -0,0 +1,75 @@
+package com.stayease.benchmark;
+
+import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyResponse;
+import com.stayease.dto.response.RoomResponse;
+import com.stayease.seed.SeedSummary;
+import com.stayease.service.BookingService;
+import com.stayease.service.PropertyService;
+import com.stayease.service.RoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-response mapping through the services: mvn -Pbenchmark test -Dbenchmark=ResponseMappingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+	@Param({"1000", "10000"})
+	private int propertyCount;
+
+	private ConfigurableApplicationContext context;
+	private PropertyService propertyService;
+	private RoomService roomService;
+	private BookingService bookingService;
+	private SeedSummary dataset;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = BenchmarkDataset.startApplication("mapping_bench_" + propertyCount);
+		dataset = BenchmarkDataset.generate(context, propertyCount);
+		System.out.println("Dataset: " + dataset);
+		propertyService = context.getBean(PropertyService.class);
+		roomService = context.getBean(RoomService.class);
+		bookingService = context.getBean(BookingService.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public PagedResponse<PropertyResponse> ownerPropertyPage() {
+		return propertyService.getPropertiesByOwner(dataset.getFirstOwnerUserId(), 0, 20);
+	}
+
+	@Benchmark
+	public RoomResponse roomWithBeds() {
+		return roomService.getRoomById(dataset.getFirstRoomId());
+	}
+
+	@Benchmark
+	public PagedResponse<BookingResponse> ownerBookingPage() {
+		return bookingService.getOwnerBookings(dataset.getFirstOwnerUserId(), null, 0, 20);
+	}
+}
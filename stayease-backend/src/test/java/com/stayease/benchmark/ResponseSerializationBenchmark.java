@@ -0,0 +1,114 @@
+package com.stayease.benchmark;
+
+import com.stayease.dto.response.ApiResponse;
+import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyResponse;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of a listing page: mvn -Pbenchmark test -Dbenchmark=ResponseSerializationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+	private static final String[] AMENITIES = {
+		"WiFi", "AC", "Laundry", "Power Backup", "CCTV", "Parking", "Gym", "Housekeeping",
+		"Meals", "Hot Water", "TV", "Refrigerator"
+	};
+
+	@Param({"20", "100"})
+	private int pageSize;
+
+	private JsonMapper jsonMapper;
+	private ApiResponse<PagedResponse<PropertyResponse>> response;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		jsonMapper = JsonMapper.builder().build();
+
+		List<PropertyResponse> content = new ArrayList<>(pageSize);
+		LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30);
+		for (int i = 0; i < pageSize; i++) {
+			List<String> images = List.of(
+				"https://cdn.stayease.example/properties/" + i + "/1.jpg",
+				"https://cdn.stayease.example/properties/" + i + "/2.jpg",
+				"https://cdn.stayease.example/properties/" + i + "/3.jpg");
+			Set<String> amenities = new LinkedHashSet<>(List.of(AMENITIES));
+			content.add(PropertyResponse.builder()
+				.id((long) i)
+				.name("Bangalore Residency " + i)
+				.description("Fully furnished rooms close to the metro station, with meals and housekeeping included.")
+				.propertyType(PropertyType.PG)
+				.genderPreference(GenderPreference.COED)
+				.addressLine1(i + " Main Road")
+				.city("Bangalore")
+				.state("Karnataka")
+				.pincode("560001")
+				.fullAddress(i + " Main Road, Bangalore, Karnataka - 560001")
+				.latitude(new BigDecimal("12.97160000"))
+				.longitude(new BigDecimal("77.59460000"))
+				.minRent(BigDecimal.valueOf(6500))
+				.maxRent(BigDecimal.valueOf(12000))
+				.securityDeposit(BigDecimal.valueOf(13000))
+				.noticePeriodDays(30)
+				.totalRooms(12)
+				.totalBeds(30)
+				.availableBeds(7)
+				.avgRating(new BigDecimal("4.3"))
+				.totalReviews(58)
+				.isVerified(true)
+				.isFeatured(i % 10 == 0)
+				.images(images)
+				.primaryImage(images.get(0))
+				.amenities(amenities)
+				.owner(PropertyResponse.OwnerSummary.builder()
+					.id(1L)
+					.name("Ravi Kumar")
+					.phone("9876543210")
+					.businessName("Kumar Stays")
+					.build())
+				.createdAt(createdAt.plusMinutes(i))
+				.build());
+		}
+
+		response = ApiResponse.success(PagedResponse.<PropertyResponse>builder()
+			.content(content)
+			.page(0)
+			.size(pageSize)
+			.totalElements(4_812)
+			.totalPages((4_812 + pageSize - 1) / pageSize)
+			.first(true)
+			.last(false)
+			.build());
+	}
+
+	@Benchmark
+	public byte[] serializePropertyPage() {
+		return jsonMapper.writeValueAsBytes(response);
+	}
+}
@@ -0,0 +1,235 @@
+package com.stayease.benchmark;
+
+import com.stayease.StayEaseApplication;
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.entity.Bed;
+import com.stayease.entity.OwnerProfile;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import com.stayease.enums.RoomType;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.repository.UserRepository;
+import com.stayease.search.PropertySearchIndexer;
+import com.stayease.service.BookingService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// HTTP load with platform vs virtual threads: mvn -Ploadtest test
+public final class ThreadingModeLoadHarness {
+
+	private static final String[] CITIES = {"Bangalore", "Mumbai", "Delhi", "Pune", "Hyderabad", "Chennai"};
+	private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+	private static final int PROPERTY_COUNT = Integer.getInteger("loadtest.properties", 5000);
+	private static final int BOOKING_COUNT = 20;
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+	private static final int MEASURE_SECONDS = Integer.getInteger("loadtest.seconds", 20);
+
+	private ThreadingModeLoadHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> report = new ArrayList<>();
+		for (boolean virtualThreads : new boolean[] {false, true}) {
+			String mode = virtualThreads ? "virtual" : "platform";
+			try (ConfigurableApplicationContext context = start(mode, virtualThreads)) {
+				seed(context);
+				int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+				String baseUrl = "http://localhost:" + port;
+				String token = login(baseUrl);
+
+				report.add(run(mode, "GET /properties/search",
+					HttpRequest.newBuilder(URI.create(baseUrl + "/properties/search?city=pune&availableBeds=1&size=20"))));
+				report.add(run(mode, "GET /bookings",
+					HttpRequest.newBuilder(URI.create(baseUrl + "/bookings?size=10"))
+						.header("Authorization", "Bearer " + token)));
+			}
+		}
+
+		System.out.printf("%nConcurrency %d, %ds measured after %ds warm-up%n", CONCURRENCY, MEASURE_SECONDS, WARMUP_SECONDS);
+		System.out.printf("%-9s %-24s %10s %10s %10s %8s%n", "mode", "endpoint", "req/s", "p50 ms", "p99 ms", "errors");
+		report.forEach(System.out::println);
+	}
+
+	private static ConfigurableApplicationContext start(String mode, boolean virtualThreads) {
+		return new SpringApplicationBuilder(StayEaseApplication.class)
+			.profiles("test")
+			.run(
+				"--server.port=0",
+				"--spring.threads.virtual.enabled=" + virtualThreads,
+				"--spring.datasource.url=jdbc:h2:mem:loadtest_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.hikari.maximum-pool-size=10",
+				"--spring.jpa.properties.hibernate.generate_statistics=false",
+				"--logging.level.root=WARN"
+			);
+	}
+
+	private static void seed(ConfigurableApplicationContext context) {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		OwnerProfileRepository ownerProfileRepository = context.getBean(OwnerProfileRepository.class);
+		PropertyRepository propertyRepository = context.getBean(PropertyRepository.class);
+		RoomRepository roomRepository = context.getBean(RoomRepository.class);
+		BedRepository bedRepository = context.getBean(BedRepository.class);
+		BookingService bookingService = context.getBean(BookingService.class);
+
+		Long ownerUserId = userRepository.findByEmail("owner@test.com").orElseThrow().getId();
+		OwnerProfile owner = ownerProfileRepository.findByUserId(ownerUserId).orElseThrow();
+
+		List<Property> properties = new ArrayList<>(PROPERTY_COUNT);
+		for (int i = 0; i < PROPERTY_COUNT; i++) {
+			properties.add(Property.builder()
+				.owner(owner)
+				.name("Load Test PG " + i)
+				.propertyType(PropertyType.values()[i % PropertyType.values().length])
+				.genderPreference(GenderPreference.values()[i % GenderPreference.values().length])
+				.addressLine1(i + " Load Street")
+				.city(CITIES[i % CITIES.length])
+				.state("State")
+				.pincode("560001")
+				.minRent(BigDecimal.valueOf(4000 + (i % 20) * 500))
+				.maxRent(BigDecimal.valueOf(9000 + (i % 20) * 500))
+				.totalBeds(10)
+				.availableBeds(i % 11)
+				.build());
+		}
+		propertyRepository.saveAll(properties);
+
+		Property bookedProperty = properties.get(0);
+		Room room = roomRepository.save(Room.builder()
+			.property(bookedProperty)
+			.roomNumber("L1")
+			.roomType(RoomType.DORMITORY)
+			.floorNumber(1)
+			.totalBeds(BOOKING_COUNT)
+			.availableBeds(BOOKING_COUNT)
+			.rentPerBed(BigDecimal.valueOf(6000))
+			.isActive(true)
+			.build());
+		List<Long> bedIds = new ArrayList<>();
+		for (int i = 0; i < BOOKING_COUNT; i++) {
+			bedIds.add(bedRepository.save(Bed.builder()
+				.room(room)
+				.bedNumber("B" + i)
+				.status(BedStatus.AVAILABLE)
+				.build()).getId());
+		}
+
+		Long tenantId = userRepository.findByEmail("user@test.com").orElseThrow().getId();
+		for (Long bedId : bedIds) {
+			bookingService.createBooking(new BookingRequest(bookedProperty.getId(), room.getId(), bedId,
+				LocalDate.now().plusDays(7), null, null), tenantId);
+		}
+
+		context.getBean(PropertySearchIndexer.class).rebuild();
+	}
+
+	private static String login(String baseUrl) throws Exception {
+		HttpResponse<String> response = HttpClient.newHttpClient().send(
+			HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"user@test.com\",\"password\":\"password123\"}"))
+				.build(),
+			HttpResponse.BodyHandlers.ofString());
+		Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+		if (!matcher.find()) {
+			throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+		}
+		return matcher.group(1);
+	}
+
+	private static String run(String mode, String label, HttpRequest.Builder requestBuilder) throws Exception {
+		HttpRequest request = requestBuilder.timeout(Duration.ofSeconds(30)).GET().build();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(clients)
+				.build();
+
+			long warmupEnd = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+			long measureEnd = warmupEnd + MEASURE_SECONDS * 1_000_000_000L;
+			AtomicLong errors = new AtomicLong();
+			List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+
+			for (int i = 0; i < CONCURRENCY; i++) {
+				futures.add(clients.submit(() -> {
+					long[] latencies = new long[1024];
+					int count = 0;
+					while (true) {
+						long start = System.nanoTime();
+						if (start >= measureEnd) {
+							break;
+						}
+						boolean ok;
+						try {
+							HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+							ok = response.statusCode() == 200;
+						} catch (Exception ex) {
+							ok = false;
+						}
+						long end = System.nanoTime();
+						if (start < warmupEnd) {
+							continue;
+						}
+						if (!ok) {
+							errors.incrementAndGet();
+							continue;
+						}
+						if (count == latencies.length) {
+							latencies = Arrays.copyOf(latencies, count * 2);
+						}
+						latencies[count++] = end - start;
+					}
+					return Arrays.copyOf(latencies, count);
+				}));
+			}
+
+			long[] all = new long[0];
+			for (Future<long[]> future : futures) {
+				long[] latencies = future.get();
+				int offset = all.length;
+				all = Arrays.copyOf(all, offset + latencies.length);
+				System.arraycopy(latencies, 0, all, offset, latencies.length);
+			}
+			Arrays.sort(all);
+
+			return String.format("%-9s %-24s %10.0f %10.2f %10.2f %8d",
+				mode, label,
+				all.length / (double) MEASURE_SECONDS,
+				percentileMillis(all, 0.50),
+				percentileMillis(all, 0.99),
+				errors.get());
+		}
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return Double.NaN;
+		}
+		int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+}
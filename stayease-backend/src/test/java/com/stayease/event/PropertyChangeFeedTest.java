@@ -0,0 +1,75 @@
+package com.stayease.event;
+
+import com.stayease.entity.Property;
+import com.stayease.entity.PropertyChange;
+import com.stayease.repository.PropertyChangeRepository;
+import com.stayease.search.PropertySearchIndexer;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: the feed only records changes as their transaction commits
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyChangeFeedTest {
+
+	@Autowired
+	private PropertyChangeFeed propertyChangeFeed;
+
+	@Autowired
+	private PropertyChangeRepository propertyChangeRepository;
+
+	@Autowired
+	private PropertySearchIndexer propertySearchIndexer;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void changesFromOtherInstancesAreAppliedAndOwnChangesAreOnlyRecorded() {
+		// Written the way another instance would: no event reaches this one
+		Property property = fixtures.property("Feed PG");
+		assertThat(propertySearchIndexer.isIndexed(property.getId())).isFalse();
+
+		propertyChangeRepository.save(PropertyChange.builder()
+			.propertyId(property.getId())
+			.kind(PropertyChangedEvent.Kind.DETAILS)
+			.origin("other-instance")
+			.changedAt(LocalDateTime.now())
+			.build());
+		propertyChangeFeed.poll(Duration.ofSeconds(10), 100);
+		assertThat(propertySearchIndexer.isIndexed(property.getId())).isTrue();
+
+		Property local = fixtures.property("Local Feed PG");
+		long before = propertyChangeRepository.count();
+		transactionTemplate.executeWithoutResult(status ->
+			eventPublisher.publishEvent(PropertyChangedEvent.inventory(local.getId())));
+		assertThat(propertyChangeRepository.count()).isEqualTo(before + 1);
+
+		// Outside a transaction the event is applied here but not written to the feed
+		eventPublisher.publishEvent(PropertyChangedEvent.details(local.getId()));
+		assertThat(propertyChangeRepository.count()).isEqualTo(before + 1);
+		assertThat(propertySearchIndexer.isIndexed(local.getId())).isTrue();
+	}
+}
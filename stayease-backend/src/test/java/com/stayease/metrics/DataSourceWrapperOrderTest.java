@@ -0,0 +1,26 @@
+package com.stayease.metrics;
+
+import com.stayease.config.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "datasource.connection-limiter.enabled=true")
+@ActiveProfiles("test")
+class DataSourceWrapperOrderTest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void queryCounterWrapsTheConnectionLimiter() {
+		assertThat(dataSource).isInstanceOf(QueryCountingDataSource.class);
+		assertThat(((QueryCountingDataSource) dataSource).getTargetDataSource())
+			.isInstanceOf(ConnectionLimitingDataSource.class);
+	}
+}
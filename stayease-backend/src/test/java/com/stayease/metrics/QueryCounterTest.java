@@ -0,0 +1,46 @@
+package com.stayease.metrics;
+
+import com.stayease.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryCounterTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void countsJdbcAndJpaStatementsInsideAScope() {
+		jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+		assertThat(QueryCounter.current()).isEqualTo(-1);
+
+		QueryCounter.start();
+		int afterJdbc;
+		int total;
+		try {
+			jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+			jdbcTemplate.batchUpdate("UPDATE users SET updated_at = updated_at WHERE id = -1",
+				"UPDATE users SET updated_at = updated_at WHERE id = -2");
+			afterJdbc = QueryCounter.current();
+
+			userRepository.findByEmail("user@test.com");
+		} finally {
+			total = QueryCounter.stop();
+		}
+
+		// The batch is one round trip
+		assertThat(afterJdbc).isEqualTo(2);
+		assertThat(total).isGreaterThanOrEqualTo(3);
+		assertThat(QueryCounter.current()).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,60 @@
+package com.stayease.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyKeywordIndexTest {
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Test
+	void ranksNameMatchesAboveDescriptionMatches() {
+		PropertyKeywordIndex index = new PropertyKeywordIndex();
+		index.upsert(1L, CREATED, "Green Nest", "Pune", "MG Road", "Quiet rooms near the sunrise park");
+		index.upsert(2L, CREATED, "Sunrise PG", "Pune", "FC Road", "Shared rooms");
+		index.upsert(3L, CREATED, "Blue Stay", "Mumbai", "Link Road", "Sea facing flats");
+
+		KeywordSearchResult result = index.search("sunrise", 0, 10);
+
+		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.getPropertyIds()).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void andsTermsAndMatchesLastTermAsPrefix() {
+		PropertyKeywordIndex index = new PropertyKeywordIndex();
+		index.upsert(1L, CREATED, "Caf\u00e9 Residency", "Bangalore", "Koramangala", null);
+		index.upsert(2L, CREATED, "Cafe Rooms", "Mumbai", "Andheri", null);
+
+		assertThat(index.search("cafe bang", 0, 10).getPropertyIds()).containsExactly(1L);
+		assertThat(index.search("CAF\u00c9", 0, 10).getTotalElements()).isEqualTo(2);
+		assertThat(index.search("cafe delhi", 0, 10).getTotalElements()).isZero();
+	}
+
+	@Test
+	void reflectsUpdatesAndRemovals() {
+		PropertyKeywordIndex index = new PropertyKeywordIndex();
+		index.upsert(1L, CREATED, "Lakeview Hostel", "Pune", "Baner", null);
+		index.upsert(2L, CREATED, "Lakeview PG", "Pune", "Aundh", null);
+
+		index.upsert(1L, CREATED, "Hilltop Hostel", "Pune", "Baner", null);
+		index.remove(2L);
+
+		assertThat(index.search("lakeview", 0, 10).getTotalElements()).isZero();
+		assertThat(index.search("hilltop", 0, 10).getPropertyIds()).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void unchangedTextIsNotReindexed() {
+		PropertyKeywordIndex index = new PropertyKeywordIndex();
+		assertThat(index.upsert(1L, CREATED, "Lakeview Hostel", "Pune", "Baner", null)).isTrue();
+
+		assertThat(index.upsert(1L, CREATED, "Lakeview Hostel", "Pune", "Baner", null)).isFalse();
+		assertThat(index.upsert(1L, CREATED, "Lakeview Hostel", "Pune", "Baner", "")).isTrue();
+		assertThat(index.search("lakeview", 0, 10).getPropertyIds()).containsExactly(1L);
+	}
+}
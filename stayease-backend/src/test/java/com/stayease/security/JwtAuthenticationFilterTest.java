@@ -0,0 +1,87 @@
+package com.stayease.security;
+
+import com.stayease.entity.User;
+import com.stayease.enums.Role;
+import com.stayease.repository.UserRepository;
+import com.stayease.service.AdminService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+	@Autowired
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private AdminService adminService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void authenticatesFromClaimsUntilTheUserIsDeactivated() throws Exception {
+		User user = userRepository.save(User.builder()
+			.email("stateless-" + System.nanoTime() + "@test.com")
+			.password("unused")
+			.firstName("Stateless")
+			.lastName("User")
+			.phone("7111111111")
+			.role(Role.USER)
+			.isActive(true)
+			.build());
+		Long adminId = userRepository.findByEmail("admin@test.com").orElseThrow().getId();
+		String token = jwtTokenProvider.generateTokenFromEmail(user.getEmail(), user.getId(), Role.USER.name());
+
+		authenticate(token);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		Authentication authentication = authenticate(token);
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(authentication).isNotNull();
+		assertThat(((CustomUserDetails) authentication.getPrincipal()).getId()).isEqualTo(user.getId());
+
+		adminService.updateUserStatus(user.getId(), adminId, false);
+
+		assertThat(authenticate(token)).isNull();
+	}
+
+	private Authentication authenticate(String token) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookings");
+		request.addHeader("Authorization", "Bearer " + token);
+		AtomicReference<Authentication> seen = new AtomicReference<>();
+
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(),
+			(req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+		return seen.get();
+	}
+}
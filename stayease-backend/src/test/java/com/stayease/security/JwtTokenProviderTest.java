@@ -0,0 +1,54 @@
+package com.stayease.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+	private JwtTokenProvider jwtTokenProvider;
+
+	@BeforeEach
+	void setUp() {
+		jwtTokenProvider = providerWithExpiration(3600000L);
+	}
+
+	@Test
+	void verifyReturnsTheSameClaimsFromCache() {
+		String token = jwtTokenProvider.generateTokenFromEmail("user@test.com", 7L, "USER");
+
+		VerifiedToken first = jwtTokenProvider.verify(token);
+		VerifiedToken second = jwtTokenProvider.verify(token);
+
+		assertThat(first).isNotNull();
+		assertThat(second).isSameAs(first);
+		assertThat(first.getEmail()).isEqualTo("user@test.com");
+		assertThat(first.getUserId()).isEqualTo(7L);
+		assertThat(first.getRole()).isEqualTo("USER");
+	}
+
+	@Test
+	void verifyRejectsTamperedAndExpiredTokens() {
+		String token = jwtTokenProvider.generateTokenFromEmail("user@test.com", 7L, "USER");
+		assertThat(jwtTokenProvider.verify(token)).isNotNull();
+
+		// Same signature, different payload: must not be served from the cached entry
+		String[] parts = token.split("\\.");
+		String forgedPayload = parts[1].substring(0, parts[1].length() - 2) + (parts[1].endsWith("AA") ? "BB" : "AA");
+		assertThat(jwtTokenProvider.verify(parts[0] + "." + forgedPayload + "." + parts[2])).isNull();
+
+		JwtTokenProvider expiring = providerWithExpiration(-1000L);
+		assertThat(expiring.verify(expiring.generateTokenFromEmail("user@test.com", 7L, "USER"))).isNull();
+	}
+
+	private static JwtTokenProvider providerWithExpiration(long expirationMillis) {
+		JwtTokenProvider provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "jwtSecret", "test-secret-key-for-stayease-tests-0123456789abcdef");
+		ReflectionTestUtils.setField(provider, "jwtExpiration", expirationMillis);
+		ReflectionTestUtils.setField(provider, "verificationCacheMaximumSize", 100L);
+		provider.init();
+		return provider;
+	}
+}
@@ -0,0 +1,142 @@
+package com.stayease.security;
+
+import com.stayease.dto.request.LoginRequest;
+import com.stayease.entity.User;
+import com.stayease.enums.Role;
+import com.stayease.exception.TooManyRequestsException;
+import com.stayease.repository.UserRepository;
+import com.stayease.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LoginHardeningTest {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void legacyHashIsUpgradedOnSuccessfulLogin() {
+		String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+		userRepository.save(User.builder()
+			.email("legacy@test.com")
+			.password(legacyHash)
+			.firstName("Legacy")
+			.lastName("User")
+			.phone("9876500001")
+			.role(Role.USER)
+			.isActive(true)
+			.isVerified(true)
+			.build());
+
+		assertThat(authService.login(new LoginRequest("legacy@test.com", "password123")).getAccessToken()).isNotBlank();
+
+		String stored = userRepository.findByEmail("legacy@test.com").orElseThrow().getPassword();
+		assertThat(stored).startsWith("{bcrypt}$2a$10$");
+		// The upgraded hash still verifies
+		assertThat(authService.login(new LoginRequest("legacy@test.com", "password123")).getAccessToken()).isNotBlank();
+	}
+
+	@Test
+	void saturatedLoginPoolRefusesInsteadOfQueueing() throws Exception {
+		LoginExecutor executor = new LoginExecutor(new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+				running.countDown();
+				await(release);
+				return "first";
+			}));
+			assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+			waitForQueue(executor, queued);
+
+			assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+				.isInstanceOf(TooManyRequestsException.class);
+
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+			assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+		} finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void loginThatCouldNotStartWithinTheTimeoutIsRefusedAtOnce() throws Exception {
+		LoginExecutor executor = new LoginExecutor(new SimpleMeterRegistry(), 1, 64, Duration.ofMillis(300));
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			// Checks take about 200 ms
+			executor.execute(() -> {
+				sleep(200);
+				return "measured";
+			});
+			CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+				running.countDown();
+				await(release);
+				return "first";
+			}));
+			assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+			// One check ahead: about 200 ms to wait, within the timeout
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+			waitForQueue(executor, queued);
+
+			// Two checks ahead: about 400 ms, so refused without waiting although the queue has room
+			long started = System.nanoTime();
+			assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+				.isInstanceOf(TooManyRequestsException.class);
+			assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(100));
+
+			release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+			assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+		} finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+
+	// The second submission has to be sitting in the queue before the third is tried
+	private static void waitForQueue(LoginExecutor executor, CompletableFuture<String> queued) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executor.queuedChecks() == 0 && !queued.isDone() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.stayease.security;
+
+import com.stayease.dto.request.LoginRequest;
+import com.stayease.dto.request.RefreshTokenRequest;
+import com.stayease.dto.response.JwtResponse;
+import com.stayease.exception.UnauthorizedException;
+import com.stayease.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenRotationTest {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void refreshRotatesTheTokenAndIssuesAValidAccessToken() {
+		JwtResponse login = authService.login(new LoginRequest("user@test.com", "password123"));
+		assertThat(login.getRefreshToken()).isNotBlank();
+
+		JwtResponse refreshed = authService.refresh(new RefreshTokenRequest(login.getRefreshToken()));
+
+		assertThat(refreshed.getRefreshToken()).isNotBlank().isNotEqualTo(login.getRefreshToken());
+		assertThat(refreshed.getUser().getEmail()).isEqualTo("user@test.com");
+		VerifiedToken token = jwtTokenProvider.verify(refreshed.getAccessToken());
+		assertThat(token).isNotNull();
+		assertThat(token.getUserId()).isEqualTo(login.getUser().getId());
+	}
+
+	@Test
+	void reusingARotatedTokenRevokesTheWholeFamily() {
+		JwtResponse login = authService.login(new LoginRequest("user@test.com", "password123"));
+		JwtResponse refreshed = authService.refresh(new RefreshTokenRequest(login.getRefreshToken()));
+		double reuse = count("stayease.auth.refresh.reuse");
+
+		assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(login.getRefreshToken())))
+			.isInstanceOf(UnauthorizedException.class);
+		assertThat(count("stayease.auth.refresh.reuse")).isEqualTo(reuse + 1);
+		// The legitimate successor went down with the replayed token
+		assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(refreshed.getRefreshToken())))
+			.isInstanceOf(UnauthorizedException.class);
+
+		// Other logins of the same user are separate families and keep working
+		JwtResponse other = authService.login(new LoginRequest("user@test.com", "password123"));
+		assertThat(authService.refresh(new RefreshTokenRequest(other.getRefreshToken())).getAccessToken()).isNotBlank();
+	}
+
+	@Test
+	void logoutRevokesTheSession() {
+		JwtResponse login = authService.login(new LoginRequest("user@test.com", "password123"));
+		double reuse = count("stayease.auth.refresh.reuse");
+		double ended = count("stayease.auth.refresh.ended");
+
+		authService.logout(new RefreshTokenRequest(login.getRefreshToken()));
+
+		assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(login.getRefreshToken())))
+			.isInstanceOf(UnauthorizedException.class);
+		// A token of a logged-out session is not a replay
+		assertThat(count("stayease.auth.refresh.reuse")).isEqualTo(reuse);
+		assertThat(count("stayease.auth.refresh.ended")).isEqualTo(ended + 1);
+	}
+
+	private double count(String name) {
+		return meterRegistry.counter(name).count();
+	}
+}
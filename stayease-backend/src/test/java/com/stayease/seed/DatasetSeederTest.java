@@ -0,0 +1,55 @@
+package com.stayease.seed;
+
+import com.stayease.entity.Property;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own database, so the seeded rows do not show up in other tests
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:stayease_seed_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+	"bookings.lifecycle.enabled=false"
+})
+@ActiveProfiles("test")
+class DatasetSeederTest {
+
+	@Autowired
+	private DatasetSeeder datasetSeeder;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void seededIdsStayClearOfBlocksHeldByTheApplicationAndTenantsHoldOneActiveBooking() {
+		Property property = fixtures.property("Generator Block PG");
+		// Takes a block of room ids that this instance keeps handing out from after the seed
+		Long before = fixtures.room(property, "G1", 0).getId();
+
+		// One tenant per property, so the pool has to grow to cover the active bookings
+		SeedSummary summary = datasetSeeder.seed(SeedOptions.builder()
+			.properties(40)
+			.tenantsPerProperty(1)
+			.build());
+
+		Long after = fixtures.room(property, "G2", 0).getId();
+		assertThat(after).isEqualTo(before + 1);
+		assertThat(summary.getFirstRoomId()).isGreaterThan(after);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rooms", Long.class))
+			.isEqualTo(summary.getRooms() + 2);
+
+		Long activeBookings = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM bookings WHERE status IN ('CHECKED_IN', 'CONFIRMED')", Long.class);
+		assertThat(activeBookings).isGreaterThan(41L);
+		assertThat((long) summary.getTenants()).isGreaterThanOrEqualTo(activeBookings);
+		assertThat(jdbcTemplate.queryForList("SELECT user_id FROM bookings WHERE status IN ('CHECKED_IN', 'CONFIRMED') "
+			+ "GROUP BY user_id HAVING COUNT(*) > 1", Long.class)).isEmpty();
+	}
+}
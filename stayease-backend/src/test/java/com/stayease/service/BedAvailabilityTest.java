@@ -0,0 +1,105 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.dto.response.AvailableBedResponse;
+import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.PropertyCalendarResponse;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.exception.BadRequestException;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: availability is served from an index that follows committed changes
+@SpringBootTest
+@ActiveProfiles("test")
+class BedAvailabilityTest {
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private AvailabilityService availabilityService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BedRepository bedRepository;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void bedsCanBeBookedAheadForNonOverlappingStays() {
+		Long tenantId = fixtures.tenantId();
+		Property property = fixtures.save(fixtures.propertyBuilder("Calendar PG")
+			.totalBeds(2)
+			.availableBeds(2));
+		Room room = fixtures.room(property, "C1", 2);
+		List<Bed> beds = fixtures.beds(room, 2);
+		Bed first = beds.get(0);
+		Bed second = beds.get(1);
+
+		LocalDate today = LocalDate.now();
+		BookingResponse firstStay = bookingService.createBooking(request(property, room, first, today.plusDays(10), today.plusDays(40)), tenantId);
+		bookingService.createBooking(request(property, room, first, today.plusDays(40), today.plusDays(70)), tenantId);
+		bookingService.createBooking(request(property, room, first, today.plusDays(100), null), tenantId);
+		// None of the stays has started, so the bed is still free today
+		assertThat(bedRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(BedStatus.AVAILABLE);
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isEqualTo(2);
+
+		assertThatThrownBy(() -> bookingService.createBooking(
+			request(property, room, first, today.plusDays(30), today.plusDays(50)), tenantId))
+			.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> bookingService.createBooking(
+			request(property, room, first, today.plusDays(200), today.plusDays(230)), tenantId))
+			.isInstanceOf(BadRequestException.class);
+
+		assertThat(availabilityService.getAvailableBeds(property.getId(), null, today.plusDays(10), today.plusDays(20)))
+			.extracting(AvailableBedResponse::getBedId).containsExactly(second.getId());
+		assertThat(availabilityService.getAvailableBeds(property.getId(), room.getId(), today.plusDays(70), today.plusDays(100)))
+			.extracting(AvailableBedResponse::getBedId).containsExactly(first.getId(), second.getId());
+		assertThat(availabilityService.getAvailableBeds(property.getId(), null, today.plusDays(70), null))
+			.extracting(AvailableBedResponse::getBedId).containsExactly(second.getId());
+
+		PropertyCalendarResponse calendar = availabilityService.getPropertyCalendar(
+			property.getId(), today.plusDays(5), today.plusDays(15));
+		assertThat(calendar.getDays()).hasSize(10);
+		assertThat(calendar.getDays().get(0).getBookedBeds()).isZero();
+		assertThat(calendar.getDays().get(5).getBookedBeds()).isEqualTo(1);
+		assertThat(calendar.getDays().get(5).getFreeBeds()).isEqualTo(1);
+
+		bookingService.cancelBooking(firstStay.getId(), tenantId);
+		assertThat(availabilityService.getAvailableBeds(property.getId(), null, today.plusDays(10), today.plusDays(20)))
+			.hasSize(2);
+
+		// A stay starting today takes the bed at once
+		bookingService.createBooking(request(property, room, second, today, today.plusDays(10)), tenantId);
+		assertThat(bedRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(BedStatus.RESERVED);
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isEqualTo(1);
+	}
+
+	private static BookingRequest request(Property property, Room room, Bed bed, LocalDate checkIn, LocalDate checkOut) {
+		return new BookingRequest(property.getId(), room.getId(), bed.getId(), checkIn, checkOut, null);
+	}
+}
@@ -0,0 +1,117 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.exception.BadRequestException;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: the bookings race on threads of their own
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingConcurrencyTest {
+
+	private static final int BED_COUNT = 4;
+	private static final int TENANT_COUNT = 50;
+	private static final int ATTEMPTS = 2000;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BedRepository bedRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void concurrentBookingsNeverOversellABed() throws Exception {
+		Property property = fixtures.property("Move-in Rush PG");
+		Room room = fixtures.room(property, "R1", BED_COUNT);
+		List<Long> bedIds = fixtures.beds(room, BED_COUNT).stream().map(Bed::getId).toList();
+
+		List<Long> tenantIds = new ArrayList<>();
+		for (int i = 0; i < TENANT_COUNT; i++) {
+			tenantIds.add(fixtures.tenant("Tenant " + i).getId());
+		}
+
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < ATTEMPTS; i++) {
+			BookingRequest request = new BookingRequest(property.getId(), room.getId(), bedIds.get(i % BED_COUNT),
+				LocalDate.now(), null, null);
+			Long tenantId = tenantIds.get(i % TENANT_COUNT);
+			futures.add(pool.submit(() -> {
+				start.await();
+				try {
+					bookingService.createBooking(request, tenantId);
+					booked.incrementAndGet();
+				} catch (BadRequestException e) {
+					rejected.incrementAndGet();
+				} catch (ConcurrencyFailureException e) {
+					conflicts.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		pool.shutdown();
+
+		List<Map<String, Object>> activePerBed = jdbcTemplate.queryForList(
+			"SELECT bed_id, COUNT(*) AS active FROM bookings WHERE room_id = ? "
+				+ "AND status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN') GROUP BY bed_id",
+			room.getId());
+
+		assertThat(booked.get()).isEqualTo(BED_COUNT);
+		assertThat(booked.get() + rejected.get() + conflicts.get()).isEqualTo(ATTEMPTS);
+		assertThat(activePerBed).hasSize(BED_COUNT)
+			.allSatisfy(row -> assertThat(((Number) row.get("active")).longValue()).isEqualTo(1));
+		assertThat(bedRepository.findByRoomId(room.getId()))
+			.allSatisfy(bed -> assertThat(bed.getStatus()).isEqualTo(BedStatus.RESERVED));
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isZero();
+	}
+}
@@ -0,0 +1,96 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.entity.User;
+import com.stayease.enums.ExportFormat;
+import com.stayease.enums.PropertyType;
+import com.stayease.enums.Role;
+import com.stayease.repository.UserRepository;
+import com.stayease.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class BookingExportTest {
+
+	private static final int BOOKING_COUNT = 30;
+	private static final String PROPERTY_NAME = "Export House, Block \"A\"";
+
+	@Autowired
+	private BookingExportService bookingExportService;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void exportStreamsEveryBookingWithASingleQuery() throws Exception {
+		Long ownerUserId = fixtures.ownerUserId();
+		// A name that spreadsheets would run as a formula, and a phone number that must survive as typed
+		Long tenantId = userRepository.save(User.builder()
+			.email("export-tenant@test.com")
+			.password("unused")
+			.firstName("=HYPERLINK(\"http://x\")")
+			.lastName("Tenant")
+			.phone("+91 98765 43210")
+			.role(Role.USER)
+			.isActive(true)
+			.build()).getId();
+
+		Property property = fixtures.save(fixtures.propertyBuilder(PROPERTY_NAME).propertyType(PropertyType.HOSTEL));
+		Room room = fixtures.room(property, "E1", BOOKING_COUNT);
+		for (Bed bed : fixtures.beds(room, BOOKING_COUNT)) {
+			bookingService.createBooking(new BookingRequest(property.getId(), room.getId(), bed.getId(),
+				LocalDate.now().plusDays(3), null, null), tenantId);
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		List<String> csv = export(ownerUserId, ExportFormat.CSV);
+		long statements = statistics.getPrepareStatementCount();
+
+		assertThat(csv.get(0)).startsWith("booking_reference,status,tenant_name");
+		assertThat(csv).filteredOn(line -> line.contains("\"Export House, Block \"\"A\"\"\"")).hasSize(BOOKING_COUNT);
+		// Owner lookup plus the export query, however many rows
+		assertThat(statements).isLessThanOrEqualTo(2);
+		assertThat(csv.get(1)).contains(",\"'=HYPERLINK(\"\"http://x\"\") Tenant\",").contains(",+91 98765 43210,");
+
+		List<String> ndjson = export(ownerUserId, ExportFormat.NDJSON);
+		assertThat(ndjson).hasSize(csv.size() - 1);
+		assertThat(ndjson).filteredOn(line -> line.contains("\"property\":\"Export House, Block \\\"A\\\"\""))
+			.hasSize(BOOKING_COUNT)
+			.allSatisfy(line -> assertThat(line).contains("\"monthly_rent\":6000"));
+	}
+
+	private List<String> export(Long ownerUserId, ExportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		bookingExportService.exportOwnerBookings(ownerUserId, null, format).writeTo(out);
+		return out.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+}
@@ -0,0 +1,189 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.dto.response.BookingResponse;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.PropertyType;
+import com.stayease.job.BookingLifecycleJob;
+import com.stayease.job.SchedulerLeases;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.repository.SchedulerLeaseRepository;
+import com.stayease.service.impl.BookingReferenceGenerator;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: the job works in transactions of its own
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingLifecycleTest {
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private BookingLifecycleJob bookingLifecycleJob;
+
+	@Autowired
+	private SchedulerLeases schedulerLeases;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BedRepository bedRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SchedulerLeaseRepository schedulerLeaseRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void staleBookingsExpireAndOverdueStaysCheckOut() {
+		Long ownerUserId = fixtures.ownerUserId();
+		Long tenantId = fixtures.tenantId();
+
+		Property property = fixtures.save(fixtures.propertyBuilder("Lifecycle PG")
+			.propertyType(PropertyType.HOSTEL)
+			.totalRooms(1)
+			.totalBeds(3)
+			.availableBeds(3));
+		Room room = fixtures.room(property, "L1", 3);
+		List<Bed> beds = fixtures.beds(room, 3);
+		Bed stale = beds.get(0);
+		Bed overdue = beds.get(1);
+		Bed rebooked = beds.get(2);
+
+		LocalDate today = LocalDate.now();
+		BookingResponse pending = bookingService.createBooking(request(property, room, stale, today.plusDays(5), null), tenantId);
+		jdbcTemplate.update("UPDATE bookings SET created_at = ? WHERE id = ?",
+			LocalDateTime.now().minusDays(3), pending.getId());
+
+		BookingResponse finished = checkedIn(property, room, overdue, today.minusDays(30), today.minusDays(3), tenantId, ownerUserId);
+		BookingResponse handedOver = checkedIn(property, room, rebooked, today.minusDays(30), today.minusDays(2), tenantId, ownerUserId);
+		BookingResponse next = bookingService.createBooking(request(property, room, rebooked, today.plusDays(1), null), tenantId);
+
+		BookingLifecycleJob.LifecycleRunResult result = bookingLifecycleJob.runOnce();
+		assertThat(result.getExpired()).isGreaterThanOrEqualTo(1);
+		assertThat(result.getCheckedOut()).isGreaterThanOrEqualTo(2);
+
+		assertThat(bookingRepository.findById(pending.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CANCELLED);
+		assertThat(bookingRepository.findById(finished.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CHECKED_OUT);
+		assertThat(bookingRepository.findById(handedOver.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CHECKED_OUT);
+		assertThat(bookingRepository.findById(next.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.PENDING);
+
+		assertThat(bedRepository.findById(stale.getId()).orElseThrow().getStatus()).isEqualTo(BedStatus.AVAILABLE);
+		Bed vacated = bedRepository.findById(overdue.getId()).orElseThrow();
+		assertThat(vacated.getStatus()).isEqualTo(BedStatus.AVAILABLE);
+		assertThat(vacated.getExpectedCheckout()).isNull();
+		// The next stay starts tomorrow, so the vacated bed is free until then
+		assertThat(bedRepository.findById(rebooked.getId()).orElseThrow().getStatus()).isEqualTo(BedStatus.AVAILABLE);
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isEqualTo(3);
+		assertThat(propertyRepository.findById(property.getId()).orElseThrow().getAvailableBeds()).isEqualTo(3);
+
+		// A day later the stay has started and the bed is reserved for it
+		jdbcTemplate.update("UPDATE bookings SET check_in_date = ? WHERE id = ?", today, next.getId());
+		BookingLifecycleJob.LifecycleRunResult started = bookingLifecycleJob.runOnce();
+		assertThat(started.getReserved()).isGreaterThanOrEqualTo(1);
+		assertThat(bedRepository.findById(rebooked.getId()).orElseThrow().getStatus()).isEqualTo(BedStatus.RESERVED);
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isEqualTo(2);
+		assertThat(propertyRepository.findById(property.getId()).orElseThrow().getAvailableBeds()).isEqualTo(2);
+
+		// Nothing left to do on another run
+		BookingLifecycleJob.LifecycleRunResult again = bookingLifecycleJob.runOnce();
+		assertThat(again.getExpired()).isZero();
+		assertThat(again.getCheckedOut()).isZero();
+		assertThat(again.getReserved()).isZero();
+	}
+
+	@Test
+	void leaseIsExclusiveUntilItExpires() {
+		assertThat(schedulerLeases.tryAcquire("lease-test", Duration.ofMinutes(1))).isTrue();
+		assertThat(schedulerLeases.tryAcquire("lease-test", Duration.ofMinutes(1))).isTrue();
+
+		jdbcTemplate.update("UPDATE scheduler_leases SET owner = 'other-instance', leased_until = ? WHERE name = 'lease-test'",
+			LocalDateTime.now().plusMinutes(1));
+		assertThat(schedulerLeases.tryAcquire("lease-test", Duration.ofMinutes(1))).isFalse();
+
+		jdbcTemplate.update("UPDATE scheduler_leases SET leased_until = ? WHERE name = 'lease-test'",
+			LocalDateTime.now().minusSeconds(1));
+		assertThat(schedulerLeases.tryAcquire("lease-test", Duration.ofMinutes(1))).isTrue();
+		schedulerLeases.release("lease-test");
+	}
+
+	@Test
+	void leaseOfAnotherInstanceIsTakenOverOnlyAfterTheGrace() {
+		assertThat(schedulerLeases.tryAcquire("grace-test", Duration.ofMinutes(1))).isTrue();
+		jdbcTemplate.update("UPDATE scheduler_leases SET owner = 'other-instance', leased_until = ? WHERE name = 'grace-test'",
+			LocalDateTime.now().minusSeconds(30));
+
+		assertThat(schedulerLeases.tryAcquire("grace-test", Duration.ofMinutes(1), Duration.ofMinutes(1))).isFalse();
+		assertThat(schedulerLeases.tryAcquire("grace-test", Duration.ofMinutes(1), Duration.ofSeconds(10))).isTrue();
+		schedulerLeases.release("grace-test");
+	}
+
+	@Test
+	void referencesStopOnceTheNodeLeaseRunsOutUnrenewed() throws InterruptedException {
+		// A second instance, so it leases a node of its own
+		SchedulerLeases otherInstance = new SchedulerLeases(schedulerLeaseRepository, transactionManager);
+		BookingReferenceGenerator generator = new BookingReferenceGenerator(
+			otherInstance, -1, Duration.ofMillis(300), Duration.ofMinutes(2));
+		assertThat(generator.next()).startsWith("BK");
+
+		Thread.sleep(400);
+		assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+
+		generator.renewNodeLease();
+		assertThat(generator.next()).startsWith("BK");
+		otherInstance.release("booking-reference-node-" + generator.getNodeId());
+	}
+
+	private BookingResponse checkedIn(Property property, Room room, Bed bed, LocalDate checkIn, LocalDate checkOut,
+			Long tenantId, Long ownerUserId) {
+		BookingResponse booking = bookingService.createBooking(request(property, room, bed, checkIn, checkOut), tenantId);
+		bookingService.updateBookingStatus(booking.getId(), BookingStatus.CONFIRMED, ownerUserId);
+		return bookingService.updateBookingStatus(booking.getId(), BookingStatus.CHECKED_IN, ownerUserId);
+	}
+
+	private static BookingRequest request(Property property, Room room, Bed bed, LocalDate checkIn, LocalDate checkOut) {
+		return new BookingRequest(property.getId(), room.getId(), bed.getId(), checkIn, checkOut, null);
+	}
+}
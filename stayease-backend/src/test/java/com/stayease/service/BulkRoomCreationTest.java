@@ -0,0 +1,129 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BulkRoomRequest;
+import com.stayease.dto.request.RoomRequest;
+import com.stayease.dto.response.BulkRoomResponse;
+import com.stayease.entity.Property;
+import com.stayease.enums.PropertyType;
+import com.stayease.enums.RoomType;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own database, and the connection limiter on with a pool of three, as with virtual threads
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:stayease_bulk_room_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+	"spring.datasource.hikari.maximum-pool-size=3",
+	"datasource.connection-limiter.enabled=true",
+	"datasource.connection-limiter.acquire-timeout-ms=2000"
+})
+@ActiveProfiles("test")
+class BulkRoomCreationTest {
+
+	private static final int ROOM_COUNT = 40;
+	private static final int BEDS_PER_ROOM = 4;
+	private static final int CONCURRENT_REQUESTS = 6;
+
+	@Autowired
+	private RoomService roomService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void bulkCreationBatchesRoomAndBedInserts() {
+		Long ownerUserId = fixtures.ownerUserId();
+		Property property = property("Forty Room Tower");
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		BulkRoomResponse response = roomService.createRooms(property.getId(), rooms(ROOM_COUNT), ownerUserId);
+
+		assertThat(response.getRoomsCreated()).isEqualTo(ROOM_COUNT);
+		assertThat(response.getBedsCreated()).isEqualTo(ROOM_COUNT * BEDS_PER_ROOM);
+		assertThat(response.getRowsPerSecond()).isPositive();
+		assertThat(response.getRooms()).hasSize(ROOM_COUNT)
+			.allSatisfy(room -> assertThat(room.getBeds()).hasSize(BEDS_PER_ROOM));
+		// 200 rows: one statement per room or bed would be far above this
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+
+		Property updated = propertyRepository.findById(property.getId()).orElseThrow();
+		assertThat(updated.getTotalRooms()).isEqualTo(ROOM_COUNT);
+		assertThat(updated.getTotalBeds()).isEqualTo(ROOM_COUNT * BEDS_PER_ROOM);
+		assertThat(updated.getAvailableBeds()).isEqualTo(ROOM_COUNT * BEDS_PER_ROOM);
+	}
+
+	@Test
+	void concurrentBulkCreationsDoNotStarveTheIdGenerator() throws Exception {
+		Long ownerUserId = fixtures.ownerUserId();
+		List<Property> properties = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			properties.add(property("Concurrent Tower " + i));
+		}
+
+		// Every request holds a connection while the generator fetches id blocks on a second one
+		ExecutorService pool = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<BulkRoomResponse>> responses = new ArrayList<>();
+		for (Property property : properties) {
+			responses.add(pool.submit(() -> {
+				start.await();
+				return roomService.createRooms(property.getId(), rooms(ROOM_COUNT), ownerUserId);
+			}));
+		}
+		start.countDown();
+		try {
+			for (Future<BulkRoomResponse> response : responses) {
+				assertThat(response.get(30, TimeUnit.SECONDS).getBedsCreated()).isEqualTo(ROOM_COUNT * BEDS_PER_ROOM);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private Property property(String name) {
+		return fixtures.save(fixtures.propertyBuilder(name).propertyType(PropertyType.HOSTEL));
+	}
+
+	private static BulkRoomRequest rooms(int count) {
+		List<RoomRequest> rooms = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			RoomRequest room = new RoomRequest();
+			room.setRoomNumber(String.valueOf(100 + i));
+			room.setRoomType(RoomType.DORMITORY);
+			room.setTotalBeds(BEDS_PER_ROOM);
+			room.setRentPerBed(BigDecimal.valueOf(7000));
+			rooms.add(room);
+		}
+		return new BulkRoomRequest(rooms);
+	}
+}
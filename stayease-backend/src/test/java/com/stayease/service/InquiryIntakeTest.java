@@ -0,0 +1,177 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.InquiryRequest;
+import com.stayease.dto.response.InquiryResponse;
+import com.stayease.dto.response.PagedResponse;
+import com.stayease.entity.Property;
+import com.stayease.enums.InquiryStatus;
+import com.stayease.exception.ResourceNotFoundException;
+import com.stayease.exception.TooManyRequestsException;
+import com.stayease.service.impl.InquiryBuffer;
+import com.stayease.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: inquiries are written by the buffer's own thread
+@SpringBootTest
+@ActiveProfiles("test")
+class InquiryIntakeTest {
+
+	@Autowired
+	private InquiryService inquiryService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void queuedInquiriesReachTheOwnerInbox() throws InterruptedException {
+		Long ownerUserId = fixtures.ownerUserId();
+		Property property = fixtures.property("Inquiry PG");
+		long before = inquiryService.getOwnerInquiries(ownerUserId, 0, 1).getTotalElements();
+
+		for (int i = 0; i < 3; i++) {
+			inquiryService.submitInquiry(new InquiryRequest(property.getId(), "Guest " + i, "guest" + i + "@test.com",
+				"98765432" + i + "0", "Is a bed free next month?", LocalDate.now().plusDays(3)), null);
+		}
+
+		PagedResponse<InquiryResponse> inbox = null;
+		for (int attempt = 0; attempt < 50; attempt++) {
+			inbox = inquiryService.getOwnerInquiries(ownerUserId, 0, 10);
+			if (inbox.getTotalElements() == before + 3) {
+				break;
+			}
+			Thread.sleep(100);
+		}
+		assertThat(inbox.getTotalElements()).isEqualTo(before + 3);
+		assertThat(inbox.getContent()).filteredOn(i -> i.getPropertyId().equals(property.getId()))
+			.hasSize(3)
+			.allSatisfy(i -> {
+				assertThat(i.getPropertyName()).isEqualTo("Inquiry PG");
+				assertThat(i.getStatus()).isEqualTo(InquiryStatus.NEW);
+				assertThat(i.getCreatedAt()).isNotNull();
+			});
+	}
+
+	@Test
+	void unknownPropertyIsRejectedBeforeQueueing() {
+		assertThatThrownBy(() -> inquiryService.submitInquiry(new InquiryRequest(Long.MAX_VALUE, "Guest",
+			"guest@test.com", "9876543210", null, null), null))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	void fullBufferRefusesNewSubmissions() {
+		// Never started, so nothing drains the queue
+		InquiryBuffer buffer = new InquiryBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), 2, 10,
+			Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1));
+		InquiryBuffer.PendingInquiry inquiry = InquiryBuffer.PendingInquiry.builder()
+			.propertyId(1L)
+			.name("Guest")
+			.email("guest@test.com")
+			.phone("9876543210")
+			.submittedAt(LocalDateTime.now())
+			.build();
+
+		buffer.submit(inquiry);
+		buffer.submit(inquiry);
+
+		assertThatThrownBy(() -> buffer.submit(inquiry)).isInstanceOf(TooManyRequestsException.class);
+		assertThat(buffer.size()).isEqualTo(2);
+	}
+
+	@Test
+	void inquiriesStayQueuedWhileTheDatabaseIsDown() throws Exception {
+		Property property = fixtures.property("Outage PG");
+		AtomicBoolean down = new AtomicBoolean(true);
+		DataSource flaky = new DelegatingDataSource(dataSource) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				if (down.get()) {
+					throw new SQLTransientConnectionException("Connection is not available");
+				}
+				return super.getConnection();
+			}
+		};
+		InquiryBuffer buffer = new InquiryBuffer(new JdbcTemplate(flaky), new DataSourceTransactionManager(flaky),
+			new SimpleMeterRegistry(), 3, 2, Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofMillis(200));
+		buffer.start();
+		try {
+			// The writer holds on to its batch of two and stops draining, so at most five fit before the 429
+			int accepted = 0;
+			boolean refused = false;
+			while (!refused && accepted < 10) {
+				try {
+					buffer.submit(pending(property.getId(), "outage" + accepted + "@test.com"));
+					accepted++;
+				} catch (TooManyRequestsException ex) {
+					refused = true;
+				}
+				Thread.sleep(20);
+			}
+			assertThat(refused).isTrue();
+			assertThat(accepted).isBetween(3, 5);
+			assertThat(countInquiries(property)).isZero();
+
+			down.set(false);
+			long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (countInquiries(property) < accepted && System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+			assertThat(countInquiries(property)).isEqualTo(accepted);
+			assertThat(buffer.size()).isZero();
+		} finally {
+			down.set(false);
+			buffer.stop();
+		}
+	}
+
+	private long countInquiries(Property property) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inquiries WHERE property_id = ?", Long.class,
+			property.getId());
+	}
+
+	private static InquiryBuffer.PendingInquiry pending(Long propertyId, String email) {
+		return InquiryBuffer.PendingInquiry.builder()
+			.propertyId(propertyId)
+			.name("Guest")
+			.email(email)
+			.phone("9876543210")
+			.submittedAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,67 @@
+package com.stayease.service;
+
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.GenderPreference;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.service.impl.InventoryCounters;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: reconciliation repairs the counters with bulk updates the test then reads back
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryReconciliationTest {
+
+	@Autowired
+	private InventoryCounters inventoryCounters;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void reconcileRepairsDriftedCounters() {
+		Property property = fixtures.save(fixtures.propertyBuilder("Drifted PG").genderPreference(GenderPreference.MALE));
+		Room room = fixtures.room(property, "D1", 3);
+		fixtures.bed(room, "B1", BedStatus.OCCUPIED);
+		fixtures.bed(room, "B2", BedStatus.AVAILABLE);
+		fixtures.bed(room, "B3", BedStatus.AVAILABLE);
+
+		// Counters written outside the services: room claims 3 free beds, property knows nothing
+		jdbcTemplate.update("UPDATE properties SET total_rooms = 0, total_beds = 0, available_beds = 0 WHERE id = ?",
+			property.getId());
+
+		InventoryCounters.ReconciliationResult result = inventoryCounters.reconcile();
+
+		assertThat(result.getRoomsRepaired()).isGreaterThanOrEqualTo(1);
+		assertThat(result.getPropertiesRepaired()).isGreaterThanOrEqualTo(1);
+		assertThat(roomRepository.findById(room.getId()).orElseThrow().getAvailableBeds()).isEqualTo(2);
+		Property repaired = propertyRepository.findById(property.getId()).orElseThrow();
+		assertThat(repaired.getTotalRooms()).isEqualTo(1);
+		assertThat(repaired.getTotalBeds()).isEqualTo(3);
+		assertThat(repaired.getAvailableBeds()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,103 @@
+package com.stayease.service;
+
+import com.stayease.dto.response.OwnerDashboardResponse;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Booking;
+import com.stayease.entity.Inquiry;
+import com.stayease.entity.OwnerProfile;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.entity.User;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.BookingStatus;
+import com.stayease.enums.InquiryStatus;
+import com.stayease.repository.BookingRepository;
+import com.stayease.repository.InquiryRepository;
+import com.stayease.repository.UserRepository;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OwnerDashboardTest {
+
+	@Autowired
+	private OwnerDashboardService ownerDashboardService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private InquiryRepository inquiryRepository;
+
+	@Test
+	void dashboardGroupsCountsByStatusAndIsCachedPerOwner() {
+		OwnerProfile owner = fixtures.newOwner("Dash");
+		User ownerUser = owner.getUser();
+		User tenant = userRepository.findByEmail(TestFixtures.TENANT_EMAIL).orElseThrow();
+
+		Property property = fixtures.save(fixtures.propertyBuilder("Dashboard PG").owner(owner));
+		Room room = fixtures.room(property, "D1", 4);
+		room.setAvailableBeds(1);
+		Bed occupied = fixtures.bed(room, "B1", BedStatus.OCCUPIED);
+		Bed reserved = fixtures.bed(room, "B2", BedStatus.RESERVED);
+		fixtures.bed(room, "B3", BedStatus.AVAILABLE);
+		fixtures.bed(room, "B4", BedStatus.MAINTENANCE);
+
+		booking(tenant, property, room, occupied, BookingStatus.CHECKED_IN, 6000);
+		booking(tenant, property, room, reserved, BookingStatus.CONFIRMED, 5500);
+		booking(tenant, property, room, reserved, BookingStatus.CANCELLED, 5000);
+		inquiryRepository.save(Inquiry.builder()
+			.property(property)
+			.name("Guest")
+			.email("guest@test.com")
+			.phone("9876543210")
+			.status(InquiryStatus.NEW)
+			.build());
+
+		OwnerDashboardResponse dashboard = ownerDashboardService.getDashboard(ownerUser.getId());
+
+		assertThat(dashboard.getTotalProperties()).isEqualTo(1);
+		assertThat(dashboard.getTotalBeds()).isEqualTo(4);
+		assertThat(dashboard.getBedsByStatus()).containsEntry(BedStatus.OCCUPIED, 1L).containsEntry(BedStatus.MAINTENANCE, 1L);
+		assertThat(dashboard.getOccupancyRate()).isEqualTo(25.0);
+		assertThat(dashboard.getBookingsByStatus())
+			.containsEntry(BookingStatus.CHECKED_IN, 1L)
+			.containsEntry(BookingStatus.CANCELLED, 1L)
+			.containsEntry(BookingStatus.PENDING, 0L);
+		assertThat(dashboard.getMonthlyRevenue()).isEqualByComparingTo("6000");
+		assertThat(dashboard.getCommittedMonthlyRevenue()).isEqualByComparingTo("11500");
+		assertThat(dashboard.getInquiriesByStatus()).containsEntry(InquiryStatus.NEW, 1L).containsEntry(InquiryStatus.CLOSED, 0L);
+
+		assertThat(ownerDashboardService.getDashboard(ownerUser.getId())).isSameAs(dashboard);
+	}
+
+	private void booking(User tenant, Property property, Room room, Bed bed, BookingStatus status, int rent) {
+		bookingRepository.save(Booking.builder()
+			.bookingReference("DB" + System.nanoTime())
+			.user(tenant)
+			.property(property)
+			.room(room)
+			.bed(bed)
+			.checkInDate(LocalDate.now())
+			.monthlyRent(BigDecimal.valueOf(rent))
+			.status(status)
+			.build());
+	}
+}
@@ -0,0 +1,177 @@
+package com.stayease.service;
+
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.PagedResponse;
+import com.stayease.dto.response.PropertyCardResponse;
+import com.stayease.dto.response.PropertyResponse;
+import com.stayease.entity.Amenity;
+import com.stayease.entity.Property;
+import com.stayease.entity.PropertyImage;
+import com.stayease.exception.BadRequestException;
+import com.stayease.repository.AmenityRepository;
+import com.stayease.repository.PropertyImageRepository;
+import com.stayease.search.PropertySearchIndexer;
+import com.stayease.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: the search index is rebuilt from committed rows
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyListingQueryCountTest {
+
+	private static final int PROPERTY_COUNT = 60;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private PropertyImageRepository propertyImageRepository;
+
+	@Autowired
+	private AmenityRepository amenityRepository;
+
+	@Autowired
+	private PropertySearchIndexer propertySearchIndexer;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Property> properties = new ArrayList<>();
+
+	@BeforeEach
+	void seedProperties() {
+		List<Amenity> amenities = amenityRepository.findAll().subList(0, 3);
+
+		for (int i = 0; i < PROPERTY_COUNT; i++) {
+			Property property = fixtures.save(fixtures.propertyBuilder("Listing " + i)
+				.addressLine1("Street " + i)
+				.city("Bangalore")
+				.state("Karnataka")
+				.pincode("560001")
+				.minRent(BigDecimal.valueOf(5000))
+				.maxRent(BigDecimal.valueOf(9000))
+				.amenities(new HashSet<>(amenities)));
+			properties.add(property);
+
+			for (int j = 0; j < 2; j++) {
+				propertyImageRepository.save(PropertyImage.builder()
+					.property(property)
+					.imageUrl("https://img.example/" + i + "/" + j)
+					.isPrimary(j == 0)
+					.displayOrder(j)
+					.build());
+			}
+		}
+		propertySearchIndexer.rebuild();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+		properties.clear();
+	}
+
+	@Test
+	void listingStatementCountDoesNotDependOnPageSize() {
+		long smallPage = countStatements(() -> propertyService.getAllProperties(0, 5));
+		long largePage = countStatements(() -> propertyService.getAllProperties(0, 50));
+
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void cardSearchIsServedFromIndex() {
+		long statements = countStatements(() -> propertyService.searchPropertyCards(
+			"bangalore", null, null, null, null, null, 0, 20));
+
+		assertThat(statements).isZero();
+	}
+
+	@Test
+	void searchStatementCountDoesNotDependOnPageSize() {
+		long smallPage = countStatements(() -> propertyService.searchProperties(
+			"bangalore", null, null, null, null, null, 0, 5));
+		long largePage = countStatements(() -> propertyService.searchProperties(
+			"bangalore", null, null, null, null, null, 0, 50));
+
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void indexedCardsAreIsolatedFromCallersAndPageSizeIsClamped() {
+		PagedResponse<PropertyCardResponse> first = propertyService.searchPropertyCards(
+			"bangalore", null, null, null, null, null, 0, 10);
+		PropertyCardResponse card = first.getContent().get(0);
+		String name = card.getName();
+		card.setName("changed by caller");
+
+		PagedResponse<PropertyCardResponse> again = propertyService.searchPropertyCards(
+			"bangalore", null, null, null, null, null, 0, 10);
+		assertThat(again.getContent().get(0).getName()).isEqualTo(name);
+
+		PagedResponse<PropertyCardResponse> huge = propertyService.searchPropertyCards(
+			"bangalore", null, null, null, null, null, -3, 1_000_000);
+		assertThat(huge.getPage()).isZero();
+		assertThat(huge.getSize()).isEqualTo(100);
+		assertThat(huge.getContent()).hasSizeLessThanOrEqualTo(100);
+	}
+
+	@Test
+	void cursorPageSizeIsClamped() {
+		CursorPagedResponse<PropertyResponse> empty = propertyService.getAllPropertiesByCursor(null, 0);
+		assertThat(empty.getSize()).isEqualTo(1);
+		assertThat(empty.getContent()).hasSize(1);
+
+		CursorPagedResponse<PropertyResponse> huge = propertyService.getAllPropertiesByCursor(null, 1_000_000);
+		assertThat(huge.getSize()).isEqualTo(100);
+		assertThat(huge.getContent()).hasSizeLessThanOrEqualTo(100);
+	}
+
+	@Test
+	void oversizedBoundingBoxIsRejected() {
+		assertThatThrownBy(() -> propertyService.searchWithinBounds(
+			-90, -180, 90, 180, null, null, null, null, null, null, 0, 10))
+			.isInstanceOf(BadRequestException.class);
+
+		assertThat(propertyService.searchWithinBounds(
+			12.9, 77.5, 13.1, 77.7, null, null, null, null, null, null, 0, 10)).isNotNull();
+	}
+
+	@Test
+	void propertyDetailIsCachedUntilThePropertyChanges() {
+		Long ownerUserId = fixtures.ownerUserId();
+		Long propertyId = properties.get(0).getId();
+
+		propertyService.getPropertyById(propertyId);
+		assertThat(countStatements(() -> propertyService.getPropertyById(propertyId))).isZero();
+
+		propertyService.togglePropertyStatus(propertyId, ownerUserId, true);
+		assertThat(countStatements(() -> propertyService.getPropertyById(propertyId))).isPositive();
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
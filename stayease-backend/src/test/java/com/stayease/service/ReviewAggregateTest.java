@@ -0,0 +1,111 @@
+package com.stayease.service;
+
+import com.stayease.dto.request.BookingRequest;
+import com.stayease.dto.request.ReviewRequest;
+import com.stayease.dto.response.BookingResponse;
+import com.stayease.dto.response.CursorPagedResponse;
+import com.stayease.dto.response.RatingSummaryResponse;
+import com.stayease.dto.response.ReviewResponse;
+import com.stayease.entity.Bed;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.enums.BookingStatus;
+import com.stayease.exception.BadRequestException;
+import com.stayease.exception.DuplicateResourceException;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: the aggregates are written with bulk updates the test then reads back
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewAggregateTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private TestFixtures fixtures;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@AfterEach
+	void cleanUp() {
+		fixtures.cleanUp();
+	}
+
+	@Test
+	void aggregatesFollowNewEditedAndHiddenReviews() {
+		Long ownerUserId = fixtures.ownerUserId();
+		Property property = fixtures.property("Review PG");
+		Room room = fixtures.room(property, "V1", 2);
+		List<Bed> beds = fixtures.beds(room, 2);
+
+		Long first = stayedTenant("First", property, room, beds.get(0), ownerUserId);
+		Long second = stayedTenant("Second", property, room, beds.get(1), ownerUserId);
+		Long stranger = fixtures.tenantId();
+
+		ReviewResponse firstReview = reviewService.createReview(review(property, 4, 5, null), first);
+		ReviewResponse secondReview = reviewService.createReview(review(property, 5, null, 3), second);
+
+		assertThat(reviewService.getPropertyRatingSummary(property.getId())).satisfies(summary -> {
+			assertThat(summary.getReviewCount()).isEqualTo(2);
+			assertThat(summary.getAvgRating()).isEqualByComparingTo("4.5");
+			assertThat(summary.getAvgCleanliness()).isEqualByComparingTo("5.0");
+			assertThat(summary.getAvgFood()).isEqualByComparingTo("3.0");
+			assertThat(summary.getAvgStaff()).isNull();
+		});
+		Property rated = propertyRepository.findById(property.getId()).orElseThrow();
+		assertThat(rated.getAvgRating()).isEqualByComparingTo("4.5");
+		assertThat(rated.getTotalReviews()).isEqualTo(2);
+
+		reviewService.updateReview(firstReview.getId(), review(property, 2, 1, null), first);
+		RatingSummaryResponse edited = reviewService.getPropertyRatingSummary(property.getId());
+		assertThat(edited.getAvgRating()).isEqualByComparingTo("3.5");
+		assertThat(edited.getAvgCleanliness()).isEqualByComparingTo("1.0");
+
+		reviewService.setReviewVisibility(secondReview.getId(), false);
+		reviewService.setReviewVisibility(secondReview.getId(), false);
+		RatingSummaryResponse hidden = reviewService.getPropertyRatingSummary(property.getId());
+		assertThat(hidden.getReviewCount()).isEqualTo(1);
+		assertThat(hidden.getAvgRating()).isEqualByComparingTo("2.0");
+		assertThat(hidden.getAvgFood()).isNull();
+		assertThat(propertyRepository.findById(property.getId()).orElseThrow().getTotalReviews()).isEqualTo(1);
+
+		CursorPagedResponse<ReviewResponse> page = reviewService.getPropertyReviews(property.getId(), null, 10);
+		assertThat(page.getContent()).extracting(ReviewResponse::getId).containsExactly(firstReview.getId());
+
+		assertThatThrownBy(() -> reviewService.createReview(review(property, 5, null, null), first))
+			.isInstanceOf(DuplicateResourceException.class);
+		assertThatThrownBy(() -> reviewService.createReview(review(property, 5, null, null), stranger))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	private Long stayedTenant(String name, Property property, Room room, Bed bed, Long ownerUserId) {
+		Long tenantId = fixtures.tenant(name).getId();
+		LocalDate checkIn = LocalDate.now().minusDays(20);
+		BookingResponse booking = bookingService.createBooking(
+			new BookingRequest(property.getId(), room.getId(), bed.getId(), checkIn, null, null), tenantId);
+		bookingService.updateBookingStatus(booking.getId(), BookingStatus.CONFIRMED, ownerUserId);
+		bookingService.updateBookingStatus(booking.getId(), BookingStatus.CHECKED_IN, ownerUserId);
+		return tenantId;
+	}
+
+	private static ReviewRequest review(Property property, int rating, Integer cleanliness, Integer food) {
+		return new ReviewRequest(property.getId(), rating, cleanliness, food, null, null, "Stay", "Comment");
+	}
+}
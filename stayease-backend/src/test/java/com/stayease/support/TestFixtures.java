@@ -0,0 +1,197 @@
+package com.stayease.support;
+
+import com.stayease.entity.Bed;
+import com.stayease.entity.OwnerProfile;
+import com.stayease.entity.Property;
+import com.stayease.entity.Room;
+import com.stayease.entity.User;
+import com.stayease.enums.BedStatus;
+import com.stayease.enums.GenderPreference;
+import com.stayease.enums.PropertyType;
+import com.stayease.enums.Role;
+import com.stayease.enums.RoomType;
+import com.stayease.event.PropertyChangedEvent;
+import com.stayease.repository.BedRepository;
+import com.stayease.repository.OwnerProfileRepository;
+import com.stayease.repository.PropertyRepository;
+import com.stayease.repository.RoomRepository;
+import com.stayease.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Owners, tenants and listings for tests; cleanUp() deletes whatever a test committed through it
+@Component
+public class TestFixtures {
+
+	public static final String OWNER_EMAIL = "owner@test.com";
+	public static final String TENANT_EMAIL = "user@test.com";
+
+	private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+	private final UserRepository userRepository;
+	private final OwnerProfileRepository ownerProfileRepository;
+	private final PropertyRepository propertyRepository;
+	private final RoomRepository roomRepository;
+	private final BedRepository bedRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Set<Long> propertyIds = ConcurrentHashMap.newKeySet();
+	private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+
+	public TestFixtures(UserRepository userRepository, OwnerProfileRepository ownerProfileRepository,
+			PropertyRepository propertyRepository, RoomRepository roomRepository, BedRepository bedRepository,
+			JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+		this.userRepository = userRepository;
+		this.ownerProfileRepository = ownerProfileRepository;
+		this.propertyRepository = propertyRepository;
+		this.roomRepository = roomRepository;
+		this.bedRepository = bedRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.eventPublisher = eventPublisher;
+	}
+
+	// The owner created at startup
+	public Long ownerUserId() {
+		return userRepository.findByEmail(OWNER_EMAIL).orElseThrow().getId();
+	}
+
+	public OwnerProfile owner() {
+		return ownerProfileRepository.findByUserId(ownerUserId()).orElseThrow();
+	}
+
+	// The tenant created at startup
+	public Long tenantId() {
+		return userRepository.findByEmail(TENANT_EMAIL).orElseThrow().getId();
+	}
+
+	// A user of its own, with a unique email and phone
+	public User user(String name, Role role) {
+		long n = SEQUENCE.incrementAndGet();
+		User user = userRepository.save(User.builder()
+			.email(name.toLowerCase().replace(' ', '-') + "-" + n + "@test.com")
+			.password("unused")
+			.firstName(name)
+			.lastName(role == Role.OWNER ? "Owner" : "Tenant")
+			.phone(String.format("6%09d", n % 1_000_000_000L))
+			.role(role)
+			.isActive(true)
+			.build());
+		userIds.add(user.getId());
+		return user;
+	}
+
+	public User tenant(String name) {
+		return user(name, Role.USER);
+	}
+
+	public OwnerProfile newOwner(String name) {
+		return ownerProfileRepository.save(OwnerProfile.builder().user(user(name, Role.OWNER)).build());
+	}
+
+	// A PG of the startup owner; adjust it before passing it to save()
+	public Property.PropertyBuilder propertyBuilder(String name) {
+		return Property.builder()
+			.owner(owner())
+			.name(name)
+			.propertyType(PropertyType.PG)
+			.genderPreference(GenderPreference.COED)
+			.addressLine1("1 Test Street")
+			.city("Pune")
+			.state("Maharashtra")
+			.pincode("411001")
+			.minRent(BigDecimal.valueOf(6000))
+			.maxRent(BigDecimal.valueOf(6000));
+	}
+
+	public Property property(String name) {
+		return save(propertyBuilder(name));
+	}
+
+	public Property save(Property.PropertyBuilder property) {
+		Property saved = propertyRepository.save(property.build());
+		propertyIds.add(saved.getId());
+		return saved;
+	}
+
+	// Counts every bed as available; the property's own counters are left as they are
+	public Room room(Property property, String number, int beds) {
+		return roomRepository.save(Room.builder()
+			.property(property)
+			.roomNumber(number)
+			.roomType(roomType(beds))
+			.floorNumber(0)
+			.totalBeds(beds)
+			.availableBeds(beds)
+			.rentPerBed(property.getMinRent())
+			.isActive(true)
+			.build());
+	}
+
+	public Bed bed(Room room, String number, BedStatus status) {
+		return bedRepository.save(Bed.builder().room(room).bedNumber(number).status(status).build());
+	}
+
+	// Beds B1 to Bn, all available
+	public List<Bed> beds(Room room, int count) {
+		List<Bed> beds = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			beds.add(bed(room, "B" + i, BedStatus.AVAILABLE));
+		}
+		return beds;
+	}
+
+	// Deletes the listings and users made since the last call, with everything hanging off them
+	public void cleanUp() {
+		for (Long propertyId : List.copyOf(propertyIds)) {
+			deleteProperty(propertyId);
+			propertyIds.remove(propertyId);
+			// Drops it from the search and availability indexes and the caches
+			eventPublisher.publishEvent(PropertyChangedEvent.details(propertyId));
+		}
+		for (Long userId : List.copyOf(userIds)) {
+			deleteUser(userId);
+			userIds.remove(userId);
+		}
+	}
+
+	private void deleteProperty(Long id) {
+		jdbcTemplate.update("DELETE FROM reviews WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM inquiries WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM bookings WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM beds WHERE room_id IN (SELECT id FROM rooms WHERE property_id = ?)", id);
+		jdbcTemplate.update("DELETE FROM rooms WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM property_images WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM property_amenities WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM property_changes WHERE property_id = ?", id);
+		jdbcTemplate.update("DELETE FROM rating_aggregates WHERE subject_type = 'PROPERTY' AND subject_id = ?", id);
+		jdbcTemplate.update("DELETE FROM properties WHERE id = ?", id);
+	}
+
+	private void deleteUser(Long id) {
+		jdbcTemplate.update("DELETE FROM reviews WHERE user_id = ?", id);
+		jdbcTemplate.update("DELETE FROM inquiries WHERE user_id = ?", id);
+		jdbcTemplate.update("DELETE FROM bookings WHERE user_id = ?", id);
+		jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", id);
+		jdbcTemplate.update("DELETE FROM rating_aggregates WHERE subject_type = 'OWNER' AND subject_id IN "
+			+ "(SELECT id FROM owner_profiles WHERE user_id = ?)", id);
+		jdbcTemplate.update("DELETE FROM owner_profiles WHERE user_id = ?", id);
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", id);
+	}
+
+	private static RoomType roomType(int beds) {
+		return switch (beds) {
+			case 1 -> RoomType.SINGLE;
+			case 2 -> RoomType.DOUBLE;
+			case 3 -> RoomType.TRIPLE;
+			default -> RoomType.DORMITORY;
+		};
+	}
+}
@@ -0,0 +1,92 @@
+package com.stayease.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdsTest {
+
+	private static final int THREADS = 16;
+	private static final int IDS_PER_THREAD = 50_000;
+
+	@Test
+	void concurrentCallersGetUniqueIncreasingIds() throws Exception {
+		SnowflakeIds ids = new SnowflakeIds(513);
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		List<Future<long[]>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				long[] generated = new long[IDS_PER_THREAD];
+				for (int i = 0; i < IDS_PER_THREAD; i++) {
+					generated[i] = ids.next();
+				}
+				return generated;
+			}));
+		}
+		start.countDown();
+
+		Set<Long> seen = new HashSet<>();
+		for (Future<long[]> future : futures) {
+			long[] generated = future.get();
+			for (int i = 0; i < generated.length; i++) {
+				assertThat(seen.add(generated[i])).isTrue();
+				assertThat(SnowflakeIds.nodeOf(generated[i])).isEqualTo(513);
+				if (i > 0) {
+					assertThat(generated[i]).isGreaterThan(generated[i - 1]);
+				}
+			}
+		}
+		pool.shutdown();
+		assertThat(seen).hasSize(THREADS * IDS_PER_THREAD);
+	}
+
+	@Test
+	void idsKeepIncreasingWhenTheClockStepsBackOrTheSequenceRunsOut() {
+		AtomicLong now = new AtomicLong(SnowflakeIds.EPOCH.toEpochMilli() + 1_000);
+		SnowflakeIds ids = new SnowflakeIds(1, now::get);
+
+		long previous = ids.next();
+		// Far more than one millisecond's 4096 sequence numbers, with the clock frozen and then moved back
+		for (int i = 0; i < 10_000; i++) {
+			if (i == 5_000) {
+				now.addAndGet(-500);
+			}
+			long id = ids.next();
+			assertThat(id).isGreaterThan(previous);
+			previous = id;
+		}
+	}
+
+	@Test
+	void encodedReferencesAreFixedWidthAndSortLikeTheIds() {
+		SnowflakeIds ids = new SnowflakeIds(7);
+		long first = ids.next();
+		long second = ids.next();
+
+		String a = SnowflakeIds.encode("BK", first);
+		String b = SnowflakeIds.encode("BK", second);
+		assertThat(a).hasSize(15).startsWith("BK").matches("BK[0-9A-HJKMNP-TV-Z]{13}");
+		assertThat(a.compareTo(b)).isNegative();
+		assertThat(SnowflakeIds.encode("BK", Long.MAX_VALUE)).isEqualTo("BK7ZZZZZZZZZZZZ");
+		assertThat(SnowflakeIds.encode("BK", 0)).isEqualTo("BK0000000000000");
+	}
+
+	@Test
+	void nodeIdMustFitInTenBits() {
+		assertThatThrownBy(() -> new SnowflakeIds(1024)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SnowflakeIds(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -16,6 +16,10 @@ export const registerOwner = async (payload: RegisterRequest) => {
   return unwrap<User>(res);
 };
 
+export const logoutSession = async (refreshToken: string) => {
+  await api.post('/auth/logout', { refreshToken });
+};
+
 export const getCurrentUser = async () => {
   const res = await api.get('/auth/me');
   return unwrap<User>(res);
@@ -1,5 +1,6 @@
 import axios from 'axios';
-import type { ApiResponse } from '@/types/api';
+import type { AxiosError, InternalAxiosRequestConfig } from 'axios';
+import type { ApiResponse, JwtResponse } from '@/types/api';
 import { authStore } from '@/auth/auth-store';
 
 const baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080';
@@ -19,10 +20,56 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+// One refresh at a time: requests that fail together wait for the same rotation,
+// since a refresh token is only accepted once
+let refreshing: Promise<string | null> | null = null;
+
+const REFRESH_LOCK = 'stayease_auth_refresh';
+
+// Tabs share the session, so they also take turns refreshing it
+const withRefreshLock = (task: () => Promise<string | null>): Promise<string | null> => {
+  if (typeof navigator === 'undefined' || !('locks' in navigator)) return task();
+  return new Promise((resolve, reject) => {
+    navigator.locks.request(REFRESH_LOCK, () => task().then(resolve, reject)).catch(reject);
+  });
+};
+
+// staleToken is the access token the failed request carried
+const refreshAccessToken = (staleToken: string | null) => {
+  if (!refreshing) {
+    refreshing = withRefreshLock(async () => {
+      // Read the stored session: another tab may already have rotated it
+      const current = authStore.load();
+      if (current.token && current.token !== staleToken) return current.token;
+      if (!current.refreshToken) return null;
+      const res = await api.post<ApiResponse<JwtResponse>>('/auth/refresh', { refreshToken: current.refreshToken });
+      const payload = res.data.data as JwtResponse;
+      authStore.setSession({ token: payload.accessToken, refreshToken: payload.refreshToken, user: payload.user });
+      return payload.accessToken;
+    })
+      .catch(() => null)
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error?.response?.status === 401 || error?.response?.status === 403) {
+  async (error: AxiosError) => {
+    const original = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+    const status = error?.response?.status;
+    if (status === 401 && original && !original._retried && !original.url?.startsWith('/auth/')) {
+      original._retried = true;
+      const sent = String(original.headers.Authorization ?? '').replace(/^Bearer /, '');
+      const token = await refreshAccessToken(sent || null);
+      if (token) {
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      }
+    }
+    if ((status === 401 || status === 403) && !original?.url?.startsWith('/auth/refresh')) {
       authStore.notifyUnauthorized();
     }
     return Promise.reject(error);
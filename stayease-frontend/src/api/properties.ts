@@ -1,5 +1,5 @@
 import { api, unwrap } from './client';
-import type { Amenity, PagedResponse, Property, PropertyRequest, Room } from '@/types/api';
+import type { Amenity, OwnerDashboard, PagedResponse, Property, PropertyRequest, Room } from '@/types/api';
 import type { GenderPreference, PropertyType } from '@/types/domain';
 
 export const fetchProperties = async (page = 0, size = 10) => {
@@ -53,6 +53,11 @@ export const fetchAmenities = async () => {
 };
 
 // Owner endpoints
+export const fetchOwnerDashboard = async () => {
+  const res = await api.get('/owner/dashboard');
+  return unwrap<OwnerDashboard>(res);
+};
+
 export const fetchOwnerProperties = async (page = 0, size = 10) => {
   const res = await api.get('/owner/properties', { params: { page, size } });
   return unwrap<PagedResponse<Property>>(res);
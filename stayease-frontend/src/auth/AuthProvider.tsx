@@ -1,7 +1,7 @@
 import { createContext, useContext, useEffect, useMemo, useState } from 'react';
 import { authStore } from './auth-store';
 import type { JwtResponse, User } from '@/types/api';
-import { getCurrentUser } from '@/api/auth';
+import { getCurrentUser, logoutSession } from '@/api/auth';
 
 type AuthContextValue = {
   user: User | null;
@@ -47,12 +47,17 @@ export const AuthProvider = ({ children }: { children: React.ReactNode }) => {
   }, []);
 
   const login = (payload: JwtResponse) => {
-    authStore.setSession({ token: payload.accessToken, user: payload.user });
+    authStore.setSession({ token: payload.accessToken, refreshToken: payload.refreshToken, user: payload.user });
     setToken(payload.accessToken);
     setUser(payload.user);
   };
 
   const logout = () => {
+    const refreshToken = authStore.getRefreshToken();
+    if (refreshToken) {
+      // Best effort: the local session is cleared either way
+      logoutSession(refreshToken).catch(() => undefined);
+    }
     authStore.clear();
     setToken(null);
     setUser(null);
@@ -63,7 +68,7 @@ export const AuthProvider = ({ children }: { children: React.ReactNode }) => {
     setLoading(true);
     try {
       const profile = await getCurrentUser();
-      authStore.setSession({ token, user: profile });
+      authStore.setSession({ token: authStore.getToken(), refreshToken: authStore.getRefreshToken(), user: profile });
       setUser(profile);
     } catch (error) {
       // fail silently; interceptor will handle unauthorized
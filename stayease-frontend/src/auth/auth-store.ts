@@ -2,6 +2,7 @@ import type { User } from '@/types/api';
 
 type Session = {
   token: string | null;
+  refreshToken?: string | null;
   user: User | null;
 };
 
@@ -36,12 +37,18 @@ export const authStore = {
       } catch {
         // ignore bad payloads
       }
+    } else {
+      // Logged out, possibly in another tab
+      session = { token: null, refreshToken: null, user: null };
     }
     return session;
   },
   getToken() {
     return session.token;
   },
+  getRefreshToken() {
+    return session.refreshToken ?? null;
+  },
   getUser() {
     return session.user;
   },
@@ -51,7 +58,7 @@ export const authStore = {
     subscribers.forEach((fn) => fn());
   },
   clear() {
-    session = { token: null, user: null };
+    session = { token: null, refreshToken: null, user: null };
     persist();
     subscribers.forEach((fn) => fn());
   },
@@ -66,3 +73,13 @@ export const authStore = {
     unauthorizedHandler?.();
   },
 };
+
+// Other tabs rotate the refresh token and log out too; pick up their session so this tab
+// never presents a token that has already been used
+if (typeof window !== 'undefined') {
+  window.addEventListener('storage', (event) => {
+    if (event.key !== null && event.key !== STORAGE_KEY) return;
+    authStore.load();
+    subscribers.forEach((fn) => fn());
+  });
+}
@@ -1,16 +1,21 @@
 import { useQuery } from '@tanstack/react-query';
 import { Activity, BedDouble, Home, Users } from 'lucide-react';
 import { fetchOwnerBookings } from '@/api/bookings';
-import { fetchOwnerProperties } from '@/api/properties';
+import { fetchOwnerDashboard, fetchOwnerProperties } from '@/api/properties';
 import { StatCard } from '@/components/StatCard';
 import { Card } from '@/components/ui/Card';
 import { StatusPill } from '@/components/StatusPill';
 import { formatCurrency, formatDate } from '@/utils/format';
 
 const OwnerDashboardPage = () => {
+  const dashboardQuery = useQuery({
+    queryKey: ['owner-dashboard'],
+    queryFn: fetchOwnerDashboard,
+  });
+
   const propertiesQuery = useQuery({
-    queryKey: ['owner-properties', { page: 0, size: 50 }],
-    queryFn: () => fetchOwnerProperties(0, 50),
+    queryKey: ['owner-properties', { page: 0, size: 4 }],
+    queryFn: () => fetchOwnerProperties(0, 4),
   });
 
   const bookingsQuery = useQuery({
@@ -18,11 +23,12 @@ const OwnerDashboardPage = () => {
     queryFn: () => fetchOwnerBookings({ page: 0, size: 20 }),
   });
 
-  const totalProperties = propertiesQuery.data?.totalElements || 0;
-  const totalBeds = propertiesQuery.data?.content.reduce((acc, p) => acc + (p.totalBeds || 0), 0) || 0;
-  const availableBeds = propertiesQuery.data?.content.reduce((acc, p) => acc + (p.availableBeds || 0), 0) || 0;
-  const openBookings =
-    bookingsQuery.data?.content.filter((b) => b.status === 'PENDING' || b.status === 'CONFIRMED').length || 0;
+  const dashboard = dashboardQuery.data;
+  const totalProperties = dashboard?.totalProperties || 0;
+  const totalBeds = dashboard?.totalBeds || 0;
+  const availableBeds = dashboard?.bedsByStatus.AVAILABLE || 0;
+  const openBookings = (dashboard?.bookingsByStatus.PENDING || 0) + (dashboard?.bookingsByStatus.CONFIRMED || 0);
+  const newInquiries = dashboard?.inquiriesByStatus.NEW || 0;
 
   return (
     <div className="space-y-6">
@@ -42,7 +48,13 @@ const OwnerDashboardPage = () => {
           icon={Activity}
           accent="orange"
         />
-        <StatCard title="Tenants pipeline" value={bookingsQuery.data?.totalElements || 0} icon={Users} accent="blue" />
+        <StatCard
+          title="Occupancy"
+          value={`${dashboard?.occupancyRate ?? 0}%`}
+          hint={`${formatCurrency(Number(dashboard?.monthlyRevenue || 0))}/month · ${newInquiries} new inquiries`}
+          icon={Users}
+          accent="blue"
+        />
       </div>
 
       <div className="grid gap-4 lg:grid-cols-2">
@@ -2,6 +2,7 @@ import type {
   BedStatus,
   BookingStatus,
   GenderPreference,
+  InquiryStatus,
   PropertyType,
   Role,
   RoomType,
@@ -28,6 +29,8 @@ export type JwtResponse = {
   accessToken: string;
   tokenType: string;
   expiresIn: number;
+  refreshToken: string;
+  refreshExpiresIn: number;
   user: User;
 };
 
@@ -134,6 +137,18 @@ export type Booking = {
   createdAt?: string;
 };
 
+export type OwnerDashboard = {
+  totalProperties: number;
+  totalBeds: number;
+  bedsByStatus: Record<BedStatus, number>;
+  occupancyRate: number;
+  bookingsByStatus: Record<BookingStatus, number>;
+  monthlyRevenue: number;
+  committedMonthlyRevenue: number;
+  inquiriesByStatus: Record<InquiryStatus, number>;
+  generatedAt: string;
+};
+
 export type LoginRequest = {
   email: string;
   password: string;